@@ -1,15 +1,27 @@
 package com.prgms.allen.dining;
 
+import java.util.Map;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class DiningApplication {
 
+	// 서비스가 다 채운 DTO 만 돌려주므로 영속성 컨텍스트와 커넥션을 뷰 렌더링까지 열어 둘 필요가 없다.
+	private static final Map<String, Object> DEFAULT_PROPERTIES = Map.of(
+		"spring.jpa.open-in-view", false,
+		"management.metrics.distribution.percentiles-histogram.hikaricp.connections.usage", true
+	);
+
 	public static void main(String[] args) {
-		SpringApplication.run(DiningApplication.class, args);
+		SpringApplication application = new SpringApplication(DiningApplication.class);
+		application.setDefaultProperties(DEFAULT_PROPERTIES);
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,35 @@
+package com.prgms.allen.dining.api.admin.restaurant;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prgms.allen.dining.domain.restaurant.bulk.RestaurantBulkImportService;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportRes;
+
+@RestController
+@RequestMapping("/admin/api/restaurants")
+public class AdminRestaurantApi {
+
+	private static final String NDJSON_VALUE = "application/x-ndjson";
+
+	private final RestaurantBulkImportService restaurantBulkImportService;
+
+	public AdminRestaurantApi(RestaurantBulkImportService restaurantBulkImportService) {
+		this.restaurantBulkImportService = restaurantBulkImportService;
+	}
+
+	@PostMapping(path = "/bulk", consumes = "text/csv")
+	public ResponseEntity<RestaurantImportRes> importCsv(InputStream inputStream) throws IOException {
+		return ResponseEntity.ok(restaurantBulkImportService.importCsv(inputStream));
+	}
+
+	@PostMapping(path = "/bulk", consumes = NDJSON_VALUE)
+	public ResponseEntity<RestaurantImportRes> importNdjson(InputStream inputStream) throws IOException {
+		return ResponseEntity.ok(restaurantBulkImportService.importNdjson(inputStream));
+	}
+}
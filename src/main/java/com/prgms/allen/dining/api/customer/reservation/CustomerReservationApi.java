@@ -1,5 +1,7 @@
 package com.prgms.allen.dining.api.customer.reservation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 
 import javax.validation.Valid;
@@ -7,48 +9,75 @@ import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableMatrixReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableMatrixRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableStreamReq;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableTimesReq;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableTimesRes;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationCreateReq;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationDetailResForCustomer;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldConfirmReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldCreateReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationModifyReq;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForCustomer;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationStatusUpdateReq;
 import com.prgms.allen.dining.domain.reservation.entity.VisitStatus;
+import com.prgms.allen.dining.domain.reservation.idempotency.IdempotencyKeyStore;
+import com.prgms.allen.dining.domain.reservation.live.AvailabilityBroadcaster;
+import com.prgms.allen.dining.domain.reservation.live.AvailabilitySubscriber;
 import com.prgms.allen.dining.domain.reservation.service.ReservationFindService;
 import com.prgms.allen.dining.domain.reservation.service.ReservationService;
 import com.prgms.allen.dining.domain.reservation.service.ReservationStatusUpdateService;
 import com.prgms.allen.dining.domain.restaurant.dto.ReservationAvailableDatesRes;
+import com.prgms.allen.dining.global.datasource.ReadYourWrites;
+import com.prgms.allen.dining.global.sql.QueryBudget;
 import com.prgms.allen.dining.security.jwt.JwtAuthenticationPrincipal;
 
 @RestController
 @RequestMapping("/customer/api/reservations")
 public class CustomerReservationApi {
 
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	private static final String REMAINING_CAPACITY_EVENT_NAME = "remaining-capacity";
+	private static final long AVAILABILITY_STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
 	private final ReservationService reservationService;
 	private final ReservationFindService reservationFindService;
 	private final ReservationStatusUpdateService statusUpdateService;
+	private final IdempotencyKeyStore idempotencyKeyStore;
+	private final AvailabilityBroadcaster availabilityBroadcaster;
 
 	public CustomerReservationApi(
 		ReservationService reservationService,
 		ReservationFindService reservationFindService,
-		@Qualifier("customerReservationStatusUpdateService") ReservationStatusUpdateService statusUpdateService
+		@Qualifier("customerReservationStatusUpdateService") ReservationStatusUpdateService statusUpdateService,
+		IdempotencyKeyStore idempotencyKeyStore,
+		AvailabilityBroadcaster availabilityBroadcaster
 	) {
 		this.reservationService = reservationService;
 		this.reservationFindService = reservationFindService;
 		this.statusUpdateService = statusUpdateService;
+		this.idempotencyKeyStore = idempotencyKeyStore;
+		this.availabilityBroadcaster = availabilityBroadcaster;
 	}
 
 	@GetMapping
@@ -64,6 +93,7 @@ public class CustomerReservationApi {
 		));
 	}
 
+	@QueryBudget(3)
 	@GetMapping("/{reservationId}")
 	public ResponseEntity<ReservationDetailResForCustomer> getReservationDetail(
 		@PathVariable Long reservationId,
@@ -75,12 +105,53 @@ public class CustomerReservationApi {
 		));
 	}
 
+	@ReadYourWrites
 	@PostMapping
 	public ResponseEntity<Void> reserve(
 		@AuthenticationPrincipal JwtAuthenticationPrincipal principal,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
 		@RequestBody @Valid ReservationCreateReq createRequest
 	) {
-		final Long reservationId = reservationService.reserve(principal.memberId(), createRequest);
+		final Long reservationId = idempotencyKey == null
+			? reservationService.reserve(principal.memberId(), createRequest)
+			: idempotencyKeyStore.execute(
+			principal.memberId(),
+			idempotencyKey,
+			createRequest,
+			() -> reservationService.reserve(principal.memberId(), createRequest)
+		);
+
+		final URI location = UriComponentsBuilder.fromPath("/customer/api/me/reservations/{reservationId}")
+			.buildAndExpand(reservationId)
+			.toUri();
+
+		return ResponseEntity.created(location)
+			.build();
+	}
+
+	@PostMapping("/holds")
+	public ResponseEntity<ReservationHoldRes> hold(
+		@AuthenticationPrincipal JwtAuthenticationPrincipal principal,
+		@RequestBody @Valid ReservationHoldCreateReq holdCreateReq
+	) {
+		final ReservationHoldRes holdRes = reservationService.hold(principal.memberId(), holdCreateReq);
+
+		final URI location = UriComponentsBuilder.fromPath("/customer/api/reservations/holds/{holdId}")
+			.buildAndExpand(holdRes.holdId())
+			.toUri();
+
+		return ResponseEntity.created(location)
+			.body(holdRes);
+	}
+
+	@ReadYourWrites
+	@PostMapping("/holds/{holdId}/confirm")
+	public ResponseEntity<Void> confirmHold(
+		@PathVariable Long holdId,
+		@AuthenticationPrincipal JwtAuthenticationPrincipal principal,
+		@RequestBody @Valid ReservationHoldConfirmReq confirmReq
+	) {
+		final Long reservationId = reservationService.confirmHold(principal.memberId(), holdId, confirmReq);
 
 		final URI location = UriComponentsBuilder.fromPath("/customer/api/me/reservations/{reservationId}")
 			.buildAndExpand(reservationId)
@@ -90,6 +161,17 @@ public class CustomerReservationApi {
 			.build();
 	}
 
+	@DeleteMapping("/holds/{holdId}")
+	public ResponseEntity<Void> releaseHold(
+		@PathVariable Long holdId,
+		@AuthenticationPrincipal JwtAuthenticationPrincipal principal
+	) {
+		reservationService.releaseHold(principal.memberId(), holdId);
+		return ResponseEntity.noContent()
+			.build();
+	}
+
+	@QueryBudget(5)
 	@GetMapping("/available-times")
 	public ResponseEntity<ReservationAvailableTimesRes> getAvailableTimes(
 		@ModelAttribute @Valid ReservationAvailableTimesReq availableTimesReq
@@ -100,6 +182,39 @@ public class CustomerReservationApi {
 			.body(availableTimes);
 	}
 
+	@GetMapping(value = "/available-times/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamAvailableTimes(@ModelAttribute @Valid ReservationAvailableStreamReq availableStreamReq) {
+		final SseEmitter emitter = new SseEmitter(AVAILABILITY_STREAM_TIMEOUT_MILLIS);
+
+		final AvailabilitySubscriber subscriber = availabilityBroadcaster.subscribe(
+			availableStreamReq.restaurantId(),
+			availableStreamReq.date(),
+			delta -> {
+				try {
+					emitter.send(SseEmitter.event()
+						.name(REMAINING_CAPACITY_EVENT_NAME)
+						.data(delta));
+				} catch (IOException e) {
+					emitter.completeWithError(e);
+					throw new UncheckedIOException(e);
+				}
+			}
+		);
+		emitter.onCompletion(subscriber::close);
+		emitter.onTimeout(subscriber::close);
+		emitter.onError(e -> subscriber.close());
+
+		return emitter;
+	}
+
+	@GetMapping("/available-matrix")
+	public ResponseEntity<ReservationAvailableMatrixRes> getAvailableMatrix(
+		@ModelAttribute @Valid ReservationAvailableMatrixReq availableMatrixReq
+	) {
+		return ResponseEntity.ok(reservationService.getAvailableMatrix(availableMatrixReq));
+	}
+
+	@ReadYourWrites
 	@PatchMapping("/{reservationId}")
 	public ResponseEntity<Void> cancel(
 		@PathVariable Long reservationId,
@@ -111,6 +226,19 @@ public class CustomerReservationApi {
 			.build();
 	}
 
+	@ReadYourWrites
+	@PutMapping("/{reservationId}/schedule")
+	public ResponseEntity<Void> modify(
+		@PathVariable Long reservationId,
+		@AuthenticationPrincipal JwtAuthenticationPrincipal principal,
+		@Valid @RequestBody ReservationModifyReq modifyReq
+	) {
+		reservationService.modify(principal.memberId(), reservationId, modifyReq);
+		return ResponseEntity.ok()
+			.build();
+	}
+
+	@QueryBudget(5)
 	@GetMapping("/available-dates")
 	public ResponseEntity<ReservationAvailableDatesRes> getAvailableDates(@RequestParam Long restaurantId) {
 		ReservationAvailableDatesRes reservationAvailableDatesRes = reservationService.getAvailableDates(
@@ -1,27 +1,62 @@
 package com.prgms.allen.dining.api.customer.restaurant;
 
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.prgms.allen.dining.domain.reservation.availability.AvailableRestaurantSearchService;
+import com.prgms.allen.dining.domain.reservation.dto.AvailableRestaurantSearchReq;
+import com.prgms.allen.dining.domain.restaurant.RestaurantDetailJson;
+import com.prgms.allen.dining.domain.restaurant.RestaurantDetailJsonCache;
 import com.prgms.allen.dining.domain.restaurant.RestaurantService;
+import com.prgms.allen.dining.domain.restaurant.RestaurantVersionCache;
 import com.prgms.allen.dining.domain.restaurant.dto.MenuDetailRes;
-import com.prgms.allen.dining.domain.restaurant.dto.RestaurantDetailResForCustomer;
 import com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleRes;
 
 @RestController
 @RequestMapping("/customer/api/restaurants")
 public class CustomerRestaurantApi {
 
+	private static final String GZIP_ENCODING = "gzip";
+
 	private final RestaurantService restaurantService;
+	private final AvailableRestaurantSearchService availableRestaurantSearchService;
+	private final RestaurantVersionCache restaurantVersionCache;
+	private final RestaurantDetailJsonCache restaurantDetailJsonCache;
+	private final CacheControl detailCacheControl;
+	private final CacheControl menuCacheControl;
 
-	public CustomerRestaurantApi(RestaurantService restaurantService) {
+	public CustomerRestaurantApi(
+		RestaurantService restaurantService,
+		AvailableRestaurantSearchService availableRestaurantSearchService,
+		RestaurantVersionCache restaurantVersionCache,
+		RestaurantDetailJsonCache restaurantDetailJsonCache,
+		@Value("${http-cache.restaurant-detail.max-age-seconds:0}") long detailMaxAgeSeconds,
+		@Value("${http-cache.restaurant-menu.max-age-seconds:0}") long menuMaxAgeSeconds
+	) {
 		this.restaurantService = restaurantService;
+		this.availableRestaurantSearchService = availableRestaurantSearchService;
+		this.restaurantVersionCache = restaurantVersionCache;
+		this.restaurantDetailJsonCache = restaurantDetailJsonCache;
+		this.detailCacheControl = toCacheControl(detailMaxAgeSeconds);
+		this.menuCacheControl = toCacheControl(menuMaxAgeSeconds);
 	}
 
 	@GetMapping
@@ -41,18 +76,110 @@ public class CustomerRestaurantApi {
 		return ResponseEntity.ok(restaurants);
 	}
 
+	@GetMapping("/available")
+	public ResponseEntity<Page<RestaurantSimpleRes>> getAvailableRestaurants(
+		@ModelAttribute @Valid AvailableRestaurantSearchReq searchReq,
+		Pageable pageable
+	) {
+		return ResponseEntity.ok(availableRestaurantSearchService.search(searchReq, pageable));
+	}
+
 	@GetMapping("/{restaurantId}")
-	public ResponseEntity<RestaurantDetailResForCustomer> getOne(@PathVariable Long restaurantId) {
-		RestaurantDetailResForCustomer restaurantDetailResForCustomer = restaurantService.getRestaurant(restaurantId);
-		return ResponseEntity.ok(restaurantDetailResForCustomer);
+	public ResponseEntity<byte[]> getOne(
+		@PathVariable Long restaurantId,
+		WebRequest webRequest
+	) {
+		long version = restaurantVersionCache.getVersion(restaurantId);
+		boolean gzip = restaurantDetailJsonCache.isGzipEnabled() && acceptsGzip(webRequest);
+		String eTag = toETag(restaurantId, version, gzip ? "-gzip" : "");
+		if (webRequest.checkNotModified(eTag)) {
+			return notModified(eTag, detailCacheControl);
+		}
+
+		RestaurantDetailJson restaurantDetailJson = restaurantDetailJsonCache.get(restaurantId, version);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.eTag(toETag(restaurantId, restaurantDetailJson.version(), gzip ? "-gzip" : ""))
+			.cacheControl(detailCacheControl)
+			.varyBy(HttpHeaders.ACCEPT_ENCODING)
+			.contentType(MediaType.APPLICATION_JSON);
+
+		if (gzip) {
+			return response.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+				.body(restaurantDetailJson.gzippedJson());
+		}
+		return response.body(restaurantDetailJson.json());
 	}
 
 	@GetMapping("/{restaurantId}/menu")
 	public ResponseEntity<Page<MenuDetailRes>> getMenu(Pageable pageable,
-		@PathVariable Long restaurantId) {
+		@PathVariable Long restaurantId, WebRequest webRequest) {
+
+		String eTag = toETag(restaurantId, restaurantVersionCache.getVersion(restaurantId), "");
+		if (webRequest.checkNotModified(eTag)) {
+			return notModified(eTag, menuCacheControl);
+		}
 
 		Page<MenuDetailRes> menus = restaurantService.getMenus(pageable, restaurantId);
 
-		return ResponseEntity.ok(menus);
+		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(menuCacheControl)
+			.body(menus);
+	}
+
+	// 압축 여부에 따라 본문이 달라지므로 강한 ETag 도 표현마다 따로 둔다.
+	private static String toETag(Long restaurantId, long version, String suffix) {
+		return "\"" + restaurantId + "-" + version + suffix + "\"";
+	}
+
+	// gzip 을 직접 적은 항목이 * 보다 우선하고, q=0 이면 받지 않겠다는 뜻이다.
+	private static boolean acceptsGzip(WebRequest webRequest) {
+		String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		if (!StringUtils.hasText(acceptEncoding)) {
+			return false;
+		}
+
+		Double gzipQuality = null;
+		Double wildcardQuality = null;
+		for (String coding : StringUtils.commaDelimitedListToStringArray(acceptEncoding)) {
+			String[] parts = coding.split(";");
+			String name = parts[0].trim();
+			if (GZIP_ENCODING.equalsIgnoreCase(name)) {
+				gzipQuality = qualityOf(parts);
+			} else if ("*".equals(name)) {
+				wildcardQuality = qualityOf(parts);
+			}
+		}
+
+		Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+		return quality != null && quality > 0;
+	}
+
+	private static double qualityOf(String[] codingParts) {
+		for (int i = 1; i < codingParts.length; i++) {
+			String parameter = codingParts[i].trim();
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2));
+				} catch (NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 1;
+	}
+
+	private <T> ResponseEntity<T> notModified(String eTag, CacheControl cacheControl) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+			.eTag(eTag)
+			.cacheControl(cacheControl)
+			.build();
+	}
+
+	private static CacheControl toCacheControl(long maxAgeSeconds) {
+		if (maxAgeSeconds <= 0) {
+			return CacheControl.noCache();
+		}
+		return CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS);
 	}
 }
\ No newline at end of file
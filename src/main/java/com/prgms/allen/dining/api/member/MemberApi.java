@@ -13,6 +13,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import com.prgms.allen.dining.domain.member.MemberService;
 import com.prgms.allen.dining.domain.member.dto.MemberSignupReq;
+import com.prgms.allen.dining.global.datasource.ReadYourWrites;
 
 @RestController
 @RequestMapping("/api/members")
@@ -24,6 +25,7 @@ public class MemberApi {
 		this.memberService = memberService;
 	}
 
+	@ReadYourWrites
 	@PostMapping("/signup")
 	public ResponseEntity<Void> signup(
 		@Valid @RequestBody MemberSignupReq memberSignupReq
@@ -1,59 +1,157 @@
 package com.prgms.allen.dining.api.owner.reservation;
 
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.Assert;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.prgms.allen.dining.domain.common.NotFoundResourceException;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAnalyticsReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAnalyticsRes;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationDetailResForOwner;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationExportReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationFeedRes;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForOwner;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationStatusUpdateReq;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.reservation.feed.OwnerReservationFeed;
+import com.prgms.allen.dining.domain.reservation.rollup.ReservationAnalyticsService;
+import com.prgms.allen.dining.domain.reservation.service.ReservationExportService;
 import com.prgms.allen.dining.domain.reservation.service.ReservationFindService;
 import com.prgms.allen.dining.domain.reservation.service.ReservationStatusUpdateService;
+import com.prgms.allen.dining.domain.restaurant.RestaurantService;
+import com.prgms.allen.dining.global.datasource.ReadYourWrites;
+import com.prgms.allen.dining.global.sql.QueryBudget;
 import com.prgms.allen.dining.security.jwt.JwtAuthenticationPrincipal;
 
 @RestController
 @RequestMapping("/owner/api/reservations")
 public class OwnerReservationApi {
 
+	private static final long FEED_TIMEOUT_MILLIS = 30 * 1000L;
+	private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
 	private final ReservationFindService reservationFindService;
 	private final ReservationStatusUpdateService statusUpdateService;
+	private final OwnerReservationFeed ownerReservationFeed;
+	private final ReservationExportService reservationExportService;
+	private final ReservationAnalyticsService reservationAnalyticsService;
+	private final RestaurantService restaurantService;
 
 	public OwnerReservationApi(
 		ReservationFindService reservationFindService,
-		@Qualifier("ownerReservationStatusUpdateService") ReservationStatusUpdateService statusUpdateService
+		@Qualifier("ownerReservationStatusUpdateService") ReservationStatusUpdateService statusUpdateService,
+		OwnerReservationFeed ownerReservationFeed,
+		ReservationExportService reservationExportService,
+		ReservationAnalyticsService reservationAnalyticsService,
+		RestaurantService restaurantService
 	) {
 		this.reservationFindService = reservationFindService;
 		this.statusUpdateService = statusUpdateService;
+		this.ownerReservationFeed = ownerReservationFeed;
+		this.reservationExportService = reservationExportService;
+		this.reservationAnalyticsService = reservationAnalyticsService;
+		this.restaurantService = restaurantService;
 	}
 
-	@PreAuthorize("hasRole('OWNER') or isAnonymous()")
+	@PreAuthorize("hasRole('OWNER')")
+	@QueryBudget(3)
 	@GetMapping
 	public ResponseEntity<Page<ReservationSimpleResForOwner>> getOwnerReservations(
 		@RequestParam ReservationStatus reservationStatus,
-		@RequestParam Long restaurantId,
+		@RequestParam(required = false) Long restaurantId,
+		@AuthenticationPrincipal JwtAuthenticationPrincipal principal,
 		Pageable pageable
 	) {
 		return ResponseEntity.ok(reservationFindService.getReservations(
-			restaurantId,
+			resolveRestaurantId(principal, restaurantId),
 			reservationStatus,
 			pageable
 		));
 	}
 
-	@PreAuthorize("hasRole('OWNER') or isAnonymous()")
+	@PreAuthorize("hasRole('OWNER')")
+	@GetMapping("/feed")
+	public DeferredResult<ResponseEntity<ReservationFeedRes>> getReservationFeed(
+		@RequestParam(defaultValue = "0") long since,
+		@RequestParam(required = false) Long restaurantId,
+		@AuthenticationPrincipal JwtAuthenticationPrincipal principal
+	) {
+		final Long ownerRestaurantId = resolveRestaurantId(principal, restaurantId);
+		final DeferredResult<ResponseEntity<ReservationFeedRes>> deferredResult = new DeferredResult<>(
+			FEED_TIMEOUT_MILLIS
+		);
+
+		final Runnable cancel = ownerReservationFeed.await(
+			ownerRestaurantId,
+			since,
+			feedRes -> deferredResult.setResult(ResponseEntity.ok(feedRes))
+		);
+		deferredResult.onTimeout(() -> {
+			cancel.run();
+			deferredResult.setResult(ResponseEntity.ok(ownerReservationFeed.poll(ownerRestaurantId, since)));
+		});
+		deferredResult.onCompletion(cancel);
+
+		return deferredResult;
+	}
+
+	@PreAuthorize("hasRole('OWNER')")
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportReservations(
+		@ModelAttribute @Valid ReservationExportReq exportReq,
+		@RequestParam(required = false) Long restaurantId,
+		@AuthenticationPrincipal JwtAuthenticationPrincipal principal
+	) {
+		final Long ownerRestaurantId = resolveRestaurantId(principal, restaurantId);
+		final String fileName = MessageFormat.format("reservations-{0}-{1}-{2}.csv",
+			String.valueOf(ownerRestaurantId), exportReq.startDate(), exportReq.endDate());
+
+		return ResponseEntity.ok()
+			.contentType(TEXT_CSV)
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename(fileName)
+				.build()
+				.toString())
+			.body(outputStream -> reservationExportService.exportCsv(ownerRestaurantId, exportReq, outputStream));
+	}
+
+	@PreAuthorize("hasRole('OWNER')")
+	@GetMapping("/analytics")
+	public ResponseEntity<ReservationAnalyticsRes> getReservationAnalytics(
+		@ModelAttribute @Valid ReservationAnalyticsReq analyticsReq,
+		@RequestParam(required = false) Long restaurantId,
+		@AuthenticationPrincipal JwtAuthenticationPrincipal principal
+	) {
+		return ResponseEntity.ok(reservationAnalyticsService.getAnalytics(
+			resolveRestaurantId(principal, restaurantId),
+			analyticsReq
+		));
+	}
+
+	@PreAuthorize("hasRole('OWNER')")
+	@QueryBudget(3)
 	@GetMapping("/{reservationId}")
 	public ResponseEntity<ReservationDetailResForOwner> getReservationDetail(
 		@PathVariable Long reservationId
@@ -64,6 +162,7 @@ public class OwnerReservationApi {
 	}
 
 	@PreAuthorize("hasRole('OWNER')")
+	@ReadYourWrites
 	@PatchMapping("/{reservationId}")
 	public ResponseEntity<Void> updateStatus(
 		@PathVariable Long reservationId,
@@ -74,4 +173,21 @@ public class OwnerReservationApi {
 		return ResponseEntity.ok()
 			.build();
 	}
+
+	// 요청의 restaurantId 는 확인용일 뿐이고, 조회할 식당은 항상 점주 본인의 식당으로 정한다.
+	// 식당을 등록하기 전에 로그인해 토큰에 식당이 없으면 점주 아이디로 식당을 찾는다.
+	private Long resolveRestaurantId(JwtAuthenticationPrincipal principal, Long restaurantId) {
+		final Long ownerRestaurantId = principal.hasRestaurant()
+			? principal.restaurantId()
+			: restaurantService.findIdByOwnerId(principal.memberId())
+			.orElseThrow(() -> new NotFoundResourceException(MessageFormat.format(
+				"Cannot find Restaurant entity for owner id = {0}", principal.memberId()
+			)));
+
+		Assert.isTrue(
+			restaurantId == null || ownerRestaurantId.equals(restaurantId),
+			MessageFormat.format("Restaurant id {0} does not belong to the owner", restaurantId)
+		);
+		return ownerRestaurantId;
+	}
 }
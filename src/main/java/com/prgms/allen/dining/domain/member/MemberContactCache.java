@@ -0,0 +1,34 @@
+package com.prgms.allen.dining.domain.member;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.prgms.allen.dining.domain.member.dto.MemberContact;
+
+@Component
+public class MemberContactCache {
+
+	private final Map<Long, MemberContact> contacts;
+
+	public MemberContactCache(@Value("${member.contact-cache.max-size:1000}") int maxSize) {
+		this.contacts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, MemberContact> eldest) {
+				return size() > maxSize;
+			}
+		});
+	}
+
+	public Optional<MemberContact> get(Long memberId) {
+		return Optional.ofNullable(contacts.get(memberId));
+	}
+
+	public void put(Long memberId, MemberContact contact) {
+		contacts.put(memberId, contact);
+	}
+}
@@ -0,0 +1,77 @@
+package com.prgms.allen.dining.domain.member;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.global.shard.ShardOperations;
+
+// 가입 직후 복제가 일부 샤드에서 실패하면 그 샤드의 식당과 예약이 회원 외래 키에 걸리므로,
+// 0번 샤드의 회원을 아이디 순으로 훑어 다른 샤드에 빠진 회원만 다시 넣는다.
+@Component
+@ConditionalOnProperty(prefix = "spring.datasource.shards[0]", name = "url")
+public class MemberReplicaReconciler {
+
+	private static final Logger log = LoggerFactory.getLogger(MemberReplicaReconciler.class);
+
+	private final MemberRepository memberRepository;
+	private final ShardOperations shardOperations;
+	private final int batchSize;
+
+	public MemberReplicaReconciler(
+		MemberRepository memberRepository,
+		ShardOperations shardOperations,
+		@Value("${member.replica.reconcile-batch-size:500}") int batchSize
+	) {
+		Assert.isTrue(batchSize > 0, "batchSize must be positive.");
+
+		this.memberRepository = memberRepository;
+		this.shardOperations = shardOperations;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(fixedDelayString = "${member.replica.reconcile-interval-millis:600000}")
+	public void reconcile() {
+		AtomicInteger copiedCount = new AtomicInteger();
+		long lastMemberId = 0L;
+		try {
+			List<Member> members;
+			while (!(members = memberRepository.findAllByIdGreaterThanOrderByIdAsc(
+				lastMemberId,
+				PageRequest.of(0, batchSize)
+			)).isEmpty()) {
+				copyMissing(members, copiedCount);
+				lastMemberId = members.get(members.size() - 1).getId();
+			}
+		} catch (RuntimeException e) {
+			log.warn("Failed to reconcile member replicas after member id {}. Retrying on the next run.", lastMemberId, e);
+		}
+
+		if (copiedCount.get() > 0) {
+			log.info("Member replicas reconciled: {} missing rows copied", copiedCount.get());
+		}
+	}
+
+	private void copyMissing(List<Member> members, AtomicInteger copiedCount) {
+		List<Long> memberIds = members.stream()
+			.map(Member::getId)
+			.toList();
+		shardOperations.runOnReplicaShards(() -> {
+			Set<Long> replicatedIds = new HashSet<>(memberRepository.findIdsByIdIn(memberIds));
+			members.stream()
+				.filter(member -> !replicatedIds.contains(member.getId()))
+				.forEach(member -> copiedCount.addAndGet(memberRepository.insertReplica(member)));
+		});
+	}
+}
@@ -1,8 +1,14 @@
 package com.prgms.allen.dining.domain.member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
@@ -12,4 +18,21 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 	Optional<Member> findByIdAndMemberType(Long id, MemberType memberType);
 
 	Optional<Member> findByNickname(String nickname);
+
+	List<Member> findAllByNicknameInAndMemberType(Collection<String> nicknames, MemberType memberType);
+
+	List<Member> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	@Query("select m.id from Member m where m.id in :ids")
+	List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+	// 다른 샤드의 식당과 예약이 회원을 외래 키로 참조하므로, 0번 샤드에서 발급한 아이디 그대로 넣는다.
+	// 가입 직후 복제와 보정 작업이 같은 회원을 넣을 수 있으므로 이미 있으면 넣지 않는다.
+	@Modifying
+	@Query(nativeQuery = true, value = "insert into member "
+		+ " (member_id, member_type, name, nickname, password, phone) "
+		+ " select :#{#member.id}, :#{#member.memberType.name()}, :#{#member.name}, "
+		+ " :#{#member.nickname}, :#{#member.password}, :#{#member.phone} from dual "
+		+ " where not exists (select 1 from member where member_id = :#{#member.id})")
+	int insertReplica(@Param("member") Member member);
 }
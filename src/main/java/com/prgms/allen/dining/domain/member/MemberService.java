@@ -2,30 +2,76 @@ package com.prgms.allen.dining.domain.member;
 
 import java.text.MessageFormat;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
 
 import com.prgms.allen.dining.domain.common.NotFoundResourceException;
+import com.prgms.allen.dining.domain.member.dto.MemberContact;
 import com.prgms.allen.dining.domain.member.dto.MemberSignupReq;
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
+import com.prgms.allen.dining.global.shard.ShardOperations;
 
 @Service
 @Transactional(readOnly = true)
 public class MemberService {
 
+	private static final Logger log = LoggerFactory.getLogger(MemberService.class);
+
 	private final MemberRepository memberRepository;
+	private final MemberContactCache memberContactCache;
+	private final ShardOperations shardOperations;
 
-	public MemberService(MemberRepository memberRepository) {
+	public MemberService(
+		MemberRepository memberRepository,
+		MemberContactCache memberContactCache,
+		ShardOperations shardOperations
+	) {
 		this.memberRepository = memberRepository;
+		this.memberContactCache = memberContactCache;
+		this.shardOperations = shardOperations;
 	}
 
+	// 회원은 0번 샤드에 커밋한 뒤에 나머지 샤드로 복제한다. 샤드마다 트랜잭션이 따로라 일부 샤드에만 들어갈 수 있으므로,
+	// 복제가 실패해도 가입은 유지하고 빠진 샤드는 MemberReplicaReconciler 가 채운다.
+	// 운영자 계정은 가입으로 만들 수 없다.
 	@Transactional
 	public Long signup(MemberSignupReq signupReq) {
+		Assert.isTrue(signupReq.memberType() != MemberType.ADMIN, "Admin cannot sign up.");
+
 		Member savedMember = memberRepository.save(signupReq.toEntity());
+		replicateAfterCommit(savedMember);
 		return savedMember.getId();
 	}
 
+	private void replicateAfterCommit(Member member) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			replicate(member);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				replicate(member);
+			}
+		});
+	}
+
+	private void replicate(Member member) {
+		try {
+			shardOperations.runOnReplicaShards(() -> memberRepository.insertReplica(member));
+		} catch (RuntimeException e) {
+			log.warn("Failed to replicate member {} to every shard. It is left for reconciliation.", member.getId(), e);
+		}
+	}
+
+	// 가입 직후 식당을 등록할 수 있도록 복제 지연이 있는 replica 대신 primary 에서 읽는다.
+	@Transactional
 	public Member findOwnerById(Long ownerId) {
 		return memberRepository.findByIdAndMemberType(ownerId, MemberType.OWNER)
 			.orElseThrow(() -> new NotFoundResourceException(
@@ -40,6 +86,29 @@ public class MemberService {
 			));
 	}
 
+	// JWT 로 검증된 회원 식별자를 신뢰하므로 조회 쿼리 없이 프록시만 반환한다.
+	public Member getReferenceById(Long memberId) {
+		return memberRepository.getReferenceById(memberId);
+	}
+
+	public MemberContact getContact(Long memberId) {
+		return memberContactCache.get(memberId)
+			.orElseGet(() -> {
+				final MemberContact contact = new MemberContact(findById(memberId));
+				memberContactCache.put(memberId, contact);
+				return contact;
+			});
+	}
+
+	private Member findById(Long memberId) {
+		return memberRepository.findById(memberId)
+			.orElseThrow(() -> new NotFoundResourceException(
+				MessageFormat.format("Cannot find Member entity for member id = {0}", memberId)
+			));
+	}
+
+	// 로그인은 인터셉터보다 앞선 보안 필터에서 처리되어 read-your-writes 쿠키가 적용되지 않으므로 항상 primary 에서 읽는다.
+	@Transactional
 	public Member login(String nickname, String password) {
 		Member member = memberRepository.findByNickname(nickname)
 			.orElseThrow(() -> new NotFoundResourceException(
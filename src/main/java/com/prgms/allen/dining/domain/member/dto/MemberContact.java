@@ -0,0 +1,13 @@
+package com.prgms.allen.dining.domain.member.dto;
+
+import com.prgms.allen.dining.domain.member.entity.Member;
+
+public record MemberContact(
+	String name,
+	String phone
+) {
+
+	public MemberContact(Member member) {
+		this(member.getName(), member.getPhone());
+	}
+}
@@ -3,7 +3,8 @@ package com.prgms.allen.dining.domain.member.entity;
 public enum MemberType {
 
 	CUSTOMER("ROLE_CUSTOMER"),
-	OWNER("ROLE_OWNER");
+	OWNER("ROLE_OWNER"),
+	ADMIN("ROLE_ADMIN");
 
 	private final String value;
 
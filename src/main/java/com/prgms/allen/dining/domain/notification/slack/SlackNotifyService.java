@@ -12,12 +12,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.prgms.allen.dining.domain.member.MemberService;
+import com.prgms.allen.dining.domain.member.dto.MemberContact;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
 import com.prgms.allen.dining.domain.notification.NotificationFailedException;
 import com.prgms.allen.dining.domain.notification.slack.dto.HeaderMessage;
 import com.prgms.allen.dining.domain.notification.slack.dto.SlackNotificationMessageRes;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.global.jfr.SlackNotifyEvent;
 import com.slack.api.Slack;
 import com.slack.api.methods.SlackApiException;
 import com.slack.api.methods.request.chat.ChatPostMessageRequest;
@@ -36,15 +39,18 @@ public class SlackNotifyService {
 	private final String customerChannel;
 	private final String ownerChannel;
 	private final String token;
+	private final MemberService memberService;
 
 	public SlackNotifyService(
 		@Value(value = "${slack.token}") String token,
 		@Value(value = "${slack.channel.customer}") String customerChannel,
-		@Value(value = "${slack.channel.owner}") String ownerChannel
+		@Value(value = "${slack.channel.owner}") String ownerChannel,
+		MemberService memberService
 	) {
 		this.token = token;
 		this.customerChannel = customerChannel;
 		this.ownerChannel = ownerChannel;
+		this.memberService = memberService;
 	}
 
 	@Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -67,31 +73,53 @@ public class SlackNotifyService {
 		notifyAll(reservation, HeaderMessage.RESERVATION_CANCELED);
 	}
 
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void notifyModify(Reservation reservation) {
+		notifyAll(reservation, HeaderMessage.RESERVATION_MODIFIED);
+	}
+
 	private void notifyAll(Reservation reservation, HeaderMessage headerMessage) {
+		final MemberContact customerContact = memberService.getContact(reservation.getCustomerId());
+
 		notify(
-			new SlackNotificationMessageRes(reservation, headerMessage),
+			reservation.getRestaurantId(),
+			new SlackNotificationMessageRes(reservation, customerContact, headerMessage),
 			MemberType.OWNER
 		);
 		notify(
-			new SlackNotificationMessageRes(reservation, headerMessage),
+			reservation.getRestaurantId(),
+			new SlackNotificationMessageRes(reservation, customerContact, headerMessage),
 			MemberType.CUSTOMER
 		);
 	}
 
-	private void notify(SlackNotificationMessageRes slackNotificationMessageRes, MemberType memberType) {
+	private void notify(
+		long restaurantId,
+		SlackNotificationMessageRes slackNotificationMessageRes,
+		MemberType memberType
+	) {
 
 		final String channel = getChannelBy(memberType);
 
 		final ChatPostMessageRequest message = createMessage(slackNotificationMessageRes, channel);
 
+		final SlackNotifyEvent notifyEvent = new SlackNotifyEvent(
+			restaurantId,
+			slackNotificationMessageRes.headerMessage().name(),
+			memberType.name()
+		);
+		notifyEvent.begin();
 		try {
 			Slack.getInstance()
 				.methods(token)
 				.chatPostMessage(message);
+			notifyEvent.succeeded();
 		} catch (IOException | SlackApiException e) {
 			throw new NotificationFailedException(
 				MessageFormat.format("Failed to send slack message. [token]: {0}", token)
 			);
+		} finally {
+			notifyEvent.commit();
 		}
 	}
 
@@ -99,6 +127,9 @@ public class SlackNotifyService {
 		return switch (memberType) {
 			case OWNER -> ownerChannel;
 			case CUSTOMER -> customerChannel;
+			case ADMIN -> throw new IllegalStateException(
+				MessageFormat.format("Slack channel for member type {0} does not exist.", memberType)
+			);
 		};
 	}
 
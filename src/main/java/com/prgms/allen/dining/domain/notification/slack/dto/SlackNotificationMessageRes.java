@@ -2,6 +2,7 @@ package com.prgms.allen.dining.domain.notification.slack.dto;
 
 import java.time.LocalDateTime;
 
+import com.prgms.allen.dining.domain.member.dto.MemberContact;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 
 public record SlackNotificationMessageRes(
@@ -13,10 +14,14 @@ public record SlackNotificationMessageRes(
 	HeaderMessage headerMessage
 ) {
 
-	public SlackNotificationMessageRes(Reservation reservation, HeaderMessage headerMessage) {
+	public SlackNotificationMessageRes(
+		Reservation reservation,
+		MemberContact customerContact,
+		HeaderMessage headerMessage
+	) {
 		this(
-			reservation.getCustomerName(),
-			reservation.getCustomerPhone(),
+			customerContact.name(),
+			customerContact.phone(),
 			reservation.getVisitorCount(),
 			reservation.getVisitDateTime(),
 			reservation.getRestaurantName(),
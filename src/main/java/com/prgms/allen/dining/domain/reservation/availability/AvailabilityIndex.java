@@ -0,0 +1,172 @@
+package com.prgms.allen.dining.domain.reservation.availability;
+
+import static com.prgms.allen.dining.domain.reservation.policy.ReservationPolicy.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
+
+@Component
+public class AvailabilityIndex {
+
+	private static final int SLOTS_PER_DAY = (int)(LocalTime.MAX.toSecondOfDay() / UNIT_SECONDS) + 1;
+	private static final int INITIAL_RESTAURANT_CAPACITY = 1024;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, Integer> ordinals = new HashMap<>();
+
+	// 식당마다 순번(ordinal)을 매기고 속성을 배열로 펼쳐 두어, 검색은 배열을 순서대로 훑기만 한다.
+	private long[] restaurantIds = new long[INITIAL_RESTAURANT_CAPACITY];
+	private byte[] foodTypes = new byte[INITIAL_RESTAURANT_CAPACITY];
+	private int[] capacities = new int[INITIAL_RESTAURANT_CAPACITY];
+	private int[] openSeconds = new int[INITIAL_RESTAURANT_CAPACITY];
+	private int[] lastOrderSeconds = new int[INITIAL_RESTAURANT_CAPACITY];
+	private byte[] closingDayMasks = new byte[INITIAL_RESTAURANT_CAPACITY];
+	private int size;
+
+	// 날짜별 [시간대][식당 순번] 예약 인원. 예약이 한 건도 없는 시간대는 null 로 둔다.
+	private final Map<LocalDate, int[][]> bookedVisitorCounts = new HashMap<>();
+	private LocalDate lastEvictedDate = LocalDate.MIN;
+
+	public void register(
+		Long restaurantId,
+		FoodType foodType,
+		int capacity,
+		LocalTime openTime,
+		LocalTime lastOrderTime,
+		Collection<DayOfWeek> closingDays
+	) {
+		lock.writeLock().lock();
+		try {
+			int ordinal = ordinals.computeIfAbsent(restaurantId, id -> nextOrdinal());
+			restaurantIds[ordinal] = restaurantId;
+			foodTypes[ordinal] = (byte)foodType.ordinal();
+			capacities[ordinal] = capacity;
+			openSeconds[ordinal] = openTime.toSecondOfDay();
+			lastOrderSeconds[ordinal] = lastOrderTime.toSecondOfDay();
+			closingDayMasks[ordinal] = toClosingDayMask(closingDays);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void apply(Long restaurantId, LocalDate visitDate, LocalTime visitTime, int visitorCountDelta) {
+		lock.writeLock().lock();
+		try {
+			Integer ordinal = ordinals.get(restaurantId);
+			if (ordinal == null) {
+				return;
+			}
+
+			int[][] slots = bookedVisitorCounts.computeIfAbsent(visitDate, date -> new int[SLOTS_PER_DAY][]);
+			int slot = toSlot(visitTime);
+			if (slots[slot] == null || slots[slot].length <= ordinal) {
+				slots[slot] = slots[slot] == null
+					? new int[restaurantIds.length]
+					: Arrays.copyOf(slots[slot], restaurantIds.length);
+			}
+			slots[slot][ordinal] = Math.max(0, slots[slot][ordinal] + visitorCountDelta);
+
+			evictPastDates();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public long[] search(LocalDate visitDate, LocalTime visitTime, int visitorCount, FoodType foodType) {
+		int visitSecond = visitTime.toSecondOfDay();
+		byte closingDayBit = toClosingDayBit(visitDate.getDayOfWeek());
+
+		lock.readLock().lock();
+		try {
+			int[][] slots = bookedVisitorCounts.get(visitDate);
+			int[] booked = slots == null ? null : slots[toSlot(visitTime)];
+
+			long[] found = new long[size];
+			int foundCount = 0;
+			for (int ordinal = 0; ordinal < size; ordinal++) {
+				if (foodType != null && foodTypes[ordinal] != foodType.ordinal()) {
+					continue;
+				}
+				if ((closingDayMasks[ordinal] & closingDayBit) != 0 || !isInTimeTable(ordinal, visitSecond)) {
+					continue;
+				}
+
+				int bookedCount = booked == null || booked.length <= ordinal ? 0 : booked[ordinal];
+				if (capacities[ordinal] - bookedCount >= visitorCount) {
+					found[foundCount++] = restaurantIds[ordinal];
+				}
+			}
+			return Arrays.copyOf(found, foundCount);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			ordinals.clear();
+			bookedVisitorCounts.clear();
+			size = 0;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private int nextOrdinal() {
+		if (size == restaurantIds.length) {
+			int newLength = restaurantIds.length * 2;
+			restaurantIds = Arrays.copyOf(restaurantIds, newLength);
+			foodTypes = Arrays.copyOf(foodTypes, newLength);
+			capacities = Arrays.copyOf(capacities, newLength);
+			openSeconds = Arrays.copyOf(openSeconds, newLength);
+			lastOrderSeconds = Arrays.copyOf(lastOrderSeconds, newLength);
+			closingDayMasks = Arrays.copyOf(closingDayMasks, newLength);
+		}
+		return size++;
+	}
+
+	// Restaurant.generateTimeTable 과 같이 오픈 시간부터 UNIT_SECONDS 간격으로 라스트 오더까지가 예약 가능 시간이다.
+	private boolean isInTimeTable(int ordinal, int visitSecond) {
+		return visitSecond >= openSeconds[ordinal]
+			&& visitSecond <= lastOrderSeconds[ordinal]
+			&& (visitSecond - openSeconds[ordinal]) % UNIT_SECONDS == 0;
+	}
+
+	private void evictPastDates() {
+		LocalDate today = LocalDate.now();
+		if (today.equals(lastEvictedDate)) {
+			return;
+		}
+		bookedVisitorCounts.keySet()
+			.removeIf(date -> date.isBefore(today));
+		lastEvictedDate = today;
+	}
+
+	private int toSlot(LocalTime visitTime) {
+		return (int)(visitTime.toSecondOfDay() / UNIT_SECONDS);
+	}
+
+	private byte toClosingDayMask(Collection<DayOfWeek> closingDays) {
+		byte mask = 0;
+		for (DayOfWeek closingDay : closingDays) {
+			mask |= toClosingDayBit(closingDay);
+		}
+		return mask;
+	}
+
+	private byte toClosingDayBit(DayOfWeek dayOfWeek) {
+		return (byte)(1 << (dayOfWeek.getValue() - 1));
+	}
+}
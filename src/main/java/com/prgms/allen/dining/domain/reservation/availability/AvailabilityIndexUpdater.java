@@ -0,0 +1,103 @@
+package com.prgms.allen.dining.domain.reservation.availability;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgms.allen.dining.domain.reservation.entity.VisitStatus;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
+import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
+import com.prgms.allen.dining.domain.restaurant.dto.ClosingDayPerRestaurantProj;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantTimeTableProj;
+import com.prgms.allen.dining.domain.restaurant.event.RestaurantCreatedEvent;
+import com.prgms.allen.dining.global.shard.ShardOperations;
+
+@Component
+public class AvailabilityIndexUpdater implements SmartInitializingSingleton {
+
+	private static final Logger log = LoggerFactory.getLogger(AvailabilityIndexUpdater.class);
+
+	private final AvailabilityIndex availabilityIndex;
+	private final RestaurantRepository restaurantRepository;
+	private final ReservationRepository reservationRepository;
+	private final ShardOperations shardOperations;
+
+	public AvailabilityIndexUpdater(
+		AvailabilityIndex availabilityIndex,
+		RestaurantRepository restaurantRepository,
+		ReservationRepository reservationRepository,
+		ShardOperations shardOperations
+	) {
+		this.availabilityIndex = availabilityIndex;
+		this.restaurantRepository = restaurantRepository;
+		this.reservationRepository = reservationRepository;
+		this.shardOperations = shardOperations;
+	}
+
+	// 웹 서버가 요청을 받기 전에 DB 기준으로 인덱스를 채워 둔다.
+	@Override
+	public void afterSingletonsInstantiated() {
+		Map<Long, List<DayOfWeek>> closingDaysPerRestaurant = shardOperations.gather(
+				restaurantRepository::findAllClosingDays
+			)
+			.stream()
+			.collect(Collectors.groupingBy(
+				ClosingDayPerRestaurantProj::restaurantId,
+				Collectors.mapping(ClosingDayPerRestaurantProj::dayOfWeek, Collectors.toList())
+			));
+
+		List<RestaurantTimeTableProj> timeTables = shardOperations.gather(restaurantRepository::findAllTimeTables);
+		timeTables.forEach(proj -> availabilityIndex.register(
+			proj.restaurantId(),
+			proj.foodType(),
+			proj.capacity(),
+			proj.openTime(),
+			proj.lastOrderTime(),
+			closingDaysPerRestaurant.getOrDefault(proj.restaurantId(), List.of())
+		));
+
+		shardOperations.gather(() -> reservationRepository.findVisitorCountPerRestaurantAndVisitDateTime(
+				LocalDate.now(),
+				VisitStatus.PLANNED.getStatuses()
+			))
+			.forEach(proj -> availabilityIndex.apply(
+				proj.restaurantId(),
+				proj.visitDate(),
+				proj.visitTime(),
+				proj.totalVisitorCount().intValue()
+			));
+
+		log.info("Availability index loaded for {} restaurants", timeTables.size());
+	}
+
+	@TransactionalEventListener
+	public void onReservationSlotChanged(ReservationSlotChangedEvent event) {
+		availabilityIndex.apply(
+			event.restaurantId(),
+			event.visitDate(),
+			event.visitTime(),
+			event.visitorCountDelta()
+		);
+	}
+
+	@TransactionalEventListener
+	public void onRestaurantCreated(RestaurantCreatedEvent event) {
+		availabilityIndex.register(
+			event.restaurantId(),
+			event.foodType(),
+			event.capacity(),
+			event.openTime(),
+			event.lastOrderTime(),
+			event.closingDays()
+		);
+	}
+}
@@ -0,0 +1,67 @@
+package com.prgms.allen.dining.domain.reservation.availability;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.prgms.allen.dining.domain.reservation.dto.AvailableRestaurantSearchReq;
+import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleRes;
+import com.prgms.allen.dining.global.bulkhead.Bulkhead;
+import com.prgms.allen.dining.global.bulkhead.BulkheadType;
+import com.prgms.allen.dining.global.shard.ShardOperations;
+
+@Service
+@Transactional(readOnly = true)
+public class AvailableRestaurantSearchService {
+
+	private final AvailabilityIndex availabilityIndex;
+	private final RestaurantRepository restaurantRepository;
+	private final ShardOperations shardOperations;
+
+	public AvailableRestaurantSearchService(
+		AvailabilityIndex availabilityIndex,
+		RestaurantRepository restaurantRepository,
+		ShardOperations shardOperations
+	) {
+		this.availabilityIndex = availabilityIndex;
+		this.restaurantRepository = restaurantRepository;
+		this.shardOperations = shardOperations;
+	}
+
+	@Bulkhead(BulkheadType.BROWSING)
+	public Page<RestaurantSimpleRes> search(AvailableRestaurantSearchReq searchReq, Pageable pageable) {
+		long[] restaurantIds = availabilityIndex.search(
+			searchReq.date(),
+			searchReq.time(),
+			searchReq.visitorCount(),
+			searchReq.foodType()
+		);
+
+		List<Long> pagedIds = Arrays.stream(restaurantIds)
+			.skip(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.boxed()
+			.toList();
+
+		Map<Long, Integer> order = pagedIds.stream()
+			.collect(Collectors.toMap(Function.identity(), pagedIds::indexOf));
+
+		List<RestaurantSimpleRes> restaurants = shardOperations.gather(() -> restaurantRepository.findAllById(pagedIds))
+			.stream()
+			.sorted(Comparator.comparing(restaurant -> order.get(restaurant.getId())))
+			.map(RestaurantSimpleRes::new)
+			.toList();
+
+		return new PageImpl<>(restaurants, pageable, restaurantIds.length);
+	}
+}
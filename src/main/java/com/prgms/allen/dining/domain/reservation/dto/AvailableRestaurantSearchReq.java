@@ -0,0 +1,42 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import static com.prgms.allen.dining.domain.reservation.policy.ReservationPolicy.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.constraints.Range;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
+
+public record AvailableRestaurantSearchReq(
+
+	@NotNull
+	@FutureOrPresent
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate date,
+
+	@NotNull
+	@DateTimeFormat(pattern = "HH:mm")
+	LocalTime time,
+
+	@NotNull
+	@Range(min = MIN_VISITOR_COUNT, max = MAX_VISITOR_COUNT)
+	Integer visitorCount,
+
+	FoodType foodType
+) {
+	@Override
+	public String toString() {
+		return "AvailableRestaurantSearchReq{" +
+			"date=" + date +
+			", time=" + time +
+			", visitorCount=" + visitorCount +
+			", foodType=" + foodType +
+			'}';
+	}
+}
@@ -0,0 +1,12 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+
+public record DailyReservationStatRes(
+	LocalDate date,
+	int reservationCount,
+	int covers,
+	int noShowCount,
+	double noShowRate
+) {
+}
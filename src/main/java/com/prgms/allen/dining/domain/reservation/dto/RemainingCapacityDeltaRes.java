@@ -0,0 +1,23 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+
+public record RemainingCapacityDeltaRes(
+	long sequence,
+
+	LocalDate date,
+
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+	LocalTime time,
+
+	int remainingCapacityDelta
+) {
+
+	public RemainingCapacityDeltaRes(long sequence, ReservationSlotChangedEvent event) {
+		this(sequence, event.visitDate(), event.visitTime(), -event.visitorCountDelta());
+	}
+}
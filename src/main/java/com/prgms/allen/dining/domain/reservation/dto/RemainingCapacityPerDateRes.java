@@ -0,0 +1,11 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// remainingCapacities 는 ReservationAvailableMatrixRes.times 와 같은 순서로 시간대별 남은 인원을 담는다.
+public record RemainingCapacityPerDateRes(
+	LocalDate date,
+	List<Integer> remainingCapacities
+) {
+}
@@ -0,0 +1,19 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+
+import javax.validation.constraints.NotNull;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+public record ReservationAnalyticsReq(
+
+	@NotNull
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate startDate,
+
+	@NotNull
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate endDate
+) {
+}
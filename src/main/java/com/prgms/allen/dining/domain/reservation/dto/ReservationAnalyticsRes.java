@@ -0,0 +1,13 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ReservationAnalyticsRes(
+	LocalDate startDate,
+	LocalDate endDate,
+	int capacity,
+	List<DailyReservationStatRes> dailyStats,
+	List<SlotUtilizationRes> slotUtilizations
+) {
+}
@@ -0,0 +1,34 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.prgms.allen.dining.global.shard.RestaurantScoped;
+
+public record ReservationAvailableMatrixReq(
+
+	@NotNull
+	Long restaurantId,
+
+	@NotNull
+	@FutureOrPresent
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate startDate,
+
+	@NotNull
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate endDate
+) implements RestaurantScoped {
+	@Override
+	public String toString() {
+		return "ReservationAvailableMatrixReq{" +
+			"restaurantId=" + restaurantId +
+			", startDate=" + startDate +
+			", endDate=" + endDate +
+			'}';
+	}
+}
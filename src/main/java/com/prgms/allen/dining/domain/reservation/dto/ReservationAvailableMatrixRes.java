@@ -0,0 +1,10 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalTime;
+import java.util.List;
+
+public record ReservationAvailableMatrixRes(
+	List<LocalTime> times,
+	List<RemainingCapacityPerDateRes> dates
+) {
+}
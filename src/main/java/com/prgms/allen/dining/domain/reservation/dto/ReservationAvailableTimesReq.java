@@ -10,6 +10,8 @@ import javax.validation.constraints.NotNull;
 import org.hibernate.validator.constraints.Range;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import com.prgms.allen.dining.global.shard.RestaurantScoped;
+
 public record ReservationAvailableTimesReq(
 
 	@NotNull
@@ -22,7 +24,7 @@ public record ReservationAvailableTimesReq(
 
 	@Range(min = MIN_VISITOR_COUNT, max = MAX_VISITOR_COUNT)
 	Integer visitorCount
-) {
+) implements RestaurantScoped {
 	@Override
 	public String toString() {
 		return "ReservationAvailableTimesReq{" +
@@ -3,6 +3,8 @@ package com.prgms.allen.dining.domain.reservation.dto;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import com.prgms.allen.dining.global.shard.RestaurantScoped;
+
 public record ReservationCreateReq(
 
 	@NotNull
@@ -11,5 +13,5 @@ public record ReservationCreateReq(
 	@Valid
 	@NotNull
 	ReservationCustomerInputCreateReq reservationCustomerInput
-) {
+) implements RestaurantScoped {
 }
@@ -0,0 +1,17 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+
+public record ReservationExportProj(
+	Long reservationId,
+	LocalDate visitDate,
+	LocalTime visitTime,
+	int visitorCount,
+	ReservationStatus status,
+	LocalDateTime createdAt
+) {
+}
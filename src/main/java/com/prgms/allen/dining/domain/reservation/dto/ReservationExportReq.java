@@ -0,0 +1,31 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+
+public record ReservationExportReq(
+
+	@NotNull
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate startDate,
+
+	@NotNull
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate endDate,
+
+	List<ReservationStatus> statuses
+) {
+
+	public List<ReservationStatus> statusesOrAll() {
+		if (statuses == null || statuses.isEmpty()) {
+			return List.of(ReservationStatus.values());
+		}
+		return statuses;
+	}
+}
@@ -0,0 +1,25 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDateTime;
+
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.reservation.event.ReservationChangedEvent;
+
+public record ReservationFeedItemRes(
+	long cursor,
+	Long reservationId,
+	ReservationStatus status,
+	LocalDateTime visitDateTime,
+	int visitorCount
+) {
+
+	public ReservationFeedItemRes(long cursor, ReservationChangedEvent event) {
+		this(
+			cursor,
+			event.reservationId(),
+			event.status(),
+			event.visitDateTime(),
+			event.visitorCount()
+		);
+	}
+}
@@ -0,0 +1,10 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.util.List;
+
+public record ReservationFeedRes(
+	long cursor,
+	boolean truncated,
+	List<ReservationFeedItemRes> items
+) {
+}
@@ -0,0 +1,10 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import javax.validation.constraints.NotBlank;
+
+public record ReservationHoldConfirmReq(
+
+	@NotBlank
+	String memo
+) {
+}
@@ -0,0 +1,35 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import static com.prgms.allen.dining.domain.reservation.policy.ReservationPolicy.*;
+
+import java.time.LocalDateTime;
+
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.constraints.Range;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
+import com.prgms.allen.dining.global.shard.RestaurantScoped;
+
+public record ReservationHoldCreateReq(
+
+	@NotNull
+	Long restaurantId,
+
+	@NotNull
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+	LocalDateTime visitDateTime,
+
+	@Range(min = MIN_VISITOR_COUNT, max = MAX_VISITOR_COUNT)
+	int visitorCount
+) implements RestaurantScoped {
+
+	public ReservationCustomerInput toCustomerInput() {
+		return new ReservationCustomerInput(
+			visitDateTime,
+			visitorCount,
+			null
+		);
+	}
+}
@@ -0,0 +1,25 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.prgms.allen.dining.domain.reservation.hold.SeatHold;
+
+public record ReservationHoldRes(
+	Long holdId,
+	Long restaurantId,
+	LocalDateTime visitDateTime,
+	int visitorCount,
+	LocalDateTime expiresAt
+) {
+
+	public ReservationHoldRes(SeatHold seatHold) {
+		this(
+			seatHold.id(),
+			seatHold.slot().restaurantId(),
+			seatHold.slot().visitDateTime(),
+			seatHold.visitorCount(),
+			LocalDateTime.ofInstant(seatHold.expiresAt(), ZoneId.systemDefault())
+		);
+	}
+}
@@ -0,0 +1,26 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDateTime;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
+
+public record ReservationModifyReq(
+
+	@NotNull
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+	LocalDateTime visitDateTime,
+
+	int visitorCount
+) {
+
+	public ReservationCustomerInput toCustomerInput(String memo) {
+		return new ReservationCustomerInput(
+			visitDateTime,
+			visitorCount,
+			memo
+		);
+	}
+}
@@ -1,6 +1,8 @@
 package com.prgms.allen.dining.domain.reservation.dto;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 
@@ -11,6 +13,16 @@ public record ReservationSimpleResForCustomer(
 	int visitorCount
 ) {
 
+	public ReservationSimpleResForCustomer(
+		String restaurantName,
+		String address,
+		LocalDate visitDate,
+		LocalTime visitTime,
+		int visitorCount
+	) {
+		this(restaurantName, address, LocalDateTime.of(visitDate, visitTime), visitorCount);
+	}
+
 	public ReservationSimpleResForCustomer(Reservation reservation) {
 		this(
 			reservation.getRestaurantName(),
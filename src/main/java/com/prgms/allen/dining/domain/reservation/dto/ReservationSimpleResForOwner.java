@@ -1,6 +1,8 @@
 package com.prgms.allen.dining.domain.reservation.dto;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 
@@ -10,6 +12,16 @@ public record ReservationSimpleResForOwner(
 	LocalDateTime visitDateTime,
 	int visitorCount
 ) {
+	public ReservationSimpleResForOwner(
+		String visitorName,
+		String phone,
+		LocalDate visitDate,
+		LocalTime visitTime,
+		int visitorCount
+	) {
+		this(visitorName, phone, LocalDateTime.of(visitDate, visitTime), visitorCount);
+	}
+
 	public ReservationSimpleResForOwner(Reservation reservation) {
 		this(
 			reservation.getCustomerName(),
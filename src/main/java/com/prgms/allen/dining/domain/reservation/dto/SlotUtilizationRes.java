@@ -0,0 +1,12 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record SlotUtilizationRes(
+	LocalDate date,
+	LocalTime time,
+	int visitorCount,
+	double utilization
+) {
+}
@@ -0,0 +1,11 @@
+package com.prgms.allen.dining.domain.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record VisitorCountPerVisitDateTimeProj(
+	LocalDate visitDate,
+	LocalTime visitTime,
+	Long totalVisitorCount
+) {
+}
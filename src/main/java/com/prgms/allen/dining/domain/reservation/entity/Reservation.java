@@ -155,10 +155,6 @@ public class Reservation extends BaseEntity {
 		return customerInput.getVisitDateTime();
 	}
 
-	public Member getRestaurantOwner() {
-		return restaurant.getOwner();
-	}
-
 	public String getMemo() {
 		return customerInput.getCustomerMemo();
 	}
@@ -177,6 +173,19 @@ public class Reservation extends BaseEntity {
 		status = CANCELLED;
 	}
 
+	public void modify(Long customerId, ReservationCustomerInput customerInput) {
+		assertModifiableBy(customerId);
+		validateReservationDetail(customerInput);
+		this.customerInput = customerInput;
+		status = checkVisitingToday(customerInput);
+	}
+
+	public void assertModifiableBy(Long customerId) {
+		assertMatchesCustomer(customerId);
+		assertReservationStatusOneOf(PENDING, CONFIRMED);
+		assertVisitDateAfterCurrentDate();
+	}
+
 	public void visit(Long ownerId) {
 		assertMatchesOwner(ownerId);
 		assertReservationStatusOneOf(CONFIRMED);
@@ -214,11 +223,11 @@ public class Reservation extends BaseEntity {
 
 	private void assertMatchesOwner(Long ownerId) {
 		Assert.state(
-			getRestaurantOwner().matchesId(ownerId),
+			restaurant.isOwnedBy(ownerId),
 			MessageFormat.format(
 				"Owner does not match. Parameter ownerId={0} but actual ownerId={1}",
 				ownerId,
-				getRestaurantOwner().getId()
+				restaurant.getOwnerId()
 			)
 		);
 	}
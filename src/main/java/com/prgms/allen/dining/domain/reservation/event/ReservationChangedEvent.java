@@ -0,0 +1,25 @@
+package com.prgms.allen.dining.domain.reservation.event;
+
+import java.time.LocalDateTime;
+
+import com.prgms.allen.dining.domain.reservation.entity.Reservation;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+
+public record ReservationChangedEvent(
+	Long restaurantId,
+	Long reservationId,
+	ReservationStatus status,
+	LocalDateTime visitDateTime,
+	int visitorCount
+) {
+
+	public ReservationChangedEvent(Reservation reservation) {
+		this(
+			reservation.getRestaurantId(),
+			reservation.getId(),
+			reservation.getStatus(),
+			reservation.getVisitDateTime(),
+			reservation.getVisitorCount()
+		);
+	}
+}
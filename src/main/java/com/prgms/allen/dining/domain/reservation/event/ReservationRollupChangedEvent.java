@@ -0,0 +1,41 @@
+package com.prgms.allen.dining.domain.reservation.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.prgms.allen.dining.domain.reservation.entity.Reservation;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.global.shard.RestaurantScoped;
+
+public record ReservationRollupChangedEvent(
+	Long restaurantId,
+	LocalDate visitDate,
+	LocalTime visitTime,
+	ReservationStatus status,
+	int reservationCountDelta,
+	int visitorCountDelta
+) implements RestaurantScoped {
+
+	public static ReservationRollupChangedEvent added(Reservation reservation) {
+		return of(reservation, 1, reservation.getVisitorCount());
+	}
+
+	public static ReservationRollupChangedEvent removed(Reservation reservation) {
+		return of(reservation, -1, -reservation.getVisitorCount());
+	}
+
+	private static ReservationRollupChangedEvent of(
+		Reservation reservation,
+		int reservationCountDelta,
+		int visitorCountDelta
+	) {
+		return new ReservationRollupChangedEvent(
+			reservation.getRestaurantId(),
+			reservation.getVisitDateTime().toLocalDate(),
+			reservation.getVisitDateTime().toLocalTime(),
+			reservation.getStatus(),
+			reservationCountDelta,
+			visitorCountDelta
+		);
+	}
+}
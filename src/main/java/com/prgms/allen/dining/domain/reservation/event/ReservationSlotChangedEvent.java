@@ -0,0 +1,31 @@
+package com.prgms.allen.dining.domain.reservation.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.prgms.allen.dining.domain.reservation.entity.Reservation;
+
+public record ReservationSlotChangedEvent(
+	Long restaurantId,
+	LocalDate visitDate,
+	LocalTime visitTime,
+	int visitorCountDelta
+) {
+
+	public static ReservationSlotChangedEvent reserved(Reservation reservation) {
+		return of(reservation, reservation.getVisitorCount());
+	}
+
+	public static ReservationSlotChangedEvent released(Reservation reservation) {
+		return of(reservation, -reservation.getVisitorCount());
+	}
+
+	private static ReservationSlotChangedEvent of(Reservation reservation, int visitorCountDelta) {
+		return new ReservationSlotChangedEvent(
+			reservation.getRestaurantId(),
+			reservation.getVisitDateTime().toLocalDate(),
+			reservation.getVisitDateTime().toLocalTime(),
+			visitorCountDelta
+		);
+	}
+}
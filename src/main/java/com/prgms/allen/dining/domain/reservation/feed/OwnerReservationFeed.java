@@ -0,0 +1,110 @@
+package com.prgms.allen.dining.domain.reservation.feed;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgms.allen.dining.domain.reservation.dto.ReservationFeedItemRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationFeedRes;
+import com.prgms.allen.dining.domain.reservation.event.ReservationChangedEvent;
+
+@Component
+public class OwnerReservationFeed {
+
+	private final int capacity;
+	private final AtomicLong sequence = new AtomicLong();
+	private final Map<Long, RestaurantFeed> feeds = new ConcurrentHashMap<>();
+
+	public OwnerReservationFeed(@Value("${reservation.owner-feed.capacity:256}") int capacity) {
+		this.capacity = capacity;
+	}
+
+	public ReservationFeedRes poll(Long restaurantId, long since) {
+		RestaurantFeed feed = getFeed(restaurantId);
+		synchronized (feed) {
+			return read(feed, since);
+		}
+	}
+
+	// 새 변경분이 있으면 바로 콜백을 부르고, 없으면 다음 변경이 들어올 때까지 기다린다.
+	// 반환값으로 대기를 취소할 수 있다.
+	public Runnable await(Long restaurantId, long since, Consumer<ReservationFeedRes> callback) {
+		RestaurantFeed feed = getFeed(restaurantId);
+		ReservationFeedRes feedRes;
+		synchronized (feed) {
+			feedRes = read(feed, since);
+			if (feedRes.items().isEmpty() && !feedRes.truncated()) {
+				Waiter waiter = new Waiter(since, callback);
+				feed.waiters.add(waiter);
+				return () -> {
+					synchronized (feed) {
+						feed.waiters.remove(waiter);
+					}
+				};
+			}
+		}
+
+		callback.accept(feedRes);
+		return () -> {
+		};
+	}
+
+	@TransactionalEventListener
+	public void onReservationChanged(ReservationChangedEvent event) {
+		RestaurantFeed feed = getFeed(event.restaurantId());
+		List<Waiter> waiters;
+		List<ReservationFeedRes> feedResList = new ArrayList<>();
+		synchronized (feed) {
+			feed.entries.addLast(new ReservationFeedItemRes(sequence.incrementAndGet(), event));
+			if (feed.entries.size() > capacity) {
+				feed.droppedUpTo = feed.entries.pollFirst().cursor();
+			}
+
+			waiters = new ArrayList<>(feed.waiters);
+			feed.waiters.clear();
+			waiters.forEach(waiter -> feedResList.add(read(feed, waiter.since())));
+		}
+
+		for (int i = 0; i < waiters.size(); i++) {
+			waiters.get(i).callback().accept(feedResList.get(i));
+		}
+	}
+
+	private RestaurantFeed getFeed(Long restaurantId) {
+		return feeds.computeIfAbsent(restaurantId, id -> new RestaurantFeed());
+	}
+
+	// 링 버퍼에서 밀려난 커서나 서버 재시작 전의 커서로 요청하면 truncated 로 알려 목록을 다시 받게 한다.
+	private ReservationFeedRes read(RestaurantFeed feed, long since) {
+		long latestCursor = sequence.get();
+		boolean truncated = since < feed.droppedUpTo || since > latestCursor;
+
+		List<ReservationFeedItemRes> items = feed.entries.stream()
+			.filter(item -> truncated || item.cursor() > since)
+			.toList();
+
+		if (items.isEmpty()) {
+			return new ReservationFeedRes(truncated ? latestCursor : since, truncated, items);
+		}
+		return new ReservationFeedRes(items.get(items.size() - 1).cursor(), truncated, items);
+	}
+
+	private static class RestaurantFeed {
+
+		private final Deque<ReservationFeedItemRes> entries = new ArrayDeque<>();
+		private final List<Waiter> waiters = new ArrayList<>();
+		private long droppedUpTo;
+	}
+
+	private record Waiter(long since, Consumer<ReservationFeedRes> callback) {
+	}
+}
@@ -0,0 +1,22 @@
+package com.prgms.allen.dining.domain.reservation.hold;
+
+import java.time.Instant;
+
+import com.prgms.allen.dining.domain.reservation.slot.ReservationSlot;
+
+public record SeatHold(
+	Long id,
+	Long customerId,
+	ReservationSlot slot,
+	int visitorCount,
+	Instant expiresAt
+) {
+
+	public boolean isExpired(Instant now) {
+		return !now.isBefore(expiresAt);
+	}
+
+	public boolean isHeldBy(Long customerId) {
+		return this.customerId.equals(customerId);
+	}
+}
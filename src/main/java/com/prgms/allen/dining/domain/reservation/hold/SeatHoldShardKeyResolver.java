@@ -0,0 +1,29 @@
+package com.prgms.allen.dining.domain.reservation.hold;
+
+import java.text.MessageFormat;
+
+import org.springframework.stereotype.Component;
+
+import com.prgms.allen.dining.domain.common.NotFoundResourceException;
+import com.prgms.allen.dining.global.shard.ShardKeyResolver;
+
+// 홀드는 메모리에만 있으므로 홀드 아이디로 잡아 둔 슬롯의 식당을 찾아 샤드를 정한다.
+@Component
+public class SeatHoldShardKeyResolver implements ShardKeyResolver {
+
+	private final SeatHoldStore seatHoldStore;
+
+	public SeatHoldShardKeyResolver(SeatHoldStore seatHoldStore) {
+		this.seatHoldStore = seatHoldStore;
+	}
+
+	@Override
+	public long resolve(Object argument) {
+		Long holdId = (Long)argument;
+		return seatHoldStore.find(holdId)
+			.map(seatHold -> seatHold.slot().restaurantId())
+			.orElseThrow(() -> new NotFoundResourceException(MessageFormat.format(
+				"Cannot find SeatHold for holdId={0}", holdId
+			)));
+	}
+}
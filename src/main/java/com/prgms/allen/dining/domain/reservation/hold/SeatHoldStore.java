@@ -0,0 +1,145 @@
+package com.prgms.allen.dining.domain.reservation.hold;
+
+import java.text.MessageFormat;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import com.prgms.allen.dining.domain.reservation.slot.ReservationSlot;
+
+@Component
+public class SeatHoldStore {
+
+	private static final long TICK_MILLIS = 1_000L;
+
+	private final Duration holdDuration;
+	private final int maxHoldsPerCustomer;
+	private final Clock clock;
+
+	private final Map<Long, SeatHold> holds = new HashMap<>();
+	private final Map<ReservationSlot, Integer> heldVisitorCounts = new HashMap<>();
+	private final Map<Long, Integer> customerHoldCounts = new HashMap<>();
+
+	// 만료 시각(tick)별 버킷. 한 바퀴가 홀드 유지 시간보다 길어서 버킷 하나에는 같은 tick 에 만료되는 홀드만 모인다.
+	private final List<List<Long>> wheel;
+	private long lastExpiredTick;
+	private long sequence;
+
+	@Autowired
+	public SeatHoldStore(
+		@Value("${reservation.hold.minutes:10}") long holdMinutes,
+		@Value("${reservation.hold.max-per-customer:3}") int maxHoldsPerCustomer
+	) {
+		this(Duration.ofMinutes(holdMinutes), maxHoldsPerCustomer, Clock.systemDefaultZone());
+	}
+
+	public SeatHoldStore(Duration holdDuration, int maxHoldsPerCustomer, Clock clock) {
+		this.holdDuration = holdDuration;
+		this.maxHoldsPerCustomer = maxHoldsPerCustomer;
+		this.clock = clock;
+
+		int wheelSize = (int)(holdDuration.toMillis() / TICK_MILLIS) + 2;
+		this.wheel = new ArrayList<>(wheelSize);
+		for (int i = 0; i < wheelSize; i++) {
+			wheel.add(new ArrayList<>());
+		}
+		this.lastExpiredTick = toTick(clock.instant());
+	}
+
+	// 한 고객이 홀드로 좌석을 쓸어 담지 못하게 동시에 가질 수 있는 홀드 수를 제한한다.
+	public synchronized SeatHold hold(Long customerId, ReservationSlot slot, int visitorCount) {
+		Instant now = clock.instant();
+		expire(now);
+		Assert.state(
+			customerHoldCounts.getOrDefault(customerId, 0) < maxHoldsPerCustomer,
+			MessageFormat.format("Customer {0} already has {1} seat holds.", customerId, maxHoldsPerCustomer)
+		);
+
+		SeatHold seatHold = new SeatHold(++sequence, customerId, slot, visitorCount, now.plus(holdDuration));
+		holds.put(seatHold.id(), seatHold);
+		heldVisitorCounts.merge(slot, visitorCount, Integer::sum);
+		customerHoldCounts.merge(customerId, 1, Integer::sum);
+		wheel.get(toWheelIndex(toCeilTick(seatHold.expiresAt()))).add(seatHold.id());
+		return seatHold;
+	}
+
+	public synchronized Optional<SeatHold> find(Long holdId) {
+		Instant now = clock.instant();
+		expire(now);
+		return Optional.ofNullable(holds.get(holdId))
+			.filter(seatHold -> !seatHold.isExpired(now));
+	}
+
+	public synchronized int getHeldVisitorCount(ReservationSlot slot) {
+		return getHeldVisitorCount(slot, null);
+	}
+
+	// 확정 중인 홀드는 곧 예약으로 세어지므로 빼고 센다. 그 사이 만료됐으면 이미 빠져 있다.
+	public synchronized int getHeldVisitorCount(ReservationSlot slot, Long excludedHoldId) {
+		expire(clock.instant());
+		SeatHold excluded = excludedHoldId == null ? null : holds.get(excludedHoldId);
+		int excludedVisitorCount = excluded != null && excluded.slot().equals(slot) ? excluded.visitorCount() : 0;
+		return heldVisitorCounts.getOrDefault(slot, 0) - excludedVisitorCount;
+	}
+
+	public synchronized void release(Long holdId) {
+		remove(holdId);
+	}
+
+	// 조회나 변경이 일어날 때 지난 tick 의 버킷만 비우는 방식으로 만료시킨다.
+	private void expire(Instant now) {
+		long currentTick = toTick(now);
+		long ticksToExpire = Math.min(currentTick - lastExpiredTick, wheel.size());
+		for (long tick = currentTick - ticksToExpire + 1; tick <= currentTick; tick++) {
+			wheel.get(toWheelIndex(tick))
+				.removeIf(holdId -> expireIfDue(holdId, now));
+		}
+		lastExpiredTick = Math.max(lastExpiredTick, currentTick);
+	}
+
+	private boolean expireIfDue(Long holdId, Instant now) {
+		SeatHold seatHold = holds.get(holdId);
+		if (seatHold == null) {
+			return true;
+		}
+		if (!seatHold.isExpired(now)) {
+			return false;
+		}
+		remove(holdId);
+		return true;
+	}
+
+	private void remove(Long holdId) {
+		SeatHold seatHold = holds.remove(holdId);
+		if (seatHold == null) {
+			return;
+		}
+		heldVisitorCounts.computeIfPresent(
+			seatHold.slot(),
+			(slot, count) -> count - seatHold.visitorCount() > 0 ? count - seatHold.visitorCount() : null
+		);
+		customerHoldCounts.computeIfPresent(seatHold.customerId(), (customerId, count) -> count > 1 ? count - 1 : null);
+	}
+
+	private long toTick(Instant instant) {
+		return Math.floorDiv(instant.toEpochMilli(), TICK_MILLIS);
+	}
+
+	private long toCeilTick(Instant instant) {
+		return Math.floorDiv(instant.toEpochMilli() + TICK_MILLIS - 1, TICK_MILLIS);
+	}
+
+	private int toWheelIndex(long tick) {
+		return (int)Math.floorMod(tick, wheel.size());
+	}
+}
@@ -0,0 +1,129 @@
+package com.prgms.allen.dining.domain.reservation.idempotency;
+
+import java.text.MessageFormat;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+@Component
+public class IdempotencyKeyStore {
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<>();
+	private final int maxSize;
+	private final Duration ttl;
+	private final Duration waitTimeout;
+	private final Clock clock;
+
+	@Autowired
+	public IdempotencyKeyStore(
+		@Value("${reservation.idempotency.max-size:10000}") int maxSize,
+		@Value("${reservation.idempotency.ttl-seconds:86400}") long ttlSeconds,
+		@Value("${reservation.idempotency.wait-timeout-millis:3000}") long waitTimeoutMillis
+	) {
+		this(maxSize, Duration.ofSeconds(ttlSeconds), Duration.ofMillis(waitTimeoutMillis),
+			Clock.systemDefaultZone());
+	}
+
+	public IdempotencyKeyStore(int maxSize, Duration ttl, Duration waitTimeout, Clock clock) {
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+		this.waitTimeout = waitTimeout;
+		this.clock = clock;
+	}
+
+	// 같은 키로 들어온 요청은 처음 요청의 결과를 그대로 돌려주고, 처리 중인 요청이 있으면 그 결과를 기다린다.
+	public Long execute(Long memberId, String idempotencyKey, Object request, Supplier<Long> action) {
+		Key key = new Key(memberId, idempotencyKey);
+		Entry newEntry = new Entry(request, new CompletableFuture<>(), clock.instant().plus(ttl));
+
+		Entry existing;
+		synchronized (entries) {
+			evict();
+			existing = entries.putIfAbsent(key, newEntry);
+		}
+
+		if (existing != null) {
+			Assert.isTrue(
+				Objects.equals(existing.request(), request),
+				MessageFormat.format("Idempotency-Key {0} was already used for a different request", idempotencyKey)
+			);
+			return await(idempotencyKey, existing.result());
+		}
+
+		try {
+			Long result = action.get();
+			newEntry.result().complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			synchronized (entries) {
+				entries.remove(key, newEntry);
+			}
+			newEntry.result().completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	// 처리 중인 항목을 지우면 같은 키의 재시도가 다시 실행되므로, 만료됐거나 크기를 넘긴 항목 중 완료된 것만 지운다.
+	// 처리 중인 항목은 동시 요청 수만큼만 남으므로 그동안 최대 크기를 넘더라도 곧 다시 줄어든다.
+	private void evict() {
+		Instant now = clock.instant();
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next();
+			if (!entry.isExpired(now) && entries.size() < maxSize) {
+				return;
+			}
+			if (entry.isCompleted()) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private Long await(String idempotencyKey, CompletableFuture<Long> result) {
+		try {
+			return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			throw new IdempotentRequestInProgressException(
+				MessageFormat.format("Request with Idempotency-Key {0} is still in progress", idempotencyKey)
+			);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdempotentRequestInProgressException(
+				MessageFormat.format("Interrupted while waiting for Idempotency-Key {0}", idempotencyKey)
+			);
+		}
+	}
+
+	private record Key(Long memberId, String idempotencyKey) {
+	}
+
+	private record Entry(Object request, CompletableFuture<Long> result, Instant expiresAt) {
+
+		boolean isExpired(Instant now) {
+			return !now.isBefore(expiresAt);
+		}
+
+		boolean isCompleted() {
+			return result.isDone();
+		}
+	}
+}
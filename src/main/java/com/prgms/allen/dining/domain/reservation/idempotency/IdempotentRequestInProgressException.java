@@ -0,0 +1,17 @@
+package com.prgms.allen.dining.domain.reservation.idempotency;
+
+import com.prgms.allen.dining.global.error.ErrorCode;
+
+public class IdempotentRequestInProgressException extends RuntimeException {
+
+	private final ErrorCode errorCode;
+
+	public IdempotentRequestInProgressException(String message) {
+		super(message);
+		this.errorCode = ErrorCode.REQUEST_IN_PROGRESS;
+	}
+
+	public ErrorCode getErrorCode() {
+		return errorCode;
+	}
+}
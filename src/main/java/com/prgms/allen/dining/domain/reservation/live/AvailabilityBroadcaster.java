@@ -0,0 +1,112 @@
+package com.prgms.allen.dining.domain.reservation.live;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgms.allen.dining.domain.reservation.dto.RemainingCapacityDeltaRes;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+
+@Component
+public class AvailabilityBroadcaster implements DisposableBean {
+
+	private final Map<RestaurantDay, AvailabilityPublisher> publishers = new ConcurrentHashMap<>();
+	private final int bufferSize;
+	private final Duration sendTimeout;
+	private final Executor executor;
+	private final Clock clock;
+
+	@Autowired
+	public AvailabilityBroadcaster(
+		@Value("${reservation.availability-stream.buffer-size:64}") int bufferSize,
+		@Value("${reservation.availability-stream.threads:4}") int threads,
+		@Value("${reservation.availability-stream.send-timeout-millis:5000}") long sendTimeoutMillis
+	) {
+		this(
+			bufferSize,
+			Duration.ofMillis(sendTimeoutMillis),
+			Executors.newFixedThreadPool(threads, createThreadFactory()),
+			Clock.systemDefaultZone()
+		);
+	}
+
+	public AvailabilityBroadcaster(int bufferSize, Duration sendTimeout, Executor executor, Clock clock) {
+		this.bufferSize = bufferSize;
+		this.sendTimeout = sendTimeout;
+		this.executor = executor;
+		this.clock = clock;
+	}
+
+	private static CustomizableThreadFactory createThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("availability-stream-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	public AvailabilitySubscriber subscribe(
+		Long restaurantId,
+		LocalDate date,
+		Consumer<RemainingCapacityDeltaRes> sink
+	) {
+		RestaurantDay restaurantDay = new RestaurantDay(restaurantId, date);
+		AvailabilitySubscriber subscriber = new AvailabilitySubscriber(
+			bufferSize,
+			sendTimeout,
+			sink,
+			executor,
+			clock,
+			closed -> unsubscribe(restaurantDay, closed)
+		);
+
+		publishers.compute(restaurantDay, (key, publisher) -> {
+			AvailabilityPublisher target = publisher == null ? new AvailabilityPublisher() : publisher;
+			target.add(subscriber);
+			return target;
+		});
+		return subscriber;
+	}
+
+	public int getSubscriberCount(Long restaurantId, LocalDate date) {
+		AvailabilityPublisher publisher = publishers.get(new RestaurantDay(restaurantId, date));
+		return publisher == null ? 0 : publisher.size();
+	}
+
+	// 커밋된 변경만 내보내고, 구독자가 없는 식당-날짜는 건너뛴다.
+	@TransactionalEventListener
+	public void onReservationSlotChanged(ReservationSlotChangedEvent event) {
+		AvailabilityPublisher publisher = publishers.get(new RestaurantDay(event.restaurantId(), event.visitDate()));
+		if (publisher != null) {
+			publisher.publish(event);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (executor instanceof ExecutorService executorService) {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void unsubscribe(RestaurantDay restaurantDay, AvailabilitySubscriber subscriber) {
+		publishers.computeIfPresent(restaurantDay, (key, publisher) -> {
+			publisher.remove(subscriber);
+			return publisher.isEmpty() ? null : publisher;
+		});
+	}
+
+	private record RestaurantDay(Long restaurantId, LocalDate date) {
+	}
+}
@@ -0,0 +1,35 @@
+package com.prgms.allen.dining.domain.reservation.live;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.prgms.allen.dining.domain.reservation.dto.RemainingCapacityDeltaRes;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+
+class AvailabilityPublisher {
+
+	private final Set<AvailabilitySubscriber> subscribers = ConcurrentHashMap.newKeySet();
+	private long sequence;
+
+	void add(AvailabilitySubscriber subscriber) {
+		subscribers.add(subscriber);
+	}
+
+	void remove(AvailabilitySubscriber subscriber) {
+		subscribers.remove(subscriber);
+	}
+
+	boolean isEmpty() {
+		return subscribers.isEmpty();
+	}
+
+	int size() {
+		return subscribers.size();
+	}
+
+	// 번호를 매기는 순서와 구독자 버퍼에 넣는 순서가 같아야 구독자가 번호로 빠진 변경분을 알아챌 수 있다.
+	synchronized void publish(ReservationSlotChangedEvent event) {
+		RemainingCapacityDeltaRes delta = new RemainingCapacityDeltaRes(++sequence, event);
+		subscribers.forEach(subscriber -> subscriber.offer(delta));
+	}
+}
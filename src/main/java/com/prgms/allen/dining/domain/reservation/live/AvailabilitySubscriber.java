@@ -0,0 +1,135 @@
+package com.prgms.allen.dining.domain.reservation.live;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.prgms.allen.dining.domain.reservation.dto.RemainingCapacityDeltaRes;
+
+public class AvailabilitySubscriber {
+
+	private static final Logger log = LoggerFactory.getLogger(AvailabilitySubscriber.class);
+	private static final int DRAIN_BATCH_SIZE = 16;
+	private static final long IDLE = -1L;
+
+	private final int bufferSize;
+	private final Duration sendTimeout;
+	private final Deque<RemainingCapacityDeltaRes> buffer;
+	private final Consumer<RemainingCapacityDeltaRes> sink;
+	private final Executor executor;
+	private final Clock clock;
+	private final Consumer<AvailabilitySubscriber> onClose;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private volatile long sendStartedAt = IDLE;
+	private long droppedCount;
+
+	AvailabilitySubscriber(
+		int bufferSize,
+		Duration sendTimeout,
+		Consumer<RemainingCapacityDeltaRes> sink,
+		Executor executor,
+		Clock clock,
+		Consumer<AvailabilitySubscriber> onClose
+	) {
+		this.bufferSize = bufferSize;
+		this.sendTimeout = sendTimeout;
+		this.buffer = new ArrayDeque<>(bufferSize);
+		this.sink = sink;
+		this.executor = executor;
+		this.clock = clock;
+		this.onClose = onClose;
+	}
+
+	// 느린 구독자가 발행 쪽을 막지 않도록 버퍼가 차면 가장 오래된 변경분을 버린다.
+	// 변경분마다 번호가 있어서, 구독자는 번호가 건너뛰면 남은 인원을 다시 조회해 맞춘다.
+	void offer(RemainingCapacityDeltaRes delta) {
+		if (closed.get()) {
+			return;
+		}
+		if (isStalled()) {
+			log.debug("Closing availability subscriber stuck in send for more than {} ms", sendTimeout.toMillis());
+			close();
+			return;
+		}
+
+		synchronized (buffer) {
+			if (buffer.size() == bufferSize) {
+				buffer.pollFirst();
+				droppedCount++;
+			}
+			buffer.addLast(delta);
+		}
+
+		if (draining.compareAndSet(false, true)) {
+			executor.execute(this::drain);
+		}
+	}
+
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			synchronized (buffer) {
+				buffer.clear();
+			}
+			onClose.accept(this);
+		}
+	}
+
+	public long getDroppedCount() {
+		synchronized (buffer) {
+			return droppedCount;
+		}
+	}
+
+	// 한 번에 정해진 개수만 보내고 다시 줄을 서서, 밀린 변경분이 많은 구독자가 공용 스레드를 붙잡지 않게 한다.
+	private void drain() {
+		int deliveredCount = 0;
+		RemainingCapacityDeltaRes delta;
+		while (!closed.get() && deliveredCount < DRAIN_BATCH_SIZE && (delta = poll()) != null) {
+			deliver(delta);
+			deliveredCount++;
+		}
+		draining.set(false);
+
+		if (!closed.get() && !isBufferEmpty() && draining.compareAndSet(false, true)) {
+			executor.execute(this::drain);
+		}
+	}
+
+	private void deliver(RemainingCapacityDeltaRes delta) {
+		sendStartedAt = clock.millis();
+		try {
+			sink.accept(delta);
+		} catch (RuntimeException e) {
+			log.debug("Availability subscriber closed while sending {}", delta, e);
+			close();
+		} finally {
+			sendStartedAt = IDLE;
+		}
+	}
+
+	// 전송이 오래 막힌 구독자는 더 받지 않게 끊어서, 막힌 스레드가 컨테이너의 쓰기 타임아웃으로 풀린 뒤 다시 쓰이지 않게 한다.
+	private boolean isStalled() {
+		long startedAt = sendStartedAt;
+		return startedAt != IDLE && clock.millis() - startedAt > sendTimeout.toMillis();
+	}
+
+	private RemainingCapacityDeltaRes poll() {
+		synchronized (buffer) {
+			return buffer.pollFirst();
+		}
+	}
+
+	private boolean isBufferEmpty() {
+		synchronized (buffer) {
+			return buffer.isEmpty();
+		}
+	}
+}
@@ -1,18 +1,29 @@
 package com.prgms.allen.dining.domain.reservation.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.reservation.dto.DateAndTotalVisitCountPerDayProj;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationExportProj;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForCustomer;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForOwner;
+import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerRestaurantAndVisitDateTimeProj;
+import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerVisitDateTimeProj;
 import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerVisitTimeProj;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
@@ -32,18 +43,33 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
 		@Param("visitTime") LocalTime visitTime,
 		@Param("statuses") List<ReservationStatus> statuses);
 
-	Page<Reservation> findAllByRestaurantAndStatus(
-		Restaurant restaurant,
-		ReservationStatus status,
+	// 목록에는 메모(LOB)가 필요 없으므로 엔티티 대신 화면에 쓰는 컬럼만 가져온다.
+	@Query("select new com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForOwner("
+		+ "c.name, c.phone, r.customerInput.visitDate, r.customerInput.visitTime, r.customerInput.visitorCount) "
+		+ "from Reservation r "
+		+ "join r.customer c "
+		+ "where r.restaurant.id = :restaurantId "
+		+ "and r.status = :status")
+	List<ReservationSimpleResForOwner> findSimpleResForOwner(
+		@Param("restaurantId") Long restaurantId,
+		@Param("status") ReservationStatus status,
 		Pageable pageable
 	);
 
-	Page<Reservation> findAllByCustomerAndStatusIn(
-		Member customer,
-		List<ReservationStatus> statuses,
+	@Query("select new com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForCustomer("
+		+ "rt.name, rt.location, r.customerInput.visitDate, r.customerInput.visitTime, r.customerInput.visitorCount) "
+		+ "from Reservation r "
+		+ "join r.restaurant rt "
+		+ "where r.customer.id = :customerId "
+		+ "and r.status in (:statuses) "
+		+ "order by r.customerInput.visitDate, r.customerInput.visitTime, r.id")
+	List<ReservationSimpleResForCustomer> findSimpleResForCustomer(
+		@Param("customerId") Long customerId,
+		@Param("statuses") List<ReservationStatus> statuses,
 		Pageable pageable
 	);
 
+	@EntityGraph(attributePaths = {"customer", "restaurant"})
 	Optional<Reservation> findByIdAndCustomer(
 		Long reservationId,
 		Member customer
@@ -62,6 +88,49 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
 		@Param("statuses") List<ReservationStatus> statuses
 	);
 
+	@Query("select new com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerVisitDateTimeProj("
+		+ "r.customerInput.visitDate, r.customerInput.visitTime, sum(r.customerInput.visitorCount)) "
+		+ "from Reservation r "
+		+ "where r.restaurant = :restaurant "
+		+ "and r.customerInput.visitDate between :startDate and :endDate "
+		+ "and r.status in (:statuses) "
+		+ "group by r.customerInput.visitDate, r.customerInput.visitTime")
+	List<VisitorCountPerVisitDateTimeProj> findVisitorCountPerVisitDateTime(
+		@Param("restaurant") Restaurant restaurant,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate,
+		@Param("statuses") List<ReservationStatus> statuses
+	);
+
+	@Query("select new com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerRestaurantAndVisitDateTimeProj("
+		+ "r.restaurant.id, r.customerInput.visitDate, r.customerInput.visitTime, sum(r.customerInput.visitorCount)) "
+		+ "from Reservation r "
+		+ "where r.customerInput.visitDate >= :startDate "
+		+ "and r.status in (:statuses) "
+		+ "group by r.restaurant.id, r.customerInput.visitDate, r.customerInput.visitTime")
+	List<VisitorCountPerRestaurantAndVisitDateTimeProj> findVisitorCountPerRestaurantAndVisitDateTime(
+		@Param("startDate") LocalDate startDate,
+		@Param("statuses") List<ReservationStatus> statuses
+	);
+
+	// 엔티티가 아닌 DTO 로 읽어서 영속성 컨텍스트에 쌓이지 않고, 전진 전용 커서로 fetch size 만큼씩 가져온다.
+	// MySQL 은 접속 URL 에 useCursorFetch=true 가 있어야 fetch size 대로 나눠 읽는다.
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+	@Query("select new com.prgms.allen.dining.domain.reservation.dto.ReservationExportProj("
+		+ "r.id, r.customerInput.visitDate, r.customerInput.visitTime, r.customerInput.visitorCount, "
+		+ "r.status, r.createdAt) "
+		+ "from Reservation r "
+		+ "where r.restaurant.id = :restaurantId "
+		+ "and r.customerInput.visitDate between :startDate and :endDate "
+		+ "and r.status in (:statuses) "
+		+ "order by r.customerInput.visitDate, r.customerInput.visitTime, r.id")
+	Stream<ReservationExportProj> streamForExport(
+		@Param("restaurantId") Long restaurantId,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate,
+		@Param("statuses") List<ReservationStatus> statuses
+	);
+
 	@Query("select new com.prgms.allen.dining.domain.reservation.dto.DateAndTotalVisitCountPerDayProj("
 		+ "r.customerInput.visitDate , sum(r.customerInput.visitorCount)) "
 		+ "from Reservation r "
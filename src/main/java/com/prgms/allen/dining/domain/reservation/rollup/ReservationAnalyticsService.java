@@ -0,0 +1,122 @@
+package com.prgms.allen.dining.domain.reservation.rollup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import com.prgms.allen.dining.domain.reservation.dto.DailyReservationStatRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAnalyticsReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAnalyticsRes;
+import com.prgms.allen.dining.domain.reservation.dto.SlotUtilizationRes;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.restaurant.RestaurantService;
+import com.prgms.allen.dining.global.shard.ShardKey;
+
+@Service
+@Transactional(readOnly = true)
+public class ReservationAnalyticsService {
+
+	private final ReservationRollupRepository rollupRepository;
+	private final RestaurantService restaurantService;
+
+	public ReservationAnalyticsService(
+		ReservationRollupRepository rollupRepository,
+		RestaurantService restaurantService
+	) {
+		this.rollupRepository = rollupRepository;
+		this.restaurantService = restaurantService;
+	}
+
+	// 예약 테이블은 보지 않고 (식당, 날짜, 시간, 상태) 별 집계 행만 읽어서 기간이 길어도 비용이 일정하다.
+	public ReservationAnalyticsRes getAnalytics(@ShardKey Long restaurantId, ReservationAnalyticsReq analyticsReq) {
+		Assert.isTrue(
+			!analyticsReq.startDate().isAfter(analyticsReq.endDate()),
+			"startDate must not be after endDate."
+		);
+		int capacity = restaurantService.findById(restaurantId).getCapacity();
+
+		Map<LocalDate, DailyTally> dailyTallies = new TreeMap<>();
+		Map<LocalDateTime, Integer> slotVisitorCounts = new TreeMap<>();
+		rollupRepository.findAllByRestaurantIdAndVisitDateBetween(
+			restaurantId,
+			analyticsReq.startDate(),
+			analyticsReq.endDate()
+		).forEach(rollup -> {
+			dailyTallies.computeIfAbsent(rollup.getVisitDate(), date -> new DailyTally()).add(rollup);
+			if (rollup.getStatus() != ReservationStatus.CANCELLED) {
+				slotVisitorCounts.merge(
+					LocalDateTime.of(rollup.getVisitDate(), rollup.getVisitTime()),
+					rollup.getVisitorCount(),
+					Integer::sum
+				);
+			}
+		});
+
+		List<DailyReservationStatRes> dailyStats = dailyTallies.entrySet()
+			.stream()
+			.map(entry -> entry.getValue().toRes(entry.getKey()))
+			.toList();
+		List<SlotUtilizationRes> slotUtilizations = slotVisitorCounts.entrySet()
+			.stream()
+			.map(entry -> new SlotUtilizationRes(
+				entry.getKey().toLocalDate(),
+				entry.getKey().toLocalTime(),
+				entry.getValue(),
+				ratio(entry.getValue(), capacity)
+			))
+			.toList();
+
+		return new ReservationAnalyticsRes(
+			analyticsReq.startDate(),
+			analyticsReq.endDate(),
+			capacity,
+			dailyStats,
+			slotUtilizations
+		);
+	}
+
+	private static double ratio(int numerator, int denominator) {
+		if (denominator <= 0) {
+			return 0;
+		}
+		return (double)numerator / denominator;
+	}
+
+	private static final class DailyTally {
+
+		private int reservationCount;
+		private int covers;
+		private int visitedCount;
+		private int noShowCount;
+
+		private void add(ReservationRollup rollup) {
+			if (rollup.getStatus() == ReservationStatus.CANCELLED) {
+				return;
+			}
+
+			reservationCount += rollup.getReservationCount();
+			if (rollup.getStatus() == ReservationStatus.VISITED) {
+				visitedCount += rollup.getReservationCount();
+				covers += rollup.getVisitorCount();
+			} else if (rollup.getStatus() == ReservationStatus.NO_SHOW) {
+				noShowCount += rollup.getReservationCount();
+			}
+		}
+
+		private DailyReservationStatRes toRes(LocalDate date) {
+			return new DailyReservationStatRes(
+				date,
+				reservationCount,
+				covers,
+				noShowCount,
+				ratio(noShowCount, visitedCount + noShowCount)
+			);
+		}
+	}
+}
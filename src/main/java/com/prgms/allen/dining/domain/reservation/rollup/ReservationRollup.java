@@ -0,0 +1,95 @@
+package com.prgms.allen.dining.domain.reservation.rollup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+
+@Entity
+@Table(name = "reservation_rollup", uniqueConstraints = @UniqueConstraint(
+	name = "uk_reservation_rollup_slot_status",
+	columnNames = {"restaurant_id", "visit_date", "visit_time", "status"}
+))
+public class ReservationRollup {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "reservation_rollup_id")
+	private Long id;
+
+	@Column(name = "restaurant_id", nullable = false)
+	private Long restaurantId;
+
+	@Column(name = "visit_date", nullable = false)
+	private LocalDate visitDate;
+
+	@Column(name = "visit_time", nullable = false)
+	private LocalTime visitTime;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false)
+	private ReservationStatus status;
+
+	@Column(name = "reservation_count", nullable = false)
+	private int reservationCount;
+
+	@Column(name = "visitor_count", nullable = false)
+	private int visitorCount;
+
+	protected ReservationRollup() {
+	}
+
+	public ReservationRollup(
+		Long restaurantId,
+		LocalDate visitDate,
+		LocalTime visitTime,
+		ReservationStatus status,
+		int reservationCount,
+		int visitorCount
+	) {
+		this.restaurantId = restaurantId;
+		this.visitDate = visitDate;
+		this.visitTime = visitTime;
+		this.status = status;
+		this.reservationCount = reservationCount;
+		this.visitorCount = visitorCount;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getRestaurantId() {
+		return restaurantId;
+	}
+
+	public LocalDate getVisitDate() {
+		return visitDate;
+	}
+
+	public LocalTime getVisitTime() {
+		return visitTime;
+	}
+
+	public ReservationStatus getStatus() {
+		return status;
+	}
+
+	public int getReservationCount() {
+		return reservationCount;
+	}
+
+	public int getVisitorCount() {
+		return visitorCount;
+	}
+}
@@ -0,0 +1,59 @@
+package com.prgms.allen.dining.domain.reservation.rollup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+
+public interface ReservationRollupRepository extends Repository<ReservationRollup, Long> {
+
+	ReservationRollup save(ReservationRollup rollup);
+
+	List<ReservationRollup> findAllByRestaurantIdAndVisitDateBetween(
+		Long restaurantId,
+		LocalDate startDate,
+		LocalDate endDate
+	);
+
+	@Modifying
+	@Query("update ReservationRollup r "
+		+ " set r.reservationCount = r.reservationCount + :reservationCountDelta, "
+		+ " r.visitorCount = r.visitorCount + :visitorCountDelta "
+		+ " where r.restaurantId = :restaurantId "
+		+ " and r.visitDate = :visitDate "
+		+ " and r.visitTime = :visitTime "
+		+ " and r.status = :status")
+	int addCounts(
+		@Param("restaurantId") Long restaurantId,
+		@Param("visitDate") LocalDate visitDate,
+		@Param("visitTime") LocalTime visitTime,
+		@Param("status") ReservationStatus status,
+		@Param("reservationCountDelta") int reservationCountDelta,
+		@Param("visitorCountDelta") int visitorCountDelta
+	);
+
+	@Modifying(clearAutomatically = true)
+	@Query("delete from ReservationRollup r where r.visitDate between :startDate and :endDate")
+	int deleteAllByVisitDateBetween(
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate
+	);
+
+	@Modifying(clearAutomatically = true)
+	@Query(nativeQuery = true, value = "insert into reservation_rollup "
+		+ " (restaurant_id, visit_date, visit_time, status, reservation_count, visitor_count) "
+		+ " select restaurant_id, visit_date, visit_time, status, count(*), sum(visitor_count) "
+		+ " from reservation "
+		+ " where visit_date between :startDate and :endDate "
+		+ " group by restaurant_id, visit_date, visit_time, status")
+	int insertAllAggregatedByVisitDateBetween(
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate
+	);
+}
@@ -0,0 +1,119 @@
+package com.prgms.allen.dining.domain.reservation.rollup;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import com.prgms.allen.dining.domain.reservation.event.ReservationRollupChangedEvent;
+import com.prgms.allen.dining.domain.reservation.policy.ReservationPolicy;
+import com.prgms.allen.dining.global.shard.ShardKey;
+import com.prgms.allen.dining.global.shard.ShardOperations;
+
+@Component
+public class ReservationRollupUpdater {
+
+	private static final Logger log = LoggerFactory.getLogger(ReservationRollupUpdater.class);
+
+	private final ReservationRollupRepository rollupRepository;
+	private final ShardOperations shardOperations;
+	private final TransactionOperations rollupTransaction;
+	private final long repairPastDays;
+	private final long repairFutureDays;
+
+	@Autowired
+	public ReservationRollupUpdater(
+		ReservationRollupRepository rollupRepository,
+		ShardOperations shardOperations,
+		PlatformTransactionManager transactionManager,
+		@Value("${reservation.rollup.repair-past-days:7}") long repairPastDays,
+		@Value("${reservation.rollup.repair-future-days:" + ReservationPolicy.MAX_RESERVE_PERIOD + "}")
+		long repairFutureDays
+	) {
+		this(rollupRepository, shardOperations, requiresNew(transactionManager), repairPastDays, repairFutureDays);
+	}
+
+	ReservationRollupUpdater(
+		ReservationRollupRepository rollupRepository,
+		ShardOperations shardOperations,
+		TransactionOperations rollupTransaction,
+		long repairPastDays,
+		long repairFutureDays
+	) {
+		this.rollupRepository = rollupRepository;
+		this.shardOperations = shardOperations;
+		this.rollupTransaction = rollupTransaction;
+		this.repairPastDays = repairPastDays;
+		this.repairFutureDays = repairFutureDays;
+	}
+
+	// 예약 트랜잭션이 커밋된 뒤에 반영하므로, 집계 갱신이 실패해도 예약은 유지되고 야간 보정에서 맞춰진다.
+	// 같은 슬롯의 첫 행을 동시에 넣으려다 유니크 제약에 걸리면, 먼저 들어간 행에 더하도록 새 트랜잭션에서 한 번 더 시도한다.
+	@TransactionalEventListener
+	public void onReservationRollupChanged(@ShardKey ReservationRollupChangedEvent event) {
+		try {
+			rollupTransaction.executeWithoutResult(status -> addOrInsert(event));
+		} catch (DataIntegrityViolationException e) {
+			log.debug("Reservation rollup row was inserted concurrently, retrying as update: {}", event);
+			rollupTransaction.executeWithoutResult(status -> addOrInsert(event));
+		}
+	}
+
+	private void addOrInsert(ReservationRollupChangedEvent event) {
+		int updatedCount = rollupRepository.addCounts(
+			event.restaurantId(),
+			event.visitDate(),
+			event.visitTime(),
+			event.status(),
+			event.reservationCountDelta(),
+			event.visitorCountDelta()
+		);
+		if (updatedCount > 0) {
+			return;
+		}
+
+		rollupRepository.save(new ReservationRollup(
+			event.restaurantId(),
+			event.visitDate(),
+			event.visitTime(),
+			event.status(),
+			event.reservationCountDelta(),
+			event.visitorCountDelta()
+		));
+	}
+
+	private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return transactionTemplate;
+	}
+
+	// 집계 테이블은 식당과 같은 샤드에 있으므로 샤드마다 따로 다시 계산한다.
+	@Scheduled(cron = "${reservation.rollup.repair-cron:0 30 4 * * *}")
+	public void repairRecent() {
+		LocalDate today = LocalDate.now();
+		shardOperations.runOnEachShard(() -> repair(today.minusDays(repairPastDays), today.plusDays(repairFutureDays)));
+	}
+
+	@Transactional
+	public void repair(LocalDate startDate, LocalDate endDate) {
+		Assert.isTrue(!startDate.isAfter(endDate), "startDate must not be after endDate.");
+
+		int deletedCount = rollupRepository.deleteAllByVisitDateBetween(startDate, endDate);
+		int insertedCount = rollupRepository.insertAllAggregatedByVisitDateBetween(startDate, endDate);
+		log.info("Reservation rollups repaired from {} to {}: {} rows replaced by {} rows",
+			startDate, endDate, deletedCount, insertedCount);
+	}
+}
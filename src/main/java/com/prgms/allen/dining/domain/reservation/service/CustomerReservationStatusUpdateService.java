@@ -7,6 +7,7 @@ import java.text.MessageFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,12 @@ import com.prgms.allen.dining.domain.member.entity.MemberType;
 import com.prgms.allen.dining.domain.notification.slack.SlackNotifyService;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationStatusUpdateReq;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
+import com.prgms.allen.dining.domain.reservation.event.ReservationChangedEvent;
+import com.prgms.allen.dining.domain.reservation.event.ReservationRollupChangedEvent;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+import com.prgms.allen.dining.global.bulkhead.Bulkhead;
+import com.prgms.allen.dining.global.bulkhead.BulkheadType;
+import com.prgms.allen.dining.global.shard.ShardKey;
 
 @Service
 @Transactional
@@ -24,17 +31,21 @@ public class CustomerReservationStatusUpdateService implements ReservationStatus
 
 	private final ReservationService reservationService;
 	private final SlackNotifyService slackNotifyService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public CustomerReservationStatusUpdateService(
 		ReservationService reservationService,
-		SlackNotifyService slackNotifyService
+		SlackNotifyService slackNotifyService,
+		ApplicationEventPublisher eventPublisher
 	) {
 		this.reservationService = reservationService;
 		this.slackNotifyService = slackNotifyService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
-	public void update(Long reservationId, Long customerId, ReservationStatusUpdateReq statusUpdateReq) {
+	@Bulkhead(BulkheadType.BOOKING)
+	public void update(@ShardKey Long reservationId, Long customerId, ReservationStatusUpdateReq statusUpdateReq) {
 		if (statusUpdateReq.status() != CANCELLED) {
 			throw new UnsupportedOperationException(MessageFormat.format(
 				"Cannot {0} reservation. Not supported yet.", statusUpdateReq.status()
@@ -46,8 +57,13 @@ public class CustomerReservationStatusUpdateService implements ReservationStatus
 
 	private void cancel(Long reservationId, Long customerId) {
 		Reservation findReservation = reservationService.findById(reservationId);
+		ReservationRollupChangedEvent removedEvent = ReservationRollupChangedEvent.removed(findReservation);
 		findReservation.cancel(MemberType.CUSTOMER, customerId);
 		slackNotifyService.notifyCancel(findReservation);
+		eventPublisher.publishEvent(ReservationSlotChangedEvent.released(findReservation));
+		eventPublisher.publishEvent(removedEvent);
+		eventPublisher.publishEvent(ReservationRollupChangedEvent.added(findReservation));
+		eventPublisher.publishEvent(new ReservationChangedEvent(findReservation));
 		log.info("Reservation {}'s status updated to {}", reservationId, findReservation.getStatus());
 	}
 }
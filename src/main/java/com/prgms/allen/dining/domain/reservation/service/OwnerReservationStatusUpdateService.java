@@ -5,6 +5,7 @@ import java.text.MessageFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,12 @@ import com.prgms.allen.dining.domain.notification.slack.SlackNotifyService;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationStatusUpdateReq;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
+import com.prgms.allen.dining.domain.reservation.event.ReservationChangedEvent;
+import com.prgms.allen.dining.domain.reservation.event.ReservationRollupChangedEvent;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+import com.prgms.allen.dining.global.bulkhead.Bulkhead;
+import com.prgms.allen.dining.global.bulkhead.BulkheadType;
+import com.prgms.allen.dining.global.shard.ShardKey;
 
 @Service
 @Transactional
@@ -22,17 +29,21 @@ public class OwnerReservationStatusUpdateService implements ReservationStatusUpd
 
 	private final ReservationService reservationService;
 	private final SlackNotifyService slackNotifyService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public OwnerReservationStatusUpdateService(
 		ReservationService reservationService,
-		SlackNotifyService slackNotifyService
+		SlackNotifyService slackNotifyService,
+		ApplicationEventPublisher eventPublisher
 	) {
 		this.reservationService = reservationService;
 		this.slackNotifyService = slackNotifyService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
-	public void update(Long reservationId, Long ownerId, ReservationStatusUpdateReq updateReq) {
+	@Bulkhead(BulkheadType.BOOKING)
+	public void update(@ShardKey Long reservationId, Long ownerId, ReservationStatusUpdateReq updateReq) {
 		switch (updateReq.status()) {
 			case CONFIRMED -> confirm(reservationId, ownerId);
 			case CANCELLED -> cancel(reservationId, ownerId);
@@ -47,27 +58,46 @@ public class OwnerReservationStatusUpdateService implements ReservationStatusUpd
 
 	private void confirm(Long reservationId, Long ownerId) {
 		Reservation findReservation = reservationService.findById(reservationId);
+		ReservationRollupChangedEvent removedEvent = ReservationRollupChangedEvent.removed(findReservation);
 		findReservation.confirm(ownerId);
 		slackNotifyService.notifyConfirm(findReservation);
+		eventPublisher.publishEvent(removedEvent);
+		eventPublisher.publishEvent(ReservationRollupChangedEvent.added(findReservation));
+		eventPublisher.publishEvent(new ReservationChangedEvent(findReservation));
 		log.info("Reservation {}'s status updated to {}", reservationId, findReservation.getStatus());
 	}
 
 	private void cancel(Long reservationId, Long ownerId) {
 		Reservation findReservation = reservationService.findById(reservationId);
+		ReservationRollupChangedEvent removedEvent = ReservationRollupChangedEvent.removed(findReservation);
 		findReservation.cancel(MemberType.OWNER, ownerId);
 		slackNotifyService.notifyCancel(findReservation);
+		eventPublisher.publishEvent(ReservationSlotChangedEvent.released(findReservation));
+		eventPublisher.publishEvent(removedEvent);
+		eventPublisher.publishEvent(ReservationRollupChangedEvent.added(findReservation));
+		eventPublisher.publishEvent(new ReservationChangedEvent(findReservation));
 		log.info("Reservation {}'s status updated to {}", reservationId, findReservation.getStatus());
 	}
 
 	private void visit(Long reservationId, Long ownerId) {
 		Reservation findReservation = reservationService.findById(reservationId);
+		ReservationRollupChangedEvent removedEvent = ReservationRollupChangedEvent.removed(findReservation);
 		findReservation.visit(ownerId);
+		eventPublisher.publishEvent(ReservationSlotChangedEvent.released(findReservation));
+		eventPublisher.publishEvent(removedEvent);
+		eventPublisher.publishEvent(ReservationRollupChangedEvent.added(findReservation));
+		eventPublisher.publishEvent(new ReservationChangedEvent(findReservation));
 		log.info("Reservation {}'s status updated to {}", reservationId, findReservation.getStatus());
 	}
 
 	private void noShow(Long reservationId, Long ownerId) {
 		Reservation findReservation = reservationService.findById(reservationId);
+		ReservationRollupChangedEvent removedEvent = ReservationRollupChangedEvent.removed(findReservation);
 		findReservation.noShow(ownerId);
+		eventPublisher.publishEvent(ReservationSlotChangedEvent.released(findReservation));
+		eventPublisher.publishEvent(removedEvent);
+		eventPublisher.publishEvent(ReservationRollupChangedEvent.added(findReservation));
+		eventPublisher.publishEvent(new ReservationChangedEvent(findReservation));
 		log.info("Reservation {}'s status updated to {}", reservationId, findReservation.getStatus());
 	}
 }
@@ -0,0 +1,81 @@
+package com.prgms.allen.dining.domain.reservation.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import com.prgms.allen.dining.domain.reservation.dto.ReservationExportProj;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationExportReq;
+import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
+import com.prgms.allen.dining.global.bulkhead.Bulkhead;
+import com.prgms.allen.dining.global.bulkhead.BulkheadType;
+import com.prgms.allen.dining.global.shard.ShardKey;
+
+@Service
+@Transactional(readOnly = true)
+public class ReservationExportService {
+
+	private static final String CSV_HEADER = "reservationId,visitDate,visitTime,visitorCount,status,createdAt\n";
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+	private final ReservationRepository reservationRepository;
+
+	public ReservationExportService(ReservationRepository reservationRepository) {
+		this.reservationRepository = reservationRepository;
+	}
+
+	// 커서에서 한 줄씩 읽어 바로 쓰므로 기간이 길어도 메모리에는 버퍼 하나만 남는다.
+	// 내려받기가 끝날 때까지 커넥션을 잡고 있으므로 다른 경로와 자리를 나눠 쓰지 않는다.
+	@Bulkhead(BulkheadType.BULK)
+	public long exportCsv(@ShardKey Long restaurantId, ReservationExportReq exportReq, OutputStream outputStream)
+		throws IOException {
+		Assert.isTrue(!exportReq.startDate().isAfter(exportReq.endDate()), "startDate must not be after endDate.");
+
+		Writer writer = new BufferedWriter(
+			new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+			WRITE_BUFFER_SIZE
+		);
+		writer.write(CSV_HEADER);
+
+		long rowCount = 0;
+		StringBuilder line = new StringBuilder(64);
+		try (Stream<ReservationExportProj> rows = reservationRepository.streamForExport(
+			restaurantId,
+			exportReq.startDate(),
+			exportReq.endDate(),
+			exportReq.statusesOrAll()
+		)) {
+			Iterator<ReservationExportProj> iterator = rows.iterator();
+			while (iterator.hasNext()) {
+				appendCsvLine(line, iterator.next());
+				writer.append(line);
+				line.setLength(0);
+				rowCount++;
+			}
+		}
+
+		writer.flush();
+		return rowCount;
+	}
+
+	private static void appendCsvLine(StringBuilder line, ReservationExportProj row) {
+		line.append(row.reservationId()).append(',')
+			.append(row.visitDate()).append(',')
+			.append(row.visitTime()).append(',')
+			.append(row.visitorCount()).append(',')
+			.append(row.status()).append(',');
+		if (row.createdAt() != null) {
+			line.append(row.createdAt());
+		}
+		line.append('\n');
+	}
+}
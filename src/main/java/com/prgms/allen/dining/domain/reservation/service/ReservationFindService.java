@@ -1,6 +1,7 @@
 package com.prgms.allen.dining.domain.reservation.service;
 
 import java.text.MessageFormat;
+import java.util.Comparator;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -23,44 +24,42 @@ import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
 import com.prgms.allen.dining.domain.reservation.entity.VisitStatus;
 import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
 import com.prgms.allen.dining.domain.restaurant.RestaurantService;
-import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.global.shard.ShardKey;
+import com.prgms.allen.dining.global.shard.ShardOperations;
 
 @Service
 @Transactional(readOnly = true)
 public class ReservationFindService {
 
+	private static final Comparator<ReservationSimpleResForCustomer> CUSTOMER_RESERVATION_ORDER =
+		Comparator.comparing(ReservationSimpleResForCustomer::visitDateTime);
+
 	private final ReservationRepository reservationRepository;
 	private final RestaurantService restaurantService;
 	private final MemberService memberService;
 	private final ReservationService reservationService;
+	private final ShardOperations shardOperations;
 
 	public ReservationFindService(
 		ReservationRepository reservationRepository,
 		RestaurantService restaurantService,
 		MemberService memberService,
-		ReservationService reservationService
+		ReservationService reservationService,
+		ShardOperations shardOperations
 	) {
 		this.reservationRepository = reservationRepository;
 		this.restaurantService = restaurantService;
 		this.memberService = memberService;
 		this.reservationService = reservationService;
+		this.shardOperations = shardOperations;
 	}
 
-	// TODO: Owner 정보 추가하기
 	public Page<ReservationSimpleResForOwner> getReservations(
-		//ownerId
-		long restaurantId,
+		@ShardKey long restaurantId,
 		ReservationStatus status,
 		Pageable pageable
 	) {
-		final Restaurant restaurant = restaurantService.findById(restaurantId);
-
-		return new PageImpl<>(
-			reservationRepository.findAllByRestaurantAndStatus(restaurant, status, pageable)
-				.stream()
-				.map(ReservationSimpleResForOwner::new)
-				.toList()
-		);
+		return new PageImpl<>(reservationRepository.findSimpleResForOwner(restaurantId, status, pageable));
 	}
 
 	public Page<ReservationSimpleResForCustomer> getReservations(
@@ -70,17 +69,18 @@ public class ReservationFindService {
 	) {
 		final List<ReservationStatus> statuses = status.getStatuses();
 
-		final Member customer = memberService.findCustomerById(customerId);
-
-		return new PageImpl<>(reservationRepository.findAllByCustomerAndStatusIn(customer, statuses, pageable)
-			.stream()
-			.map(ReservationSimpleResForCustomer::new)
-			.toList());
+		// 고객의 예약은 여러 식당, 즉 여러 샤드에 흩어져 있어서 샤드마다 조회한 뒤 방문 일시 순서로 합친다.
+		// 방문 일시가 같으면 샤드 순서, 샤드 안에서는 예약 아이디 순서로 놓이므로 페이지가 바뀌어도 순서가 흔들리지 않는다.
+		return new PageImpl<>(shardOperations.gatherPage(
+			pageable,
+			CUSTOMER_RESERVATION_ORDER,
+			shardPageable -> reservationRepository.findSimpleResForCustomer(customerId, statuses, shardPageable)
+		));
 	}
 
-	public ReservationDetailResForCustomer getReservationDetail(Long reservationId, Long customerId) {
+	public ReservationDetailResForCustomer getReservationDetail(@ShardKey Long reservationId, Long customerId) {
 
-		final Member customer = memberService.findCustomerById(customerId);
+		final Member customer = memberService.getReferenceById(customerId);
 
 		return new ReservationDetailResForCustomer(reservationRepository.findByIdAndCustomer(reservationId, customer)
 			.orElseThrow(() -> new NotFoundResourceException(
@@ -92,7 +92,7 @@ public class ReservationFindService {
 	}
 
 	public ReservationDetailResForOwner getReservationDetail(
-		Long reservationId
+		@ShardKey Long reservationId
 	) {
 		final Reservation reservation = reservationService.findById(reservationId);
 		final CustomerReservationInfoParam customerReservationInfoParam = new CustomerReservationInfoParam(
@@ -11,8 +11,12 @@ import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
 
 import com.prgms.allen.dining.domain.common.NotFoundResourceException;
 import com.prgms.allen.dining.domain.member.MemberService;
@@ -20,17 +24,39 @@ import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.notification.slack.SlackNotifyService;
 import com.prgms.allen.dining.domain.reservation.ReserveFailException;
 import com.prgms.allen.dining.domain.reservation.dto.DateAndTotalVisitCountPerDayProj;
+import com.prgms.allen.dining.domain.reservation.dto.RemainingCapacityPerDateRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableMatrixReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableMatrixRes;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableTimesReq;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableTimesRes;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationCreateReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldConfirmReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldCreateReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationModifyReq;
+import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerVisitDateTimeProj;
 import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerVisitTimeProj;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.reservation.event.ReservationChangedEvent;
+import com.prgms.allen.dining.domain.reservation.event.ReservationRollupChangedEvent;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+import com.prgms.allen.dining.domain.reservation.hold.SeatHold;
+import com.prgms.allen.dining.domain.reservation.hold.SeatHoldShardKeyResolver;
+import com.prgms.allen.dining.domain.reservation.hold.SeatHoldStore;
 import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
+import com.prgms.allen.dining.domain.reservation.slot.ReservationSlot;
+import com.prgms.allen.dining.domain.reservation.slot.SlotLockManager;
 import com.prgms.allen.dining.domain.restaurant.RestaurantService;
 import com.prgms.allen.dining.domain.restaurant.dto.ReservationAvailableDatesRes;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.global.bulkhead.Bulkhead;
+import com.prgms.allen.dining.global.bulkhead.BulkheadType;
+import com.prgms.allen.dining.global.jfr.AvailableDatesQueryEvent;
+import com.prgms.allen.dining.global.jfr.AvailableTimesQueryEvent;
+import com.prgms.allen.dining.global.jfr.ReserveEvent;
+import com.prgms.allen.dining.global.shard.ShardKey;
 
 @Service
 @Transactional(readOnly = true)
@@ -43,40 +69,179 @@ public class ReservationService {
 	private final RestaurantService restaurantService;
 	private final MemberService memberService;
 	private final SlackNotifyService slackNotifyService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SeatHoldStore seatHoldStore;
+	private final SlotLockManager slotLockManager;
 
 	public ReservationService(
 		ReservationRepository reservationRepository,
 		RestaurantService restaurantService,
 		MemberService memberService,
-		SlackNotifyService slackNotifyService
+		SlackNotifyService slackNotifyService,
+		ApplicationEventPublisher eventPublisher,
+		SeatHoldStore seatHoldStore,
+		SlotLockManager slotLockManager
 	) {
 		this.reservationRepository = reservationRepository;
 		this.restaurantService = restaurantService;
 		this.memberService = memberService;
 		this.slackNotifyService = slackNotifyService;
+		this.eventPublisher = eventPublisher;
+		this.seatHoldStore = seatHoldStore;
+		this.slotLockManager = slotLockManager;
 	}
 
 	@Transactional
-	public Long reserve(Long customerId, ReservationCreateReq createRequest) {
-		Member customer = memberService.findCustomerById(customerId);
+	@Bulkhead(BulkheadType.BOOKING)
+	public Long reserve(Long customerId, @ShardKey ReservationCreateReq createRequest) {
+		Member customer = memberService.getReferenceById(customerId);
 		Restaurant restaurant = restaurantService.findById(createRequest.restaurantId());
 
 		ReservationCustomerInput customerInput = createRequest
 			.reservationCustomerInput()
 			.toEntity();
+		ReserveEvent reserveEvent = new ReserveEvent(
+			restaurant.getId(),
+			customerInput.getVisitDateTime(),
+			customerInput.getVisitorCount()
+		);
+		reserveEvent.begin();
+		try {
+			long lockStartNanos = System.nanoTime();
+			slotLockManager.lock(new ReservationSlot(restaurant.getId(), customerInput.getVisitDateTime()));
+			reserveEvent.slotLocked(lockStartNanos);
+			checkAvailableReservation(restaurant, customerInput.getVisitDateTime(), customerInput.getVisitorCount());
+			reserveEvent.accepted();
+		} catch (ReserveFailException e) {
+			reserveEvent.rejected(e.getMessage());
+			throw e;
+		} finally {
+			reserveEvent.commit();
+		}
+
+		return saveReservation(customer, restaurant, customerInput);
+	}
+
+	@Transactional
+	@Bulkhead(BulkheadType.BOOKING)
+	public ReservationHoldRes hold(Long customerId, @ShardKey ReservationHoldCreateReq holdCreateReq) {
+		Restaurant restaurant = restaurantService.findById(holdCreateReq.restaurantId());
+
+		ReservationCustomerInput customerInput = holdCreateReq.toCustomerInput();
+		ReservationSlot slot = new ReservationSlot(restaurant.getId(), customerInput.getVisitDateTime());
+		slotLockManager.lock(slot);
 		checkAvailableReservation(restaurant, customerInput.getVisitDateTime(), customerInput.getVisitorCount());
 
+		return new ReservationHoldRes(seatHoldStore.hold(customerId, slot, customerInput.getVisitorCount()));
+	}
+
+	@Transactional
+	@Bulkhead(BulkheadType.BOOKING)
+	public Long confirmHold(
+		Long customerId,
+		@ShardKey(resolver = SeatHoldShardKeyResolver.class) Long holdId,
+		ReservationHoldConfirmReq confirmReq
+	) {
+		ReservationSlot slot = findHold(customerId, holdId).slot();
+		slotLockManager.lock(slot);
+		// 같은 홀드를 먼저 확정한 요청이 커밋하며 홀드를 풀었을 수 있으므로 잠근 뒤 다시 찾는다.
+		SeatHold seatHold = findHold(customerId, holdId);
+
+		Member customer = memberService.getReferenceById(customerId);
+		Restaurant restaurant = restaurantService.findById(slot.restaurantId());
+
+		ReservationCustomerInput customerInput = new ReservationCustomerInput(
+			slot.visitDateTime(),
+			seatHold.visitorCount(),
+			confirmReq.memo()
+		);
+		checkAvailableVisitDateTime(restaurant, customerInput.getVisitDateTime());
+		checkAvailableVisitorCount(restaurant, customerInput.getVisitDateTime(), customerInput.getVisitorCount(), 0,
+			holdId);
+
+		Long reservationId = saveReservation(customer, restaurant, customerInput);
+		releaseHoldAfterCommit(holdId);
+		return reservationId;
+	}
+
+	public void releaseHold(Long customerId, Long holdId) {
+		SeatHold seatHold = findHold(customerId, holdId);
+		seatHoldStore.release(seatHold.id());
+	}
+
+	// 기존 슬롯과 새 슬롯을 한 트랜잭션에서 함께 잠그고 옮겨서, 취소 후 재예약 사이에 좌석을 뺏기지 않게 한다.
+	// 다른 고객의 예약이나 바꿀 수 없는 예약으로는 슬롯 잠금을 잡지 못하게 먼저 확인한다.
+	@Transactional
+	@Bulkhead(BulkheadType.BOOKING)
+	public void modify(Long customerId, @ShardKey Long reservationId, ReservationModifyReq modifyReq) {
+		Reservation reservation = findById(reservationId);
+		reservation.assertModifiableBy(customerId);
+		Restaurant restaurant = reservation.getRestaurant();
+
+		ReservationCustomerInput customerInput = modifyReq.toCustomerInput(reservation.getMemo());
+		ReservationSlot oldSlot = new ReservationSlot(restaurant.getId(), reservation.getVisitDateTime());
+		ReservationSlot newSlot = new ReservationSlot(restaurant.getId(), customerInput.getVisitDateTime());
+		slotLockManager.lockAll(List.of(oldSlot, newSlot));
+
+		int ownVisitorCount = oldSlot.equals(newSlot) ? reservation.getVisitorCount() : 0;
+		checkAvailableVisitDateTime(restaurant, customerInput.getVisitDateTime());
+		checkAvailableVisitorCount(
+			restaurant,
+			customerInput.getVisitDateTime(),
+			customerInput.getVisitorCount(),
+			ownVisitorCount,
+			null
+		);
+
+		ReservationSlotChangedEvent releasedEvent = ReservationSlotChangedEvent.released(reservation);
+		ReservationRollupChangedEvent removedEvent = ReservationRollupChangedEvent.removed(reservation);
+		reservation.modify(customerId, customerInput);
+
+		slackNotifyService.notifyModify(reservation);
+		eventPublisher.publishEvent(releasedEvent);
+		eventPublisher.publishEvent(ReservationSlotChangedEvent.reserved(reservation));
+		eventPublisher.publishEvent(removedEvent);
+		eventPublisher.publishEvent(ReservationRollupChangedEvent.added(reservation));
+		eventPublisher.publishEvent(new ReservationChangedEvent(reservation));
+	}
+
+	// 롤백되면 홀드를 남겨서 고객이 다시 확정할 수 있게 하고, 커밋 전까지는 다른 요청이 그 좌석을 가져가지 못하게 한다.
+	private void releaseHoldAfterCommit(Long holdId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			seatHoldStore.release(holdId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				seatHoldStore.release(holdId);
+			}
+		});
+	}
+
+	private SeatHold findHold(Long customerId, Long holdId) {
+		return seatHoldStore.find(holdId)
+			.filter(seatHold -> seatHold.isHeldBy(customerId))
+			.orElseThrow(() -> new NotFoundResourceException(MessageFormat.format(
+				"Cannot find SeatHold for holdId={0}, customerId={1}", holdId, customerId
+			)));
+	}
+
+	private Long saveReservation(Member customer, Restaurant restaurant, ReservationCustomerInput customerInput) {
 		Reservation newReservation = new Reservation(customer, restaurant, customerInput);
 		reservationRepository.save(newReservation);
 
 		slackNotifyService.notifyReserve(newReservation);
+		eventPublisher.publishEvent(ReservationSlotChangedEvent.reserved(newReservation));
+		eventPublisher.publishEvent(ReservationRollupChangedEvent.added(newReservation));
+		eventPublisher.publishEvent(new ReservationChangedEvent(newReservation));
 
 		return newReservation.getId();
 	}
 
 	private void checkAvailableReservation(Restaurant restaurant, LocalDateTime visitDateTime, int visitorCount) {
 		checkAvailableVisitDateTime(restaurant, visitDateTime);
-		checkAvailableVisitorCount(restaurant, visitDateTime, visitorCount);
+		checkAvailableVisitorCount(restaurant, visitDateTime, visitorCount, 0, null);
 	}
 
 	private void checkAvailableVisitDateTime(Restaurant restaurant, LocalDateTime visitDateTime) {
@@ -95,12 +260,20 @@ public class ReservationService {
 		}
 	}
 
-	private void checkAvailableVisitorCount(Restaurant restaurant, LocalDateTime visitDateTime, int visitorCount) {
+	private void checkAvailableVisitorCount(
+		Restaurant restaurant,
+		LocalDateTime visitDateTime,
+		int visitorCount,
+		int ownVisitorCount,
+		Long confirmingHoldId
+	) {
+		ReservationSlot slot = new ReservationSlot(restaurant.getId(), visitDateTime);
 		int totalVisitorCount = reservationRepository.countTotalVisitorCount(restaurant,
 			visitDateTime.toLocalDate(),
 			visitDateTime.toLocalTime(),
 			BEFORE_VISIT_STATUSES
-		).orElse(0);
+		).orElse(0) + seatHoldStore.getHeldVisitorCount(slot, confirmingHoldId)
+			- ownVisitorCount;
 
 		boolean isAvailableVisitorCount = restaurant.isAvailableVisitorCount(totalVisitorCount, visitorCount);
 		if (!isAvailableVisitorCount) {
@@ -117,7 +290,7 @@ public class ReservationService {
 		}
 	}
 
-	public Reservation findById(Long id) {
+	public Reservation findById(@ShardKey Long id) {
 		return reservationRepository.findById(id)
 			.orElseThrow(() ->
 				new NotFoundResourceException(MessageFormat.format(
@@ -126,7 +299,15 @@ public class ReservationService {
 			);
 	}
 
-	public ReservationAvailableTimesRes getAvailableTimes(ReservationAvailableTimesReq availableTimesReq) {
+	@Bulkhead(BulkheadType.BROWSING)
+	public ReservationAvailableTimesRes getAvailableTimes(@ShardKey ReservationAvailableTimesReq availableTimesReq) {
+		AvailableTimesQueryEvent queryEvent = new AvailableTimesQueryEvent(
+			availableTimesReq.restaurantId(),
+			availableTimesReq.date(),
+			availableTimesReq.visitorCount()
+		);
+		queryEvent.begin();
+
 		Restaurant restaurant = restaurantService.findById(
 			availableTimesReq.restaurantId()
 		);
@@ -138,6 +319,9 @@ public class ReservationService {
 			restaurant,
 			visitorCountPerTimeMap
 		);
+
+		queryEvent.found(availableTimes.size());
+		queryEvent.commit();
 		return new ReservationAvailableTimesRes(availableTimes);
 	}
 
@@ -180,15 +364,86 @@ public class ReservationService {
 		};
 	}
 
-	public ReservationAvailableDatesRes getAvailableDates(Long restaurantId) {
+	@Bulkhead(BulkheadType.BROWSING)
+	public ReservationAvailableMatrixRes getAvailableMatrix(@ShardKey ReservationAvailableMatrixReq availableMatrixReq) {
+		LocalDate startDate = availableMatrixReq.startDate();
+		LocalDate endDate = availableMatrixReq.endDate();
+		validateMatrixPeriod(startDate, endDate);
+
+		Restaurant restaurant = restaurantService.findById(availableMatrixReq.restaurantId());
+		List<LocalTime> timeTable = restaurant.generateTimeTable();
+
+		Map<LocalDate, Map<LocalTime, Long>> visitorCountPerDateTimeMap = reservationRepository
+			.findVisitorCountPerVisitDateTime(restaurant, startDate, endDate, BEFORE_VISIT_STATUSES)
+			.stream()
+			.collect(Collectors.groupingBy(
+				VisitorCountPerVisitDateTimeProj::visitDate,
+				Collectors.toMap(
+					VisitorCountPerVisitDateTimeProj::visitTime,
+					VisitorCountPerVisitDateTimeProj::totalVisitorCount
+				)
+			));
+
+		List<RemainingCapacityPerDateRes> remainingCapacities = startDate.datesUntil(endDate.plusDays(1))
+			.filter(date -> !restaurant.isClosingDay(date))
+			.map(date -> new RemainingCapacityPerDateRes(
+				date,
+				getRemainingCapacities(
+					restaurant,
+					timeTable,
+					visitorCountPerDateTimeMap.getOrDefault(date, Map.of())
+				)
+			))
+			.toList();
+
+		return new ReservationAvailableMatrixRes(timeTable, remainingCapacities);
+	}
+
+	// 예약 가능한 날짜(getOpenDays)와 같은 범위, 오늘부터 MAX_RESERVE_PERIOD 일 안쪽만 조회할 수 있다.
+	private void validateMatrixPeriod(LocalDate startDate, LocalDate endDate) {
+		LocalDate today = LocalDate.now();
+		Assert.isTrue(
+			!startDate.isBefore(today),
+			MessageFormat.format("startDate {0} must not be before today {1}", startDate, today)
+		);
+		Assert.isTrue(
+			!endDate.isBefore(startDate),
+			MessageFormat.format("endDate {0} must not be before startDate {1}", endDate, startDate)
+		);
+		Assert.isTrue(
+			endDate.isBefore(today.plusDays(MAX_RESERVE_PERIOD)),
+			MessageFormat.format("endDate {0} must be within {1} days from today", endDate, MAX_RESERVE_PERIOD)
+		);
+	}
+
+	private List<Integer> getRemainingCapacities(
+		Restaurant restaurant,
+		List<LocalTime> timeTable,
+		Map<LocalTime, Long> visitorCountPerTimeMap
+	) {
+		return timeTable.stream()
+			.map(time -> Math.max(
+				0,
+				restaurant.getCapacity() - visitorCountPerTimeMap.getOrDefault(time, 0L).intValue()
+			))
+			.toList();
+	}
+
+	@Bulkhead(BulkheadType.BROWSING)
+	public ReservationAvailableDatesRes getAvailableDates(@ShardKey Long restaurantId) {
+		AvailableDatesQueryEvent queryEvent = new AvailableDatesQueryEvent(restaurantId);
+		queryEvent.begin();
+
 		Restaurant restaurant = restaurantService.findById(restaurantId);
 
 		List<LocalDate> notAvailableDates = getReserveNotAvailableDates(restaurant);
 
 		List<LocalDate> canReserveDates = getOpenDays(restaurant);
 
-		return new ReservationAvailableDatesRes(
-			filterReserveNotAvailableDates(notAvailableDates, canReserveDates));
+		List<LocalDate> availableDates = filterReserveNotAvailableDates(notAvailableDates, canReserveDates);
+		queryEvent.found(availableDates.size());
+		queryEvent.commit();
+		return new ReservationAvailableDatesRes(availableDates);
 	}
 
 	private List<LocalDate> filterReserveNotAvailableDates(List<LocalDate> notAvailableDates,
@@ -0,0 +1,20 @@
+package com.prgms.allen.dining.domain.reservation.slot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public record ReservationSlot(
+	Long restaurantId,
+	LocalDate visitDate,
+	LocalTime visitTime
+) {
+
+	public ReservationSlot(Long restaurantId, LocalDateTime visitDateTime) {
+		this(restaurantId, visitDateTime.toLocalDate(), visitDateTime.toLocalTime());
+	}
+
+	public LocalDateTime visitDateTime() {
+		return LocalDateTime.of(visitDate, visitTime);
+	}
+}
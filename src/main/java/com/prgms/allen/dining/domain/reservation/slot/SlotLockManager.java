@@ -0,0 +1,57 @@
+package com.prgms.allen.dining.domain.reservation.slot;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+@Component
+public class SlotLockManager {
+
+	private final ReentrantLock[] stripes;
+
+	public SlotLockManager(@Value("${reservation.slot-lock.stripes:256}") int stripeCount) {
+		this.stripes = new ReentrantLock[stripeCount];
+		Arrays.setAll(stripes, i -> new ReentrantLock());
+	}
+
+	public void lock(ReservationSlot slot) {
+		lockAll(List.of(slot));
+	}
+
+	// 여러 슬롯을 잡을 때는 항상 stripe 번호 순서로 잠가 교착 상태를 피한다.
+	// 잠금은 현재 트랜잭션이 커밋 또는 롤백된 뒤에 풀린다.
+	public void lockAll(Collection<ReservationSlot> slots) {
+		Assert.state(
+			TransactionSynchronizationManager.isSynchronizationActive(),
+			"Slot locks must be acquired within a transaction"
+		);
+
+		int[] stripeIndexes = slots.stream()
+			.mapToInt(this::toStripeIndex)
+			.distinct()
+			.sorted()
+			.toArray();
+
+		for (int stripeIndex : stripeIndexes) {
+			ReentrantLock stripe = stripes[stripeIndex];
+			stripe.lock();
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					stripe.unlock();
+				}
+			});
+		}
+	}
+
+	private int toStripeIndex(ReservationSlot slot) {
+		return Math.floorMod(slot.hashCode(), stripes.length);
+	}
+}
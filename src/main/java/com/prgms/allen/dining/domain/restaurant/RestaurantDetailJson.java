@@ -0,0 +1,12 @@
+package com.prgms.allen.dining.domain.restaurant;
+
+public record RestaurantDetailJson(
+	long version,
+	byte[] json,
+	byte[] gzippedJson
+) {
+
+	public boolean hasGzip() {
+		return gzippedJson != null;
+	}
+}
@@ -0,0 +1,96 @@
+package com.prgms.allen.dining.domain.restaurant;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantDetailResForCustomer;
+import com.prgms.allen.dining.domain.restaurant.dto.VersionedRestaurantDetail;
+
+@Component
+public class RestaurantDetailJsonCache {
+
+	private final RestaurantService restaurantService;
+	private final ObjectMapper objectMapper;
+	private final boolean gzipEnabled;
+	private final Map<Long, RestaurantDetailJson> entries;
+
+	public RestaurantDetailJsonCache(
+		RestaurantService restaurantService,
+		ObjectMapper objectMapper,
+		@Value("${http-cache.restaurant-detail.max-entries:10000}") int maxEntries,
+		@Value("${http-cache.restaurant-detail.gzip:true}") boolean gzipEnabled
+	) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive.");
+
+		this.restaurantService = restaurantService;
+		this.objectMapper = objectMapper;
+		this.gzipEnabled = gzipEnabled;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, RestaurantDetailJson> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	public boolean isGzipEnabled() {
+		return gzipEnabled;
+	}
+
+	// 버전이 바뀐 항목은 다시 직렬화해서 덮어쓰므로 따로 무효화할 필요가 없다.
+	// 요청한 버전이 아니라 본문과 함께 읽은 버전을 붙이므로, 돌려준 값의 버전으로 ETag 를 만들어야 한다.
+	public RestaurantDetailJson get(Long restaurantId, long version) {
+		RestaurantDetailJson cached;
+		synchronized (entries) {
+			cached = entries.get(restaurantId);
+		}
+		if (cached != null && cached.version() >= version) {
+			return cached;
+		}
+
+		VersionedRestaurantDetail loaded = restaurantService.getVersionedRestaurant(restaurantId);
+		RestaurantDetailJson serialized = serialize(loaded.version(), loaded.detail());
+		synchronized (entries) {
+			RestaurantDetailJson current = entries.get(restaurantId);
+			if (current == null || current.version() < serialized.version()) {
+				entries.put(restaurantId, serialized);
+			}
+		}
+		return serialized;
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private RestaurantDetailJson serialize(long version, RestaurantDetailResForCustomer restaurantDetail) {
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(restaurantDetail);
+			return new RestaurantDetailJson(version, json, gzipEnabled ? gzip(json) : null);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static byte[] gzip(byte[] json) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+		try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+			gzipOut.write(json);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+}
@@ -1,15 +1,20 @@
 package com.prgms.allen.dining.domain.restaurant;
 
+import java.util.Collection;
 import java.util.List;
 
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.prgms.allen.dining.domain.restaurant.dto.ClosingDayPerRestaurantProj;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleProj;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantTimeTableProj;
 import com.prgms.allen.dining.domain.restaurant.entity.Menu;
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
@@ -18,15 +23,59 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 
 	boolean existsRestaurantByOwnerId(Long ownerId);
 
+	@Query("select r.id "
+		+ "from Restaurant r "
+		+ "where r.owner.id = :ownerId")
+	Optional<Long> findIdByOwnerId(@Param("ownerId") Long ownerId);
+
+	@Query("select r.owner.id "
+		+ "from Restaurant r "
+		+ "where r.owner.id in :ownerIds")
+	List<Long> findOwnerIdsByOwnerIdIn(@Param("ownerIds") Collection<Long> ownerIds);
+
+	@Query("select r.version "
+		+ "from Restaurant r "
+		+ "where r.id = :restaurantId")
+	Optional<Long> findVersionById(@Param("restaurantId") Long restaurantId);
+
+	@EntityGraph(attributePaths = "closingDays")
 	Optional<Restaurant> findByIdAndOwner(Long id, Member owner);
 
+	@EntityGraph(attributePaths = "menu")
+	Optional<Restaurant> findDetailById(Long id);
+
+	@Query("select new com.prgms.allen.dining.domain.restaurant.dto.RestaurantTimeTableProj("
+		+ "r.id, r.foodType, r.capacity, r.openTime, r.lastOrderTime) "
+		+ "from Restaurant r")
+	List<RestaurantTimeTableProj> findAllTimeTables();
+
+	@Query("select new com.prgms.allen.dining.domain.restaurant.dto.ClosingDayPerRestaurantProj("
+		+ "r.id, c.dayOfWeek) "
+		+ "from Restaurant r "
+		+ "join r.closingDays c")
+	List<ClosingDayPerRestaurantProj> findAllClosingDays();
+
 	Page<Restaurant> findAll(Pageable pageable);
 
-	Page<Restaurant> findAllByNameContains(Pageable pageable, String restaurantName);
+	// 목록에는 소개글(LOB)과 사장님 정보가 필요 없으므로 화면에 쓰는 컬럼만 가져온다.
+	// 샤드마다 읽은 앞부분을 합칠 때와 같은 순서로 읽어야 하므로, 정렬은 호출하는 쪽이 Pageable 로 넘긴다.
+	@Query("select new com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleProj("
+		+ "r.id, r.foodType, r.name, r.location) "
+		+ "from Restaurant r")
+	List<RestaurantSimpleProj> findAllSimple(Pageable pageable);
 
-	@Query("select m "
+	@Query("select new com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleProj("
+		+ "r.id, r.foodType, r.name, r.location) "
 		+ "from Restaurant r "
-		+ "join r.menu m "
-		+ "where r.id = :id")
+		+ "where r.name like concat('%', :restaurantName, '%')")
+	List<RestaurantSimpleProj> findAllSimpleByNameContains(
+		Pageable pageable,
+		@Param("restaurantName") String restaurantName
+	);
+
+	@Query("select m "
+		+ "from Menu m "
+		+ "where m.restaurant.id = :id "
+		+ "order by m.displayOrder")
 	List<Menu> getMenus(Pageable pageable, @Param("id") Long id);
 }
@@ -1,13 +1,20 @@
 package com.prgms.allen.dining.domain.restaurant;
 
 import java.text.MessageFormat;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import com.prgms.allen.dining.domain.common.NotFoundResourceException;
 import com.prgms.allen.dining.domain.member.MemberService;
@@ -18,31 +25,66 @@ import com.prgms.allen.dining.domain.restaurant.dto.MenuSimpleRes;
 import com.prgms.allen.dining.domain.restaurant.dto.RestaurantCreateReq;
 import com.prgms.allen.dining.domain.restaurant.dto.RestaurantDetailResForCustomer;
 import com.prgms.allen.dining.domain.restaurant.dto.RestaurantDetailResForOwner;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleProj;
 import com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleRes;
+import com.prgms.allen.dining.domain.restaurant.dto.VersionedRestaurantDetail;
 import com.prgms.allen.dining.domain.restaurant.entity.ClosingDay;
 import com.prgms.allen.dining.domain.restaurant.entity.Menu;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.domain.restaurant.event.RestaurantCreatedEvent;
+import com.prgms.allen.dining.global.bulkhead.Bulkhead;
+import com.prgms.allen.dining.global.bulkhead.BulkheadType;
+import com.prgms.allen.dining.global.shard.ShardKey;
+import com.prgms.allen.dining.global.shard.ShardOperations;
 
 @Service
 @Transactional(readOnly = true)
 public class RestaurantService {
 
+	// 점주 상세 화면에는 메뉴를 미리보기로 앞의 몇 개만 보여준다.
+	private static final Pageable MENU_PREVIEW_PAGE = PageRequest.of(0, 4);
+	// 고객이 목록을 정렬할 수 있는 속성. 샤드마다 읽은 결과를 DB 정렬과 같은 순서로 합치도록 비교자를 함께 둔다.
+	private static final Map<String, Comparator<RestaurantSimpleProj>> SORTABLE_PROPERTIES = Map.of(
+		"id", Comparator.comparing(RestaurantSimpleProj::restaurantId),
+		"name", Comparator.comparing(RestaurantSimpleProj::name),
+		"foodType", Comparator.comparing(restaurant -> restaurant.foodType().name()),
+		"location", Comparator.comparing(RestaurantSimpleProj::location)
+	);
+	private static final Sort.Order TIE_BREAKER = Sort.Order.asc("id");
+
 	private final RestaurantRepository restaurantRepository;
 	private final MemberService memberService;
-
-	public RestaurantService(RestaurantRepository restaurantRepository, MemberService memberService) {
+	private final ApplicationEventPublisher eventPublisher;
+	private final ShardOperations shardOperations;
+
+	public RestaurantService(
+		RestaurantRepository restaurantRepository,
+		MemberService memberService,
+		ApplicationEventPublisher eventPublisher,
+		ShardOperations shardOperations
+	) {
 		this.restaurantRepository = restaurantRepository;
 		this.memberService = memberService;
+		this.eventPublisher = eventPublisher;
+		this.shardOperations = shardOperations;
 	}
 
-	public Restaurant findById(Long restaurantId) {
+	public Restaurant findById(@ShardKey Long restaurantId) {
 		return restaurantRepository.findById(restaurantId)
 			.orElseThrow(() -> new NotFoundResourceException(
 				MessageFormat.format("Cannot find Restaurant entity for restaurant id = {0}", restaurantId)
 			));
 	}
 
-	public void validateRestaurantExists(long restaurantId) {
+	public Optional<Long> findIdByOwnerId(Long ownerId) {
+		return shardOperations.gather(() -> restaurantRepository.findIdByOwnerId(ownerId)
+				.stream()
+				.toList())
+			.stream()
+			.findFirst();
+	}
+
+	public void validateRestaurantExists(@ShardKey long restaurantId) {
 		if (!restaurantRepository.existsById(restaurantId)) {
 			throw new NotFoundResourceException(
 				MessageFormat.format("Cannot find Restaurant entity for restaurant id = {0}", restaurantId)
@@ -51,7 +93,7 @@ public class RestaurantService {
 	}
 
 	@Transactional
-	public long save(RestaurantCreateReq restaurantCreateReq, Long ownerId) {
+	public long save(RestaurantCreateReq restaurantCreateReq, @ShardKey Long ownerId) {
 
 		validAlreadyHasRestaurant(ownerId);
 
@@ -59,21 +101,39 @@ public class RestaurantService {
 		final Restaurant restaurant = restaurantRepository.save(
 			restaurantCreateReq.toEntity(owner)
 		);
+		eventPublisher.publishEvent(new RestaurantCreatedEvent(restaurant));
 
 		return restaurant.getId();
 	}
 
-	public RestaurantDetailResForCustomer getRestaurant(Long restaurantId) {
-		Restaurant restaurant = findById(restaurantId);
+	@Bulkhead(BulkheadType.BROWSING)
+	public RestaurantDetailResForCustomer getRestaurant(@ShardKey Long restaurantId) {
+		return toDetailResForCustomer(findDetailById(restaurantId));
+	}
+
+	// 본문과 버전을 같은 행에서 함께 읽으므로, 본문이 다른 버전으로 캐시되지 않는다.
+	@Bulkhead(BulkheadType.BROWSING)
+	public VersionedRestaurantDetail getVersionedRestaurant(@ShardKey Long restaurantId) {
+		Restaurant restaurant = findDetailById(restaurantId);
+		return new VersionedRestaurantDetail(restaurant.getVersion(), toDetailResForCustomer(restaurant));
+	}
 
+	private Restaurant findDetailById(Long restaurantId) {
+		return restaurantRepository.findDetailById(restaurantId)
+			.orElseThrow(() -> new NotFoundResourceException(
+				MessageFormat.format("Cannot find Restaurant entity for restaurant id = {0}", restaurantId)
+			));
+	}
+
+	private RestaurantDetailResForCustomer toDetailResForCustomer(Restaurant restaurant) {
 		return new RestaurantDetailResForCustomer(restaurant,
 			toMenuSimpleResList(restaurant.getMenu()),
 			toClosingDayResList(restaurant.getClosingDays())
 		);
 	}
 
-	public RestaurantDetailResForOwner getRestaurant(Long restaurantId, Long ownerId) {
-		Member owner = memberService.findOwnerById(ownerId);
+	public RestaurantDetailResForOwner getRestaurant(@ShardKey Long restaurantId, Long ownerId) {
+		Member owner = memberService.getReferenceById(ownerId);
 
 		Restaurant restaurant = restaurantRepository.findByIdAndOwner(restaurantId, owner)
 			.orElseThrow(() -> {
@@ -84,7 +144,7 @@ public class RestaurantService {
 			});
 
 		return new RestaurantDetailResForOwner(restaurant,
-			toMenuSimpleResList(restaurant.getMinorMenu()),
+			toMenuSimpleResList(restaurantRepository.getMenus(MENU_PREVIEW_PAGE, restaurantId)),
 			toClosingDayResList(restaurant.getClosingDays())
 		);
 	}
@@ -97,23 +157,68 @@ public class RestaurantService {
 		}
 	}
 
+	@Bulkhead(BulkheadType.BROWSING)
 	public Page<RestaurantSimpleRes> getRestaurantList(Pageable pageable) {
+		Sort sort = toRestaurantSort(pageable.getSort());
 
-		return new PageImpl<>(restaurantRepository.findAll(pageable)
+		return new PageImpl<>(shardOperations.gatherPage(
+				pageable,
+				toRestaurantOrder(sort),
+				shardPageable -> restaurantRepository.findAllSimple(withSort(shardPageable, sort))
+			)
 			.stream()
 			.map(RestaurantSimpleRes::new)
 			.toList());
 	}
 
+	@Bulkhead(BulkheadType.BROWSING)
 	public Page<RestaurantSimpleRes> getRestaurantsContains(Pageable pageable, String restaurantName) {
-
-		return new PageImpl<>(restaurantRepository.findAllByNameContains(pageable, restaurantName)
+		Sort sort = toRestaurantSort(pageable.getSort());
+
+		return new PageImpl<>(shardOperations.gatherPage(
+				pageable,
+				toRestaurantOrder(sort),
+				shardPageable -> restaurantRepository.findAllSimpleByNameContains(
+					withSort(shardPageable, sort),
+					restaurantName
+				)
+			)
 			.stream()
 			.map(RestaurantSimpleRes::new)
 			.toList());
 	}
 
-	public Page<MenuDetailRes> getMenus(Pageable pageable, Long id) {
+	@Bulkhead(BulkheadType.BROWSING)
+	// 정렬 값이 같은 식당끼리도 순서가 정해지도록 마지막에 아이디 순서를 붙인다.
+	private static Sort toRestaurantSort(Sort sort) {
+		sort.forEach(order -> Assert.isTrue(SORTABLE_PROPERTIES.containsKey(order.getProperty()),
+			MessageFormat.format("Cannot sort restaurants by {0}. Sortable properties are {1}.",
+				order.getProperty(), SORTABLE_PROPERTIES.keySet())));
+
+		if (sort.getOrderFor(TIE_BREAKER.getProperty()) != null) {
+			return sort;
+		}
+		return sort.and(Sort.by(TIE_BREAKER));
+	}
+
+	private static Comparator<RestaurantSimpleProj> toRestaurantOrder(Sort sort) {
+		return sort.stream()
+			.map(order -> order.isAscending()
+				? SORTABLE_PROPERTIES.get(order.getProperty())
+				: SORTABLE_PROPERTIES.get(order.getProperty()).reversed())
+			.reduce(Comparator::thenComparing)
+			.orElseThrow();
+	}
+
+	private static Pageable withSort(Pageable pageable, Sort sort) {
+		if (pageable.isUnpaged()) {
+			return pageable;
+		}
+		return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+	}
+
+	@Bulkhead(BulkheadType.BROWSING)
+	public Page<MenuDetailRes> getMenus(Pageable pageable, @ShardKey Long id) {
 
 		return new PageImpl<>(restaurantRepository.getMenus(pageable, id)
 			.stream()
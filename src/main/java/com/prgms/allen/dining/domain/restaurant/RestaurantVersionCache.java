@@ -0,0 +1,104 @@
+package com.prgms.allen.dining.domain.restaurant;
+
+import java.text.MessageFormat;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.prgms.allen.dining.domain.common.NotFoundResourceException;
+import com.prgms.allen.dining.global.shard.ShardKey;
+
+@Component
+public class RestaurantVersionCache {
+
+	private final Map<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+	private final RestaurantRepository restaurantRepository;
+	private final Duration ttl;
+	private final Clock clock;
+
+	@Autowired
+	public RestaurantVersionCache(
+		RestaurantRepository restaurantRepository,
+		@Value("${restaurant.version-cache.ttl-seconds:60}") long ttlSeconds
+	) {
+		this(restaurantRepository, Duration.ofSeconds(ttlSeconds), Clock.systemDefaultZone());
+	}
+
+	public RestaurantVersionCache(RestaurantRepository restaurantRepository, Duration ttl, Clock clock) {
+		this.restaurantRepository = restaurantRepository;
+		this.ttl = ttl;
+		this.clock = clock;
+	}
+
+	// 캐시에 있으면 DB 를 거치지 않고 버전을 돌려준다.
+	public long getVersion(@ShardKey Long restaurantId) {
+		CachedVersion cached = versions.get(restaurantId);
+		if (cached != null && !cached.isExpired(clock.instant())) {
+			return cached.version();
+		}
+
+		long loadedVersion = restaurantRepository.findVersionById(restaurantId)
+			.orElseThrow(() -> new NotFoundResourceException(
+				MessageFormat.format("Cannot find Restaurant entity for restaurant id = {0}", restaurantId)
+			));
+		return store(restaurantId, loadedVersion);
+	}
+
+	// 버전은 늘어나기만 하므로, 커밋 전에 옛 버전을 읽은 요청이 늦게 채워도 커밋 뒤에 넣은 새 버전을 덮지 못한다.
+	public void update(Long restaurantId, long version) {
+		versions.remove(restaurantId);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			store(restaurantId, version);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					store(restaurantId, version);
+				} else {
+					versions.remove(restaurantId);
+				}
+			}
+		});
+	}
+
+	// 삭제 커밋 전에 옛 버전을 다시 채운 요청이 있어도 TTL 이 지나면 사라진다.
+	public void evict(Long restaurantId) {
+		versions.remove(restaurantId);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					versions.remove(restaurantId);
+				}
+			});
+		}
+	}
+
+	private long store(Long restaurantId, long version) {
+		return versions.merge(restaurantId, new CachedVersion(version, clock.instant().plus(ttl)), CachedVersion::newer)
+			.version();
+	}
+
+	private record CachedVersion(long version, Instant expiresAt) {
+
+		private boolean isExpired(Instant now) {
+			return !now.isBefore(expiresAt);
+		}
+
+		private CachedVersion newer(CachedVersion other) {
+			return version > other.version ? this : other;
+		}
+	}
+}
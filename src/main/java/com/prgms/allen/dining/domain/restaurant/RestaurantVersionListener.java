@@ -0,0 +1,25 @@
+package com.prgms.allen.dining.domain.restaurant;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+
+public class RestaurantVersionListener {
+
+	private final RestaurantVersionCache restaurantVersionCache;
+
+	public RestaurantVersionListener(RestaurantVersionCache restaurantVersionCache) {
+		this.restaurantVersionCache = restaurantVersionCache;
+	}
+
+	@PostUpdate
+	public void updateVersion(Restaurant restaurant) {
+		restaurantVersionCache.update(restaurant.getId(), restaurant.getVersion());
+	}
+
+	@PostRemove
+	public void evictVersion(Restaurant restaurant) {
+		restaurantVersionCache.evict(restaurant.getId());
+	}
+}
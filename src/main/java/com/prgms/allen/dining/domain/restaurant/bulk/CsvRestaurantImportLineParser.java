@@ -0,0 +1,118 @@
+package com.prgms.allen.dining.domain.restaurant.bulk;
+
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.prgms.allen.dining.domain.restaurant.dto.ClosingDayCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.MenuCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportRow;
+import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
+
+/**
+ * 한 줄에 식당 하나를 담는다. 첫 줄은 헤더로 보고 건너뛴다.
+ * <pre>
+ * ownerNickname,foodType,name,capacity,openTime,lastOrderTime,location,description,phone,closingDays,menus
+ * </pre>
+ * ownerNickname 은 이미 가입한 점주의 닉네임이다. closingDays 는 MONDAY;SUNDAY 처럼 ; 로, menus 는 이름:가격:설명 을 | 로 이어 붙인다.
+ */
+class CsvRestaurantImportLineParser implements RestaurantImportLineParser {
+
+	private static final int COLUMN_COUNT = 11;
+
+	@Override
+	public boolean hasHeader() {
+		return true;
+	}
+
+	@Override
+	public RestaurantImportRow parse(String line) {
+		List<String> columns = split(line);
+		Assert.isTrue(columns.size() == COLUMN_COUNT,
+			MessageFormat.format("Row must have {0} columns, but has {1}.", COLUMN_COUNT, columns.size()));
+
+		RestaurantCreateReq restaurant = new RestaurantCreateReq(
+			FoodType.valueOf(columns.get(1)),
+			columns.get(2),
+			Integer.parseInt(columns.get(3)),
+			LocalTime.parse(columns.get(4)),
+			LocalTime.parse(columns.get(5)),
+			columns.get(6),
+			StringUtils.hasText(columns.get(7)) ? columns.get(7) : null,
+			columns.get(8),
+			toMenuList(columns.get(10)),
+			toClosingDays(columns.get(9))
+		);
+		return new RestaurantImportRow(columns.get(0), restaurant);
+	}
+
+	private static List<ClosingDayCreateReq> toClosingDays(String column) {
+		if (!StringUtils.hasText(column)) {
+			return List.of();
+		}
+		return Arrays.stream(column.split(";"))
+			.map(String::trim)
+			.map(dayOfWeek -> new ClosingDayCreateReq(DayOfWeek.valueOf(dayOfWeek)))
+			.toList();
+	}
+
+	private static List<MenuCreateReq> toMenuList(String column) {
+		if (!StringUtils.hasText(column)) {
+			return List.of();
+		}
+		return Arrays.stream(column.split("\\|"))
+			.map(CsvRestaurantImportLineParser::toMenu)
+			.toList();
+	}
+
+	private static MenuCreateReq toMenu(String menu) {
+		String[] parts = menu.split(":", 3);
+		Assert.isTrue(parts.length >= 2, MessageFormat.format("Menu {0} must be name:price[:description].", menu));
+
+		return new MenuCreateReq(
+			parts[0],
+			new BigInteger(parts[1].trim()),
+			parts.length == 3 ? parts[2] : null
+		);
+	}
+
+	// 큰따옴표로 감싼 필드 안의 쉼표와 "" 를 처리한다. 필드 안의 줄바꿈은 지원하지 않는다.
+	static List<String> split(String line) {
+		List<String> columns = new ArrayList<>(COLUMN_COUNT);
+		StringBuilder column = new StringBuilder();
+		boolean quoted = false;
+
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c != '"') {
+					column.append(c);
+				} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					column.append('"');
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				columns.add(column.toString());
+				column.setLength(0);
+			} else {
+				column.append(c);
+			}
+		}
+
+		Assert.isTrue(!quoted, "Quoted column is not closed.");
+		columns.add(column.toString());
+		return columns;
+	}
+}
@@ -0,0 +1,32 @@
+package com.prgms.allen.dining.domain.restaurant.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportRow;
+
+/**
+ * 한 줄에 {"ownerNickname": "...", "restaurant": {...}} 형태의 JSON 객체 하나를 담는다.
+ * ownerNickname 은 이미 가입한 점주의 닉네임, restaurant 는 식당 등록 요청과 같은 모양이다.
+ */
+class NdjsonRestaurantImportLineParser implements RestaurantImportLineParser {
+
+	private final ObjectMapper objectMapper;
+
+	NdjsonRestaurantImportLineParser(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public boolean hasHeader() {
+		return false;
+	}
+
+	@Override
+	public RestaurantImportRow parse(String line) {
+		try {
+			return objectMapper.readValue(line, RestaurantImportRow.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException(e.getOriginalMessage(), e);
+		}
+	}
+}
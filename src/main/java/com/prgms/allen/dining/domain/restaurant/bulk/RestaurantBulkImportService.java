@@ -0,0 +1,159 @@
+package com.prgms.allen.dining.domain.restaurant.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportErrorRes;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportRes;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportRow;
+import com.prgms.allen.dining.global.bulkhead.Bulkhead;
+import com.prgms.allen.dining.global.bulkhead.BulkheadType;
+
+@Service
+public class RestaurantBulkImportService {
+
+	private static final Logger log = LoggerFactory.getLogger(RestaurantBulkImportService.class);
+
+	private final RestaurantImportWriter restaurantImportWriter;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+	private final int batchSize;
+
+	public RestaurantBulkImportService(
+		RestaurantImportWriter restaurantImportWriter,
+		Validator validator,
+		ObjectMapper objectMapper,
+		@Value("${restaurant.bulk-import.batch-size:200}") int batchSize
+	) {
+		Assert.isTrue(batchSize > 0, "batchSize must be positive.");
+
+		this.restaurantImportWriter = restaurantImportWriter;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+		this.batchSize = batchSize;
+	}
+
+	@Bulkhead(BulkheadType.BULK)
+	public RestaurantImportRes importCsv(InputStream inputStream) throws IOException {
+		return importRows(inputStream, new CsvRestaurantImportLineParser());
+	}
+
+	@Bulkhead(BulkheadType.BULK)
+	public RestaurantImportRes importNdjson(InputStream inputStream) throws IOException {
+		return importRows(inputStream, new NdjsonRestaurantImportLineParser(objectMapper));
+	}
+
+	// 요청 본문을 줄 단위로 읽어서 batchSize 만큼 모이면 저장하므로 한 번에 들고 있는 줄은 batchSize 개를 넘지 않는다.
+	private RestaurantImportRes importRows(InputStream inputStream, RestaurantImportLineParser parser)
+		throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		List<RestaurantImportErrorRes> errors = new ArrayList<>();
+		List<RestaurantImportLine> chunk = new ArrayList<>(batchSize);
+		boolean headerPending = parser.hasHeader();
+		long lineNumber = 0;
+		int totalCount = 0;
+		int importedCount = 0;
+
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (line.isBlank()) {
+				continue;
+			}
+			if (headerPending) {
+				headerPending = false;
+				continue;
+			}
+
+			totalCount++;
+			try {
+				RestaurantImportRow row = parser.parse(line);
+				List<String> violations = validate(row);
+				if (!violations.isEmpty()) {
+					errors.add(new RestaurantImportErrorRes(lineNumber, String.join(", ", violations)));
+					continue;
+				}
+				chunk.add(new RestaurantImportLine(lineNumber, row));
+			} catch (IllegalArgumentException | IllegalStateException | DateTimeException e) {
+				errors.add(new RestaurantImportErrorRes(lineNumber, e.getMessage()));
+				continue;
+			}
+
+			if (chunk.size() >= batchSize) {
+				importedCount += write(chunk, errors);
+				chunk.clear();
+			}
+		}
+		importedCount += write(chunk, errors);
+
+		return new RestaurantImportRes(totalCount, importedCount, errors);
+	}
+
+	private int write(List<RestaurantImportLine> chunk, List<RestaurantImportErrorRes> errors) {
+		if (chunk.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			List<RestaurantImportErrorRes> chunkErrors = restaurantImportWriter.write(chunk);
+			errors.addAll(chunkErrors);
+			return chunk.size() - chunkErrors.size();
+		} catch (DataAccessException e) {
+			log.warn("Failed to write restaurant import chunk from line {}.", chunk.get(0).lineNumber(), e);
+			String message = e.getMostSpecificCause().getMessage();
+			chunk.forEach(line -> errors.add(new RestaurantImportErrorRes(line.lineNumber(), message)));
+			return 0;
+		}
+	}
+
+	// RestaurantCreateReq 의 메뉴와 휴무일 목록은 @Valid 가 없어서 원소를 따로 검사한다.
+	private List<String> validate(RestaurantImportRow row) {
+		List<String> violations = new ArrayList<>(toMessages(validator.validate(row)));
+
+		RestaurantCreateReq restaurant = row.restaurant();
+		if (restaurant == null) {
+			return violations;
+		}
+		List<Object> elements = new ArrayList<>();
+		if (restaurant.menuList() != null) {
+			elements.addAll(restaurant.menuList());
+		}
+		if (restaurant.closingDays() != null) {
+			elements.addAll(restaurant.closingDays());
+		}
+		for (Object element : elements) {
+			if (element == null) {
+				violations.add("menuList and closingDays must not contain null.");
+				continue;
+			}
+			violations.addAll(toMessages(validator.validate(element)));
+		}
+		return violations;
+	}
+
+	private static <T> List<String> toMessages(Set<ConstraintViolation<T>> violations) {
+		return violations.stream()
+			.map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+			.sorted()
+			.toList();
+	}
+}
@@ -0,0 +1,9 @@
+package com.prgms.allen.dining.domain.restaurant.bulk;
+
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportRow;
+
+record RestaurantImportLine(
+	long lineNumber,
+	RestaurantImportRow row
+) {
+}
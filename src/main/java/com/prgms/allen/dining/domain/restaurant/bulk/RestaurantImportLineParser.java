@@ -0,0 +1,11 @@
+package com.prgms.allen.dining.domain.restaurant.bulk;
+
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportRow;
+
+interface RestaurantImportLineParser {
+
+	boolean hasHeader();
+
+	// 형식이 잘못된 줄은 IllegalArgumentException 으로 알린다.
+	RestaurantImportRow parse(String line);
+}
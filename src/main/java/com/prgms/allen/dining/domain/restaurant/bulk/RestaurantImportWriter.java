@@ -0,0 +1,198 @@
+package com.prgms.allen.dining.domain.restaurant.bulk;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.prgms.allen.dining.domain.member.MemberRepository;
+import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.member.entity.MemberType;
+import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
+import com.prgms.allen.dining.domain.restaurant.dto.ClosingDayCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.MenuCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportErrorRes;
+import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.domain.restaurant.event.RestaurantCreatedEvent;
+import com.prgms.allen.dining.global.shard.ShardOperations;
+
+@Component
+class RestaurantImportWriter {
+
+	private static final Logger log = LoggerFactory.getLogger(RestaurantImportWriter.class);
+
+	private static final String INSERT_MENU_SQL = "insert into menu "
+		+ "(restaurant_id, display_order, name, price, description) "
+		+ "values (?, ?, ?, ?, ?)";
+	private static final String INSERT_CLOSING_DAY_SQL = "insert into closing_day "
+		+ "(restaurant_id, day_of_week) "
+		+ "values (?, ?)";
+
+	private final MemberRepository memberRepository;
+	private final RestaurantRepository restaurantRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManager entityManager;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ShardOperations shardOperations;
+
+	RestaurantImportWriter(
+		MemberRepository memberRepository,
+		RestaurantRepository restaurantRepository,
+		JdbcTemplate jdbcTemplate,
+		EntityManager entityManager,
+		ApplicationEventPublisher eventPublisher,
+		ShardOperations shardOperations
+	) {
+		this.memberRepository = memberRepository;
+		this.restaurantRepository = restaurantRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.entityManager = entityManager;
+		this.eventPublisher = eventPublisher;
+		this.shardOperations = shardOperations;
+	}
+
+	/**
+	 * 한 묶음의 오류를 돌려준다. 점주 계정은 만들지 않고, 가입한 점주 가운데 어느 샤드에도 식당이 없는 점주에게만 식당을 등록한다.
+	 * 식당은 점주 아이디로 정한 샤드에 있어야 하므로, 점주의 샤드별로 나눠 샤드마다 한 트랜잭션으로 저장한다.
+	 */
+	public List<RestaurantImportErrorRes> write(List<RestaurantImportLine> lines) {
+		List<RestaurantImportErrorRes> errors = new ArrayList<>();
+		Map<String, Member> owners = memberRepository.findAllByNicknameInAndMemberType(
+				lines.stream()
+					.map(line -> line.row().ownerNickname())
+					.toList(),
+				MemberType.OWNER
+			)
+			.stream()
+			.collect(Collectors.toMap(Member::getNickname, Function.identity()));
+		List<Long> ownerIds = owners.values()
+			.stream()
+			.map(Member::getId)
+			.toList();
+		Set<Long> ownerIdsWithRestaurant = ownerIds.isEmpty()
+			? new HashSet<>()
+			: new HashSet<>(shardOperations.gather(() -> restaurantRepository.findOwnerIdsByOwnerIdIn(ownerIds)));
+		Map<Integer, List<PendingRestaurant>> restaurantsByShard = new TreeMap<>();
+
+		for (RestaurantImportLine line : lines) {
+			RestaurantCreateReq restaurantReq = line.row().restaurant();
+			Member owner = owners.get(line.row().ownerNickname());
+			if (owner == null) {
+				errors.add(new RestaurantImportErrorRes(line.lineNumber(),
+					MessageFormat.format("Cannot find Owner for nickname {0}.", line.row().ownerNickname())));
+				continue;
+			}
+			if (ownerIdsWithRestaurant.contains(owner.getId())) {
+				errors.add(new RestaurantImportErrorRes(line.lineNumber(),
+					MessageFormat.format("Owner {0} already has a restaurant.", owner.getNickname())));
+				continue;
+			}
+
+			Restaurant restaurant;
+			try {
+				restaurant = new Restaurant(
+					owner,
+					restaurantReq.foodType(),
+					restaurantReq.name(),
+					restaurantReq.capacity(),
+					restaurantReq.openTime(),
+					restaurantReq.lastOrderTime(),
+					restaurantReq.location(),
+					restaurantReq.description(),
+					restaurantReq.phone()
+				);
+			} catch (IllegalArgumentException | IllegalStateException e) {
+				errors.add(new RestaurantImportErrorRes(line.lineNumber(), e.getMessage()));
+				continue;
+			}
+
+			ownerIdsWithRestaurant.add(owner.getId());
+			restaurantsByShard.computeIfAbsent(shardOperations.shardOf(owner.getId()), shard -> new ArrayList<>())
+				.add(new PendingRestaurant(line, owner.getId(), restaurant));
+		}
+
+		// 한 샤드의 저장이 실패해도 다른 샤드에 이미 커밋한 식당은 남으므로, 실패한 샤드의 줄만 오류로 돌려준다.
+		for (List<PendingRestaurant> pendingRestaurants : restaurantsByShard.values()) {
+			try {
+				shardOperations.runOnShard(pendingRestaurants.get(0).ownerId(), () -> {
+					writeOnShard(pendingRestaurants);
+					return null;
+				});
+			} catch (DataAccessException e) {
+				log.warn("Failed to write restaurant import lines from line {}.",
+					pendingRestaurants.get(0).line().lineNumber(), e);
+				String message = e.getMostSpecificCause().getMessage();
+				pendingRestaurants.forEach(pending -> errors.add(
+					new RestaurantImportErrorRes(pending.line().lineNumber(), message)
+				));
+			}
+		}
+		return errors;
+	}
+
+	// 식당은 IDENTITY 키가 필요해서 한 건씩 넣고, 메뉴와 휴무일은 JDBC 배치로 한 번에 넣는다.
+	private void writeOnShard(List<PendingRestaurant> pendingRestaurants) {
+		List<Object[]> menuArgs = new ArrayList<>();
+		List<Object[]> closingDayArgs = new ArrayList<>();
+		List<RestaurantCreatedEvent> events = new ArrayList<>(pendingRestaurants.size());
+
+		for (PendingRestaurant pending : pendingRestaurants) {
+			RestaurantCreateReq restaurantReq = pending.line().row().restaurant();
+			Restaurant restaurant = restaurantRepository.save(pending.restaurant());
+
+			List<MenuCreateReq> menuList = nullToEmpty(restaurantReq.menuList());
+			for (int displayOrder = 0; displayOrder < menuList.size(); displayOrder++) {
+				MenuCreateReq menu = menuList.get(displayOrder);
+				menuArgs.add(new Object[] {restaurant.getId(), displayOrder, menu.name(),
+					new BigDecimal(menu.price()), menu.description()});
+			}
+
+			List<DayOfWeek> closingDays = nullToEmpty(restaurantReq.closingDays())
+				.stream()
+				.map(ClosingDayCreateReq::dayOfWeek)
+				.toList();
+			closingDays.forEach(dayOfWeek -> closingDayArgs.add(new Object[] {restaurant.getId(), dayOfWeek.name()}));
+
+			events.add(new RestaurantCreatedEvent(
+				restaurant.getId(),
+				restaurant.getFoodType(),
+				restaurant.getCapacity(),
+				restaurant.getOpenTime(),
+				restaurant.getLastOrderTime(),
+				closingDays
+			));
+		}
+
+		entityManager.flush();
+		jdbcTemplate.batchUpdate(INSERT_MENU_SQL, menuArgs);
+		jdbcTemplate.batchUpdate(INSERT_CLOSING_DAY_SQL, closingDayArgs);
+		// 묶음마다 영속성 컨텍스트를 비워서 가져오는 줄 수와 상관없이 메모리를 일정하게 유지한다.
+		entityManager.clear();
+
+		events.forEach(eventPublisher::publishEvent);
+	}
+
+	private static <T> List<T> nullToEmpty(List<T> list) {
+		return list == null ? List.of() : list;
+	}
+
+	private record PendingRestaurant(RestaurantImportLine line, Long ownerId, Restaurant restaurant) {
+	}
+}
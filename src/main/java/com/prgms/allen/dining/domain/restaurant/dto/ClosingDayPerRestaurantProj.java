@@ -0,0 +1,9 @@
+package com.prgms.allen.dining.domain.restaurant.dto;
+
+import java.time.DayOfWeek;
+
+public record ClosingDayPerRestaurantProj(
+	Long restaurantId,
+	DayOfWeek dayOfWeek
+) {
+}
@@ -0,0 +1,7 @@
+package com.prgms.allen.dining.domain.restaurant.dto;
+
+public record RestaurantImportErrorRes(
+	long lineNumber,
+	String message
+) {
+}
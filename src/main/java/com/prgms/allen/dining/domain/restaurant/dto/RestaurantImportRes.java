@@ -0,0 +1,10 @@
+package com.prgms.allen.dining.domain.restaurant.dto;
+
+import java.util.List;
+
+public record RestaurantImportRes(
+	int totalCount,
+	int importedCount,
+	List<RestaurantImportErrorRes> errors
+) {
+}
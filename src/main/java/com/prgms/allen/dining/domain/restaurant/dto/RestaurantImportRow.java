@@ -0,0 +1,16 @@
+package com.prgms.allen.dining.domain.restaurant.dto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+public record RestaurantImportRow(
+
+	@NotBlank
+	String ownerNickname,
+
+	@NotNull
+	@Valid
+	RestaurantCreateReq restaurant
+) {
+}
@@ -0,0 +1,11 @@
+package com.prgms.allen.dining.domain.restaurant.dto;
+
+import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
+
+public record RestaurantSimpleProj(
+	Long restaurantId,
+	FoodType foodType,
+	String name,
+	String location
+) {
+}
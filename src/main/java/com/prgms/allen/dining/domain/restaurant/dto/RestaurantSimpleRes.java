@@ -12,4 +12,8 @@ public record RestaurantSimpleRes(
 		this(restaurant.getFoodType(), restaurant.getName(), restaurant.getLocation());
 	}
 
+	public RestaurantSimpleRes(RestaurantSimpleProj restaurant) {
+		this(restaurant.foodType(), restaurant.name(), restaurant.location());
+	}
+
 }
@@ -0,0 +1,14 @@
+package com.prgms.allen.dining.domain.restaurant.dto;
+
+import java.time.LocalTime;
+
+import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
+
+public record RestaurantTimeTableProj(
+	Long restaurantId,
+	FoodType foodType,
+	int capacity,
+	LocalTime openTime,
+	LocalTime lastOrderTime
+) {
+}
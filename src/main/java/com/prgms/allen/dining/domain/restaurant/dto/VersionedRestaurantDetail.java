@@ -0,0 +1,7 @@
+package com.prgms.allen.dining.domain.restaurant.dto;
+
+public record VersionedRestaurantDetail(
+	long version,
+	RestaurantDetailResForCustomer detail
+) {
+}
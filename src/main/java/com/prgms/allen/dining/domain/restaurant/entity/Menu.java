@@ -1,14 +1,37 @@
 package com.prgms.allen.dining.domain.restaurant.entity;
 
 import java.math.BigInteger;
-import java.util.Objects;
 
 import javax.persistence.Column;
-import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
-@Embeddable
+@Entity
+@Table(name = "menu", indexes = @Index(
+	name = "idx_menu_restaurant_display_order",
+	columnList = "restaurant_id, display_order"
+))
 public class Menu {
 
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "menu_id")
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "restaurant_id", nullable = false)
+	private Restaurant restaurant;
+
+	@Column(name = "display_order", nullable = false)
+	private int displayOrder;
+
 	@Column(name = "name", length = 30, nullable = false)
 	private String name;
 
@@ -27,6 +50,19 @@ public class Menu {
 		this.description = description;
 	}
 
+	void assign(Restaurant restaurant, int displayOrder) {
+		this.restaurant = restaurant;
+		this.displayOrder = displayOrder;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public int getDisplayOrder() {
+		return displayOrder;
+	}
+
 	public String getName() {
 		return name;
 	}
@@ -38,20 +74,4 @@ public class Menu {
 	public String getDescription() {
 		return description;
 	}
-
-	@Override
-	public boolean equals(Object o) {
-		if (this == o)
-			return true;
-		if (o == null || getClass() != o.getClass())
-			return false;
-		Menu menu = (Menu)o;
-		return Objects.equals(name, menu.name) && Objects.equals(price, menu.price)
-			&& Objects.equals(description, menu.description);
-	}
-
-	@Override
-	public int hashCode() {
-		return Objects.hash(name, price, description);
-	}
 }
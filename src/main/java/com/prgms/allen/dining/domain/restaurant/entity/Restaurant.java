@@ -9,26 +9,34 @@ import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import javax.persistence.CascadeType;
 import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
+import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.OrderBy;
+import javax.persistence.Version;
 
 import org.springframework.util.Assert;
 
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
 import com.prgms.allen.dining.domain.reservation.policy.ReservationPolicy;
+import com.prgms.allen.dining.domain.restaurant.RestaurantVersionListener;
 
 @Entity
+@EntityListeners(RestaurantVersionListener.class)
 public class Restaurant {
 
 	@Id
@@ -36,7 +44,7 @@ public class Restaurant {
 	@Column(name = "restaurant_id")
 	private Long id;
 
-	@OneToOne
+	@OneToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "owner_id")
 	private Member owner;
 
@@ -66,8 +74,12 @@ public class Restaurant {
 	@Column(name = "phone", length = 11, nullable = false)
 	private String phone;
 
-	@ElementCollection
-	@CollectionTable(name = "Menu", joinColumns = @JoinColumn(name = "restaurant_id"))
+	@Version
+	@Column(name = "version", nullable = false)
+	private long version;
+
+	@OneToMany(mappedBy = "restaurant", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OrderBy("displayOrder asc")
 	private List<Menu> menu = new ArrayList<>();
 
 	@ElementCollection
@@ -112,7 +124,7 @@ public class Restaurant {
 		this.location = location;
 		this.description = description;
 		this.phone = phone;
-		this.menu = menuList;
+		assignMenu(menuList);
 		this.closingDays = closingDays;
 	}
 
@@ -120,10 +132,23 @@ public class Restaurant {
 		return id;
 	}
 
+	public long getVersion() {
+		return version;
+	}
+
 	public Member getOwner() {
 		return owner;
 	}
 
+	// 프록시의 getId() 는 사장님 엔티티를 불러오지 않으므로, 소유 확인은 아이디로만 한다.
+	public Long getOwnerId() {
+		return owner.getId();
+	}
+
+	public boolean isOwnedBy(Long ownerId) {
+		return getOwnerId().equals(ownerId);
+	}
+
 	public FoodType getFoodType() {
 		return foodType;
 	}
@@ -164,11 +189,12 @@ public class Restaurant {
 		return List.copyOf(closingDays);
 	}
 
-	public List<Menu> getMinorMenu() {
-		if (menu.size() < 5) {
-			return this.getMenu();
+	private void assignMenu(List<Menu> menuList) {
+		for (int displayOrder = 0; displayOrder < menuList.size(); displayOrder++) {
+			Menu menuItem = menuList.get(displayOrder);
+			menuItem.assign(this, displayOrder);
+			this.menu.add(menuItem);
 		}
-		return this.menu.subList(0, 4);
 	}
 
 	public boolean isAvailable(int totalCount, int requestCount) {
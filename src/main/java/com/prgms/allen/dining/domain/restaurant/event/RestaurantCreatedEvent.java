@@ -0,0 +1,33 @@
+package com.prgms.allen.dining.domain.restaurant.event;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.prgms.allen.dining.domain.restaurant.entity.ClosingDay;
+import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
+import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+
+public record RestaurantCreatedEvent(
+	Long restaurantId,
+	FoodType foodType,
+	int capacity,
+	LocalTime openTime,
+	LocalTime lastOrderTime,
+	List<DayOfWeek> closingDays
+) {
+
+	public RestaurantCreatedEvent(Restaurant restaurant) {
+		this(
+			restaurant.getId(),
+			restaurant.getFoodType(),
+			restaurant.getCapacity(),
+			restaurant.getOpenTime(),
+			restaurant.getLastOrderTime(),
+			restaurant.getClosingDays()
+				.stream()
+				.map(ClosingDay::getDayOfWeek)
+				.toList()
+		);
+	}
+}
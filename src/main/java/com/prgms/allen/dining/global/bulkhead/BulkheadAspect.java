@@ -0,0 +1,69 @@
+package com.prgms.allen.dining.global.bulkhead;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// 트랜잭션이 커넥션을 잡기 전에 자리를 받아야 하므로 트랜잭션보다 먼저 실행한다.
+// 이미 자리를 받은 호출 안에서 다시 들어오면 같은 커넥션을 쓰므로 자리를 더 받지 않는다.
+// @Bulkhead 가 없는 트랜잭션 진입점도 커넥션을 잡으므로 DEFAULT 자리를 받는다.
+// 로그인과 가입은 다른 경로가 몰려도 막히면 안 되므로 어느 자리도 받지 않는다.
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class BulkheadAspect {
+
+	private static final ThreadLocal<BulkheadType> CURRENT_BULKHEAD = new ThreadLocal<>();
+
+	private final Map<BulkheadType, ConnectionBulkhead> bulkheads;
+
+	public BulkheadAspect(List<ConnectionBulkhead> bulkheads) {
+		this.bulkheads = bulkheads.stream()
+			.collect(Collectors.toMap(ConnectionBulkhead::getType, Function.identity()));
+	}
+
+	@Pointcut("@within(org.springframework.transaction.annotation.Transactional) "
+		+ "|| @annotation(org.springframework.transaction.annotation.Transactional)")
+	void transactional() {
+	}
+
+	// 리포지토리 호출은 서비스 트랜잭션 안에서 같은 커넥션을 쓰므로 따로 자리를 받지 않는다.
+	@Pointcut("within(com.prgms.allen.dining..*) && !within(org.springframework.data.repository.Repository+) "
+		+ "&& !within(com.prgms.allen.dining.domain.member..*) && !within(com.prgms.allen.dining.security..*)")
+	void applicationComponent() {
+	}
+
+	@Around("@annotation(bulkhead)")
+	public Object isolate(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+		return proceedIn(joinPoint, bulkhead.value());
+	}
+
+	@Around("transactional() && applicationComponent() "
+		+ "&& !@annotation(com.prgms.allen.dining.global.bulkhead.Bulkhead)")
+	public Object isolateUnannotated(ProceedingJoinPoint joinPoint) throws Throwable {
+		return proceedIn(joinPoint, BulkheadType.DEFAULT);
+	}
+
+	private Object proceedIn(ProceedingJoinPoint joinPoint, BulkheadType type) throws Throwable {
+		if (CURRENT_BULKHEAD.get() != null) {
+			return joinPoint.proceed();
+		}
+
+		ConnectionBulkhead connectionBulkhead = bulkheads.get(type);
+		connectionBulkhead.acquire();
+		CURRENT_BULKHEAD.set(type);
+		try {
+			return joinPoint.proceed();
+		} finally {
+			CURRENT_BULKHEAD.remove();
+			connectionBulkhead.release();
+		}
+	}
+}
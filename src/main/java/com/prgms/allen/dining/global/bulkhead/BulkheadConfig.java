@@ -0,0 +1,107 @@
+package com.prgms.allen.dining.global.bulkhead;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 경로마다 (최대 동시 실행 수 x 호출 하나가 잡는 커넥션 수)의 합이 커넥션 풀 크기를 넘지 않아야
+// 조회가 몰려도 예약 경로 몫의 커넥션이 남는다.
+// 예약 경로는 커밋 뒤 통계 리스너가 REQUIRES_NEW 로 커넥션을 하나 더 잡으므로 호출 하나에 두 개로 센다.
+// 내보내기와 가져오기는 응답이 끝날 때까지 커넥션을 붙잡으므로 따로 묶고, DEFAULT 는 남은 커넥션만큼 받는다.
+@Configuration
+public class BulkheadConfig {
+
+	@Bean
+	public ConnectionBulkhead bookingBulkhead(
+		@Value("${bulkhead.booking.max-concurrent:2}") int maxConcurrent,
+		@Value("${bulkhead.booking.connections-per-call:2}") int connectionsPerCall,
+		@Value("${bulkhead.booking.max-wait-millis:2000}") long maxWaitMillis,
+		MeterRegistry meterRegistry
+	) {
+		return new ConnectionBulkhead(
+			BulkheadType.BOOKING,
+			maxConcurrent,
+			connectionsPerCall,
+			Duration.ofMillis(maxWaitMillis),
+			meterRegistry
+		);
+	}
+
+	@Bean
+	public ConnectionBulkhead browsingBulkhead(
+		@Value("${bulkhead.browsing.max-concurrent:4}") int maxConcurrent,
+		@Value("${bulkhead.browsing.connections-per-call:1}") int connectionsPerCall,
+		@Value("${bulkhead.browsing.max-wait-millis:500}") long maxWaitMillis,
+		MeterRegistry meterRegistry
+	) {
+		return new ConnectionBulkhead(
+			BulkheadType.BROWSING,
+			maxConcurrent,
+			connectionsPerCall,
+			Duration.ofMillis(maxWaitMillis),
+			meterRegistry
+		);
+	}
+
+	@Bean
+	public ConnectionBulkhead bulkBulkhead(
+		@Value("${bulkhead.bulk.max-concurrent:1}") int maxConcurrent,
+		@Value("${bulkhead.bulk.connections-per-call:1}") int connectionsPerCall,
+		@Value("${bulkhead.bulk.max-wait-millis:500}") long maxWaitMillis,
+		MeterRegistry meterRegistry
+	) {
+		return new ConnectionBulkhead(
+			BulkheadType.BULK,
+			maxConcurrent,
+			connectionsPerCall,
+			Duration.ofMillis(maxWaitMillis),
+			meterRegistry
+		);
+	}
+
+	@Bean
+	public ConnectionBulkhead defaultBulkhead(
+		@Qualifier("bookingBulkhead") ConnectionBulkhead bookingBulkhead,
+		@Qualifier("browsingBulkhead") ConnectionBulkhead browsingBulkhead,
+		@Qualifier("bulkBulkhead") ConnectionBulkhead bulkBulkhead,
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+		@Value("${bulkhead.default.max-wait-millis:1000}") long maxWaitMillis,
+		MeterRegistry meterRegistry
+	) {
+		int leftConnections = maximumPoolSize - bookingBulkhead.getMaxConnections()
+			- browsingBulkhead.getMaxConnections() - bulkBulkhead.getMaxConnections();
+		Assert.state(leftConnections > 0, () -> MessageFormat.format(
+			"No connections are left for the default bulkhead in a pool of {0}.", maximumPoolSize
+		));
+		return new ConnectionBulkhead(
+			BulkheadType.DEFAULT,
+			leftConnections,
+			1,
+			Duration.ofMillis(maxWaitMillis),
+			meterRegistry
+		);
+	}
+
+	@Bean
+	public BulkheadAspect bulkheadAspect(
+		List<ConnectionBulkhead> bulkheads,
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize
+	) {
+		int maxConnections = bulkheads.stream()
+			.mapToInt(ConnectionBulkhead::getMaxConnections)
+			.sum();
+		Assert.state(maxConnections <= maximumPoolSize, () -> MessageFormat.format(
+			"Bulkheads can hold {0} connections, but the pool has only {1}.",
+			maxConnections, maximumPoolSize
+		));
+		return new BulkheadAspect(bulkheads);
+	}
+}
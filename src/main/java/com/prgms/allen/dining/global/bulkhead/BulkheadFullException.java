@@ -0,0 +1,17 @@
+package com.prgms.allen.dining.global.bulkhead;
+
+import com.prgms.allen.dining.global.error.ErrorCode;
+
+public class BulkheadFullException extends RuntimeException {
+
+	private final ErrorCode errorCode;
+
+	public BulkheadFullException(String message) {
+		super(message);
+		this.errorCode = ErrorCode.SERVICE_BUSY;
+	}
+
+	public ErrorCode getErrorCode() {
+		return errorCode;
+	}
+}
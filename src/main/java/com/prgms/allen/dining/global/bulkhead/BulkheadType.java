@@ -0,0 +1,19 @@
+package com.prgms.allen.dining.global.bulkhead;
+
+public enum BulkheadType {
+
+	BOOKING("booking"),
+	BROWSING("browsing"),
+	BULK("bulk"),
+	DEFAULT("default");
+
+	private final String name;
+
+	BulkheadType(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
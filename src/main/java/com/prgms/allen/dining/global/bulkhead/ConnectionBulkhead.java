@@ -0,0 +1,89 @@
+package com.prgms.allen.dining.global.bulkhead;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 커넥션 풀 하나를 나눠 쓰되, 한쪽 경로가 동시에 잡을 수 있는 커넥션 수를 제한한다.
+// 한 호출이 커밋 뒤 리스너에서 새 트랜잭션을 여는 경로는 호출 하나가 커넥션을 둘 이상 잡는다.
+public class ConnectionBulkhead {
+
+	private final BulkheadType type;
+	private final int maxConcurrent;
+	private final int connectionsPerCall;
+	private final Duration maxWait;
+	private final Semaphore permits;
+	private final Timer waitTimer;
+	private final Counter rejectedCounter;
+
+	public ConnectionBulkhead(
+		BulkheadType type,
+		int maxConcurrent,
+		int connectionsPerCall,
+		Duration maxWait,
+		MeterRegistry meterRegistry
+	) {
+		Assert.isTrue(maxConcurrent > 0, "maxConcurrent must be positive.");
+		Assert.isTrue(connectionsPerCall > 0, "connectionsPerCall must be positive.");
+
+		this.type = type;
+		this.maxConcurrent = maxConcurrent;
+		this.connectionsPerCall = connectionsPerCall;
+		this.maxWait = maxWait;
+		this.permits = new Semaphore(maxConcurrent, true);
+		this.waitTimer = Timer.builder("db.bulkhead.wait")
+			.tag("bulkhead", type.getName())
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("db.bulkhead.rejected")
+			.tag("bulkhead", type.getName())
+			.register(meterRegistry);
+		Gauge.builder("db.bulkhead.active", this, ConnectionBulkhead::getActiveCount)
+			.tag("bulkhead", type.getName())
+			.register(meterRegistry);
+	}
+
+	public void acquire() {
+		long startNanos = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+		if (!acquired) {
+			rejectedCounter.increment();
+			throw new BulkheadFullException(MessageFormat.format(
+				"Bulkhead {0} is full: {1} concurrent calls, waited {2} ms",
+				type.getName(), maxConcurrent, maxWait.toMillis()
+			));
+		}
+	}
+
+	public void release() {
+		permits.release();
+	}
+
+	public BulkheadType getType() {
+		return type;
+	}
+
+	public int getMaxConnections() {
+		return maxConcurrent * connectionsPerCall;
+	}
+
+	public int getActiveCount() {
+		return maxConcurrent - permits.availablePermits();
+	}
+}
@@ -0,0 +1,7 @@
+package com.prgms.allen.dining.global.datasource;
+
+public enum DataSourceRole {
+
+	PRIMARY,
+	REPLICA
+}
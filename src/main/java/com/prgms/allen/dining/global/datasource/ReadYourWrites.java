@@ -0,0 +1,12 @@
+package com.prgms.allen.dining.global.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 이 요청 뒤에 같은 클라이언트가 보내는 요청은 복제 지연 허용치 동안 읽기 전용이어도 원본 DB 에서 읽는다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadYourWrites {
+}
@@ -0,0 +1,21 @@
+package com.prgms.allen.dining.global.datasource;
+
+public final class ReadYourWritesContext {
+
+	private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+	private ReadYourWritesContext() {
+	}
+
+	public static void pinToPrimary() {
+		PINNED_TO_PRIMARY.set(Boolean.TRUE);
+	}
+
+	public static boolean isPinnedToPrimary() {
+		return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+	}
+
+	public static void clear() {
+		PINNED_TO_PRIMARY.remove();
+	}
+}
@@ -0,0 +1,61 @@
+package com.prgms.allen.dining.global.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaLagMonitor {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+	private static final String UPDATE_HEARTBEAT =
+		"update replication_heartbeat set beat_millis = ? where heartbeat_id = 1";
+	private static final String SELECT_HEARTBEAT =
+		"select beat_millis from replication_heartbeat where heartbeat_id = 1";
+
+	private final JdbcTemplate primaryJdbcTemplate;
+	private final JdbcTemplate replicaJdbcTemplate;
+	private final Duration maxLag;
+	private final Clock clock;
+
+	private volatile boolean withinTolerance;
+
+	public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag, Clock clock) {
+		this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.maxLag = maxLag;
+		this.clock = clock;
+	}
+
+	// 원본에 쓴 하트비트가 복제본에 얼마나 늦게 보이는지로 지연을 잰다. 측정값에는 하트비트 주기만큼의 오차가 있다.
+	@Scheduled(fixedDelayString = "${spring.datasource.replica.heartbeat-interval-millis:1000}")
+	public void beat() {
+		long now = clock.millis();
+		try {
+			primaryJdbcTemplate.update(UPDATE_HEARTBEAT, now);
+			Long replicaBeatMillis = replicaJdbcTemplate.queryForObject(SELECT_HEARTBEAT, Long.class);
+			updateState(replicaBeatMillis != null
+				&& Duration.ofMillis(now - replicaBeatMillis).compareTo(maxLag) <= 0);
+		} catch (DataAccessException e) {
+			log.warn("Failed to check replica lag. Reads go to primary until the replica recovers.", e);
+			updateState(false);
+		}
+	}
+
+	public boolean isWithinTolerance() {
+		return withinTolerance;
+	}
+
+	private void updateState(boolean withinTolerance) {
+		if (this.withinTolerance != withinTolerance) {
+			log.info("Replica lag {} tolerance of {}", withinTolerance ? "is back within" : "exceeded", maxLag);
+		}
+		this.withinTolerance = withinTolerance;
+	}
+}
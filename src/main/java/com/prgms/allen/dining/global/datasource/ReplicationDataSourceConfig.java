@@ -0,0 +1,90 @@
+package com.prgms.allen.dining.global.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// 복제본 주소가 설정됐을 때만 원본과 복제본 풀을 따로 만들고, 없으면 기본 DataSource 자동 설정을 그대로 쓴다.
+// 샤드를 나눈 경우에는 샤드 라우팅이 DataSource 를 맡으므로 이 설정은 쓰지 않는다.
+@Configuration
+@ConditionalOnExpression("!'${spring.datasource.replica.url:}'.isEmpty() && '${spring.datasource.shards[0].url:}'.isEmpty()")
+public class ReplicationDataSourceConfig {
+
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(
+		@Qualifier("primaryDataSourceProperties") DataSourceProperties properties
+	) {
+		return properties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+		@Qualifier("replicaDataSourceProperties") DataSourceProperties properties
+	) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		@Value("${spring.datasource.replica.max-lag-millis:5000}") long maxLagMillis
+	) {
+		return new ReplicaLagMonitor(
+			primaryDataSource,
+			replicaDataSource,
+			Duration.ofMillis(maxLagMillis),
+			Clock.systemUTC()
+		);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor
+	) {
+		ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+			primaryDataSource,
+			replicaDataSource,
+			replicaLagMonitor
+		);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,37 @@
+package com.prgms.allen.dining.global.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션의 읽기 전용 여부가 정해진 뒤에 커넥션을 골라야 하므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+
+	public ReplicationRoutingDataSource(
+		DataSource primaryDataSource,
+		DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor
+	) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		setTargetDataSources(Map.of(
+			DataSourceRole.PRIMARY, primaryDataSource,
+			DataSourceRole.REPLICA, replicaDataSource
+		));
+		setDefaultTargetDataSource(primaryDataSource);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+			&& !ReadYourWritesContext.isPinnedToPrimary()
+			&& replicaLagMonitor.isWithinTolerance()) {
+			return DataSourceRole.REPLICA;
+		}
+		return DataSourceRole.PRIMARY;
+	}
+}
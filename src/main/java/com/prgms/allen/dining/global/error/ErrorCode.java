@@ -11,7 +11,10 @@ public enum ErrorCode {
 	DUPLICATE_ERROR(HttpStatus.BAD_REQUEST, "중복 생성 할 수 없습니다."),
 	NOTIFICATION_CONNECTION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알림 전송에 실패하였습니다."),
 	NOT_FOUND_RESOURCE(HttpStatus.NOT_FOUND, "해당 리소스를 찾을 수 없습니다."),
-	ILLEGAL_MODIFICATION(HttpStatus.BAD_REQUEST, "리소스를 수정할 수 없습니다.");
+	ILLEGAL_MODIFICATION(HttpStatus.BAD_REQUEST, "리소스를 수정할 수 없습니다."),
+	REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+	SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요."),
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
 
 	private final HttpStatus status;
 	private final String message;
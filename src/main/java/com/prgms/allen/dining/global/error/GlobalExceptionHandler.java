@@ -10,7 +10,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.prgms.allen.dining.domain.common.NotFoundResourceException;
 import com.prgms.allen.dining.domain.notification.NotificationFailedException;
 import com.prgms.allen.dining.domain.reservation.ReserveFailException;
+import com.prgms.allen.dining.domain.reservation.idempotency.IdempotentRequestInProgressException;
 import com.prgms.allen.dining.domain.restaurant.RestaurantDuplicateCreationException;
+import com.prgms.allen.dining.global.bulkhead.BulkheadFullException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -81,6 +83,21 @@ public class GlobalExceptionHandler {
 		return newResponseEntity(response);
 	}
 
+	@ExceptionHandler(BulkheadFullException.class)
+	public ResponseEntity<ErrorResponse> handleBulkheadFullException(BulkheadFullException e) {
+		log.warn("BulkheadFullException occurred. {}", e.getMessage());
+		ErrorResponse response = new ErrorResponse(e.getErrorCode());
+		return newResponseEntity(response);
+	}
+
+	@ExceptionHandler(IdempotentRequestInProgressException.class)
+	public ResponseEntity<ErrorResponse> handleIdempotentRequestInProgressException(
+		IdempotentRequestInProgressException e) {
+		log.info("IdempotentRequestInProgressException occurred. {}", e.getMessage());
+		ErrorResponse response = new ErrorResponse(e.getErrorCode());
+		return newResponseEntity(response);
+	}
+
 	private ResponseEntity<ErrorResponse> newResponseEntity(ErrorResponse response) {
 		return ResponseEntity.status(response.httpStatus())
 			.body(response);
@@ -0,0 +1,28 @@
+package com.prgms.allen.dining.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.prgms.allen.dining.AvailableDatesQuery")
+@Label("Available Dates Query")
+@Category({"Dining", "Reservation"})
+@StackTrace(false)
+public class AvailableDatesQueryEvent extends Event {
+
+	@Label("Restaurant Id")
+	long restaurantId;
+
+	@Label("Available Date Count")
+	int availableDateCount;
+
+	public AvailableDatesQueryEvent(long restaurantId) {
+		this.restaurantId = restaurantId;
+	}
+
+	public void found(int availableDateCount) {
+		this.availableDateCount = availableDateCount;
+	}
+}
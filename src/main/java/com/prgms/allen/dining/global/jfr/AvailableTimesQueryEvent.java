@@ -0,0 +1,38 @@
+package com.prgms.allen.dining.global.jfr;
+
+import java.time.LocalDate;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.prgms.allen.dining.AvailableTimesQuery")
+@Label("Available Times Query")
+@Category({"Dining", "Reservation"})
+@StackTrace(false)
+public class AvailableTimesQueryEvent extends Event {
+
+	@Label("Restaurant Id")
+	long restaurantId;
+
+	@Label("Visit Date")
+	String visitDate;
+
+	@Label("Visitor Count")
+	int visitorCount;
+
+	@Label("Available Time Count")
+	int availableTimeCount;
+
+	public AvailableTimesQueryEvent(long restaurantId, LocalDate visitDate, int visitorCount) {
+		this.restaurantId = restaurantId;
+		this.visitDate = visitDate.toString();
+		this.visitorCount = visitorCount;
+	}
+
+	public void found(int availableTimeCount) {
+		this.availableTimeCount = availableTimeCount;
+	}
+}
@@ -0,0 +1,110 @@
+package com.prgms.allen.dining.global.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.text.ParseException;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+// 운영 중에 /actuator/jfr 로 녹화를 시작(POST), 중지(DELETE), 내려받기(GET) 한다.
+// 녹화 중에 내려받으면 그 시점까지의 스냅샷을, 중지한 뒤에는 마지막 녹화 파일을 돌려준다.
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+	private static final Logger log = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+
+	private static final String RECORDING_NAME = "dining";
+	private static final String DEFAULT_SETTINGS = "profile";
+	private static final long DEFAULT_MAX_AGE_SECONDS = 600;
+
+	private Recording recording;
+	private Path lastDump;
+
+	@WriteOperation
+	public synchronized JfrRecordingRes start(@Nullable String settings, @Nullable Long maxAgeSeconds) {
+		Assert.state(recording == null, "JFR recording is already running.");
+
+		Recording newRecording = new Recording(loadConfiguration(settings == null ? DEFAULT_SETTINGS : settings));
+		newRecording.setName(RECORDING_NAME);
+		newRecording.setToDisk(true);
+		newRecording.setMaxAge(Duration.ofSeconds(maxAgeSeconds == null ? DEFAULT_MAX_AGE_SECONDS : maxAgeSeconds));
+		newRecording.start();
+		recording = newRecording;
+
+		log.info("JFR recording {} started", recording.getId());
+		return new JfrRecordingRes(recording);
+	}
+
+	@DeleteOperation
+	public synchronized JfrRecordingRes stop() {
+		Assert.state(recording != null, "JFR recording is not running.");
+
+		Recording stopped = recording;
+		recording = null;
+		stopped.stop();
+		replaceLastDump(dump(stopped));
+		JfrRecordingRes stoppedRes = new JfrRecordingRes(stopped);
+		stopped.close();
+
+		log.info("JFR recording {} stopped and dumped to {}", stoppedRes.id(), lastDump);
+		return stoppedRes;
+	}
+
+	@ReadOperation(produces = "application/octet-stream")
+	public synchronized Resource download() {
+		if (recording != null) {
+			replaceLastDump(dump(recording));
+		}
+		if (lastDump == null) {
+			return null;
+		}
+		return new FileSystemResource(lastDump);
+	}
+
+	private Configuration loadConfiguration(String settings) {
+		try {
+			return Configuration.getConfiguration(settings);
+		} catch (IOException | ParseException e) {
+			throw new IllegalArgumentException(MessageFormat.format("Cannot load JFR settings={0}", settings), e);
+		}
+	}
+
+	private Path dump(Recording target) {
+		try {
+			Path path = Files.createTempFile("dining-", ".jfr");
+			target.dump(path);
+			return path;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void replaceLastDump(Path dump) {
+		if (lastDump != null) {
+			try {
+				Files.deleteIfExists(lastDump);
+			} catch (IOException e) {
+				log.warn("Failed to delete previous JFR dump {}", lastDump, e);
+			}
+		}
+		lastDump = dump;
+	}
+}
@@ -0,0 +1,26 @@
+package com.prgms.allen.dining.global.jfr;
+
+import java.time.Instant;
+
+import jdk.jfr.Recording;
+
+public record JfrRecordingRes(
+	long id,
+	String name,
+	String state,
+	Instant startTime,
+	Instant stopTime,
+	Long maxAgeSeconds
+) {
+
+	public JfrRecordingRes(Recording recording) {
+		this(
+			recording.getId(),
+			recording.getName(),
+			recording.getState().name(),
+			recording.getStartTime(),
+			recording.getStopTime(),
+			recording.getMaxAge() == null ? null : recording.getMaxAge().toSeconds()
+		);
+	}
+}
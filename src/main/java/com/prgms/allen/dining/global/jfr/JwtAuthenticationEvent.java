@@ -0,0 +1,32 @@
+package com.prgms.allen.dining.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.prgms.allen.dining.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"Dining", "Security"})
+@StackTrace(false)
+public class JwtAuthenticationEvent extends Event {
+
+	@Label("Request URI")
+	String requestUri;
+
+	@Label("Token Present")
+	boolean tokenPresent;
+
+	@Label("Authenticated")
+	boolean authenticated;
+
+	public JwtAuthenticationEvent(String requestUri) {
+		this.requestUri = requestUri;
+	}
+
+	public void verified(boolean tokenPresent, boolean authenticated) {
+		this.tokenPresent = tokenPresent;
+		this.authenticated = authenticated;
+	}
+}
@@ -0,0 +1,55 @@
+package com.prgms.allen.dining.global.jfr;
+
+import java.time.LocalDateTime;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.prgms.allen.dining.Reserve")
+@Label("Reserve")
+@Category({"Dining", "Reservation"})
+@StackTrace(false)
+public class ReserveEvent extends Event {
+
+	@Label("Restaurant Id")
+	long restaurantId;
+
+	@Label("Slot")
+	String slot;
+
+	@Label("Visitor Count")
+	int visitorCount;
+
+	@Label("Slot Lock Wait")
+	@Timespan(Timespan.NANOSECONDS)
+	long slotLockWait;
+
+	@Label("Capacity Check")
+	String capacityCheck;
+
+	@Label("Reject Reason")
+	String rejectReason;
+
+	public ReserveEvent(long restaurantId, LocalDateTime visitDateTime, int visitorCount) {
+		this.restaurantId = restaurantId;
+		this.slot = visitDateTime.toString();
+		this.visitorCount = visitorCount;
+	}
+
+	public void slotLocked(long lockStartNanos) {
+		this.slotLockWait = System.nanoTime() - lockStartNanos;
+	}
+
+	public void accepted() {
+		this.capacityCheck = "ACCEPTED";
+	}
+
+	public void rejected(String reason) {
+		this.capacityCheck = "REJECTED";
+		this.rejectReason = reason;
+	}
+}
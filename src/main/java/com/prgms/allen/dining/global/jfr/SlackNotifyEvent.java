@@ -0,0 +1,36 @@
+package com.prgms.allen.dining.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.prgms.allen.dining.SlackNotify")
+@Label("Slack Notify")
+@Category({"Dining", "Notification"})
+@StackTrace(false)
+public class SlackNotifyEvent extends Event {
+
+	@Label("Restaurant Id")
+	long restaurantId;
+
+	@Label("Message")
+	String message;
+
+	@Label("Receiver")
+	String receiver;
+
+	@Label("Succeeded")
+	boolean succeeded;
+
+	public SlackNotifyEvent(long restaurantId, String message, String receiver) {
+		this.restaurantId = restaurantId;
+		this.message = message;
+		this.receiver = receiver;
+	}
+
+	public void succeeded() {
+		this.succeeded = true;
+	}
+}
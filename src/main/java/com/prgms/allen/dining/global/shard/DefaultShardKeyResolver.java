@@ -0,0 +1,20 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.text.MessageFormat;
+
+public class DefaultShardKeyResolver implements ShardKeyResolver {
+
+	@Override
+	public long resolve(Object argument) {
+		if (argument instanceof Number id) {
+			return id.longValue();
+		}
+		if (argument instanceof RestaurantScoped restaurantScoped) {
+			return restaurantScoped.restaurantId();
+		}
+
+		throw new IllegalArgumentException(MessageFormat.format(
+			"Cannot resolve shard key from argument={0}", argument
+		));
+	}
+}
@@ -0,0 +1,142 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.text.MessageFormat;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ScatterGatherShardOperations implements ShardOperations, AutoCloseable {
+
+	private static final int REPLICA_SHARD_START = 1;
+
+	private final int shardCount;
+	private final ShardResolver shardResolver;
+	private final TransactionTemplate readOnlyTransaction;
+	private final TransactionTemplate readWriteTransaction;
+	private final ExecutorService executorService;
+
+	public ScatterGatherShardOperations(
+		int shardCount,
+		PlatformTransactionManager transactionManager,
+		ExecutorService executorService
+	) {
+		this.shardCount = shardCount;
+		this.shardResolver = new ShardResolver(shardCount);
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.readWriteTransaction = new TransactionTemplate(transactionManager);
+		this.executorService = executorService;
+	}
+
+	@Override
+	public <T> List<T> gather(Supplier<List<T>> query) {
+		return onShards(0, readOnlyTransaction, query)
+			.stream()
+			.flatMap(List::stream)
+			.toList();
+	}
+
+	// 각 샤드의 앞쪽 (offset + size) 건만 있으면 전체 순서에서 요청한 페이지를 만들 수 있다.
+	// 샤드 쿼리는 order 와 같은 순서로 정렬해 두어야 하므로, 클라이언트가 보낸 정렬은 넘기지 않는다.
+	@Override
+	public <T> List<T> gatherPage(
+		Pageable pageable,
+		Comparator<? super T> order,
+		Function<Pageable, List<T>> query
+	) {
+		if (pageable.isUnpaged()) {
+			return gather(() -> query.apply(pageable)).stream()
+				.sorted(order)
+				.toList();
+		}
+
+		Pageable leadingRows = PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()));
+		return gather(() -> query.apply(leadingRows)).stream()
+			.sorted(order)
+			.skip(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.toList();
+	}
+
+	@Override
+	public void runOnEachShard(Runnable task) {
+		onShards(0, readWriteTransaction, () -> {
+			task.run();
+			return null;
+		});
+	}
+
+	@Override
+	public int shardOf(long shardKey) {
+		return shardResolver.shardOf(shardKey);
+	}
+
+	@Override
+	public <T> T runOnShard(long shardKey, Supplier<T> task) {
+		int shard = shardOf(shardKey);
+		Optional<Integer> currentShard = ShardContext.current();
+		if (currentShard.isPresent()) {
+			if (currentShard.get() != shard) {
+				throw new IllegalStateException(MessageFormat.format(
+					"Cannot switch shard from {0} to {1}", currentShard.get(), shard
+				));
+			}
+			return readWriteTransaction.execute(status -> task.get());
+		}
+
+		ShardContext.set(shard);
+		try {
+			return readWriteTransaction.execute(status -> task.get());
+		} finally {
+			ShardContext.clear();
+		}
+	}
+
+	@Override
+	public void runOnReplicaShards(Runnable task) {
+		onShards(REPLICA_SHARD_START, readWriteTransaction, () -> {
+			task.run();
+			return null;
+		});
+	}
+
+	@Override
+	public void close() {
+		executorService.shutdown();
+	}
+
+	private <T> List<T> onShards(int firstShard, TransactionTemplate transactionTemplate, Supplier<T> task) {
+		List<CompletableFuture<T>> futures = IntStream.range(firstShard, shardCount)
+			.mapToObj(shard -> CompletableFuture.supplyAsync(() -> {
+				ShardContext.set(shard);
+				try {
+					return transactionTemplate.execute(status -> task.get());
+				} finally {
+					ShardContext.clear();
+				}
+			}, executorService))
+			.toList();
+
+		try {
+			return futures.stream()
+				.map(CompletableFuture::join)
+				.toList();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
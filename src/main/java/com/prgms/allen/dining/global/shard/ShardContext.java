@@ -0,0 +1,23 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.util.Optional;
+
+public final class ShardContext {
+
+	private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+	private ShardContext() {
+	}
+
+	public static Optional<Integer> current() {
+		return Optional.ofNullable(CURRENT_SHARD.get());
+	}
+
+	public static void set(int shard) {
+		CURRENT_SHARD.set(shard);
+	}
+
+	public static void clear() {
+		CURRENT_SHARD.remove();
+	}
+}
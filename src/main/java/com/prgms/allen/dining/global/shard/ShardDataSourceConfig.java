@@ -0,0 +1,126 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// spring.datasource.shards[n] 이 있으면 식당 아이디 기준으로 샤드를 나눈다. 없으면 기본 DataSource 한 개를 그대로 쓴다.
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.shards[0]", name = "url")
+public class ShardDataSourceConfig {
+
+	private static final int SCATTER_THREADS_PER_SHARD = 4;
+	private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+
+	@Bean
+	@ConfigurationProperties("spring.datasource")
+	public ShardDataSourceProperties shardDataSourceProperties() {
+		return new ShardDataSourceProperties();
+	}
+
+	@Bean
+	public ShardResolver shardResolver(ShardDataSourceProperties properties) {
+		return new ShardResolver(properties.getShards().size());
+	}
+
+	@Bean
+	public ShardRoutingDataSource shardRoutingDataSource(ShardDataSourceProperties properties) {
+		List<DataSourceProperties> shards = properties.getShards();
+		if (shards.size() > 1) {
+			shards.forEach(ShardDataSourceConfig::validateIdOffsetSupported);
+		}
+
+		List<HikariDataSource> shardDataSources = new ArrayList<>();
+		for (int shard = 0; shard < shards.size(); shard++) {
+			HikariDataSource dataSource = shards.get(shard)
+				.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+			dataSource.setPoolName("shard-" + shard);
+			if (shards.size() > 1) {
+				applyIdOffset(dataSource, shard, shards.size());
+			}
+			shardDataSources.add(dataSource);
+		}
+
+		ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDataSources);
+		routingDataSource.afterPropertiesSet();
+		return routingDataSource;
+	}
+
+	// 예약처럼 식당 샤드에서 발급한 아이디로 샤드를 찾는 호출은 샤드마다 아이디가 겹치지 않아야 맞는 샤드로 간다.
+	// 발급 간격을 맞출 수 없는 DB 로 여러 샤드를 띄우면 다른 샤드로 조회하게 되므로 시작할 때 막는다.
+	private static void validateIdOffsetSupported(DataSourceProperties shard) {
+		if (!shard.getUrl().startsWith(MYSQL_URL_PREFIX)) {
+			throw new IllegalStateException(MessageFormat.format(
+				"Cannot offset auto increment ids for shard url={0}. Multiple shards require MySQL.",
+				shard.getUrl()
+			));
+		}
+	}
+
+	private static void applyIdOffset(HikariDataSource dataSource, int shard, int shardCount) {
+		dataSource.setConnectionInitSql(MessageFormat.format(
+			"set session auto_increment_increment = {0}, auto_increment_offset = {1}",
+			String.valueOf(shardCount), String.valueOf(shard + 1)
+		));
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+	}
+
+	@Bean
+	public FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource) {
+		return flyway -> shardRoutingDataSource.getShardDataSources()
+			.forEach(shardDataSource -> Flyway.configure()
+				.configuration(flyway.getConfiguration())
+				.dataSource(shardDataSource)
+				.load()
+				.migrate());
+	}
+
+	@Bean
+	public DefaultShardKeyResolver defaultShardKeyResolver() {
+		return new DefaultShardKeyResolver();
+	}
+
+	@Bean
+	public ShardRoutingAspect shardRoutingAspect(
+		ShardResolver shardResolver,
+		List<ShardKeyResolver> shardKeyResolvers
+	) {
+		return new ShardRoutingAspect(shardResolver, shardKeyResolvers);
+	}
+
+	@Bean
+	public ScatterGatherShardOperations scatterGatherShardOperations(
+		ShardResolver shardResolver,
+		PlatformTransactionManager transactionManager
+	) {
+		int shardCount = shardResolver.getShardCount();
+		return new ScatterGatherShardOperations(
+			shardCount,
+			transactionManager,
+			Executors.newFixedThreadPool(shardCount * SCATTER_THREADS_PER_SHARD)
+		);
+	}
+}
@@ -0,0 +1,19 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+public class ShardDataSourceProperties {
+
+	private List<DataSourceProperties> shards = new ArrayList<>();
+
+	public List<DataSourceProperties> getShards() {
+		return shards;
+	}
+
+	public void setShards(List<DataSourceProperties> shards) {
+		this.shards = shards;
+	}
+}
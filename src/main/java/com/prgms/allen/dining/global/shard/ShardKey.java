@@ -0,0 +1,14 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 식당 아이디나 그 식당의 샤드에서 발급된 아이디를 담은 파라미터. 호출 전체를 해당 샤드로 보낸다.
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+
+	Class<? extends ShardKeyResolver> resolver() default DefaultShardKeyResolver.class;
+}
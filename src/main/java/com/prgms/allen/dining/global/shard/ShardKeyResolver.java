@@ -0,0 +1,6 @@
+package com.prgms.allen.dining.global.shard;
+
+public interface ShardKeyResolver {
+
+	long resolve(Object argument);
+}
@@ -0,0 +1,26 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+
+// 여러 식당에 걸친 조회와 작업을 샤드 수와 상관없이 같은 코드로 쓰기 위한 창구.
+public interface ShardOperations {
+
+	<T> List<T> gather(Supplier<List<T>> query);
+
+	<T> List<T> gatherPage(Pageable pageable, Comparator<? super T> order, Function<Pageable, List<T>> query);
+
+	void runOnEachShard(Runnable task);
+
+	int shardOf(long shardKey);
+
+	// 호출한 스레드에서 shardKey 의 샤드로 트랜잭션을 열어 실행한다.
+	<T> T runOnShard(long shardKey, Supplier<T> task);
+
+	// 회원처럼 0번 샤드에 쓰고 나머지 샤드에 같은 아이디로 복제해 두는 참조 테이블을 맞춘다.
+	void runOnReplicaShards(Runnable task);
+}
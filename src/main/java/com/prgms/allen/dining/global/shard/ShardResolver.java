@@ -0,0 +1,22 @@
+package com.prgms.allen.dining.global.shard;
+
+import org.springframework.util.Assert;
+
+// 샤드 i 의 auto_increment 는 (i + 1) 부터 샤드 수만큼 건너뛰며 발급되므로, 아이디만 보고도 샤드를 알 수 있다.
+public class ShardResolver {
+
+	private final int shardCount;
+
+	public ShardResolver(int shardCount) {
+		Assert.isTrue(shardCount > 0, "shardCount must be positive.");
+		this.shardCount = shardCount;
+	}
+
+	public int shardOf(long shardKey) {
+		return Math.floorMod(shardKey - 1, shardCount);
+	}
+
+	public int getShardCount() {
+		return shardCount;
+	}
+}
@@ -0,0 +1,88 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
+
+// 트랜잭션보다 먼저 샤드를 정해야 커넥션이 올바른 샤드에서 열린다.
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardRoutingAspect {
+
+	private final ShardResolver shardResolver;
+	private final Map<Class<?>, ShardKeyResolver> shardKeyResolvers;
+
+	public ShardRoutingAspect(ShardResolver shardResolver, List<ShardKeyResolver> shardKeyResolvers) {
+		this.shardResolver = shardResolver;
+		this.shardKeyResolvers = shardKeyResolvers.stream()
+			.collect(Collectors.toMap(ClassUtils::getUserClass, Function.identity()));
+	}
+
+	@Around("execution(* com.prgms.allen.dining..*(.., @com.prgms.allen.dining.global.shard.ShardKey (*), ..))")
+	public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+		int shard = resolveShard(joinPoint);
+
+		Optional<Integer> currentShard = ShardContext.current();
+		if (currentShard.isPresent()) {
+			if (currentShard.get() != shard) {
+				throw new IllegalStateException(MessageFormat.format(
+					"Cannot switch shard from {0} to {1} in {2}",
+					currentShard.get(), shard, joinPoint.getSignature().toShortString()
+				));
+			}
+			return joinPoint.proceed();
+		}
+
+		ShardContext.set(shard);
+		try {
+			return joinPoint.proceed();
+		} finally {
+			ShardContext.clear();
+		}
+	}
+
+	private int resolveShard(ProceedingJoinPoint joinPoint) {
+		Method method = AopUtils.getMostSpecificMethod(
+			((MethodSignature)joinPoint.getSignature()).getMethod(),
+			joinPoint.getTarget().getClass()
+		);
+		Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+		Object[] args = joinPoint.getArgs();
+
+		for (int i = 0; i < parameterAnnotations.length; i++) {
+			for (Annotation annotation : parameterAnnotations[i]) {
+				if (annotation instanceof ShardKey shardKey) {
+					return shardResolver.shardOf(findResolver(shardKey.resolver()).resolve(args[i]));
+				}
+			}
+		}
+
+		throw new IllegalStateException(MessageFormat.format(
+			"Cannot find @ShardKey parameter in {0}", method
+		));
+	}
+
+	private ShardKeyResolver findResolver(Class<? extends ShardKeyResolver> resolverType) {
+		ShardKeyResolver resolver = shardKeyResolvers.get(resolverType);
+		if (resolver == null) {
+			throw new IllegalStateException(MessageFormat.format(
+				"Cannot find ShardKeyResolver bean of type={0}", resolverType.getName()
+			));
+		}
+		return resolver;
+	}
+}
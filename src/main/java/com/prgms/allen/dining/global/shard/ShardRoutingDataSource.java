@@ -0,0 +1,48 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// 샤드가 정해지지 않은 호출(회원 등 모든 샤드에 복제해 두는 참조 테이블)은 0번 샤드로 보낸다.
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+	private static final int DEFAULT_SHARD = 0;
+
+	private final List<? extends DataSource> shardDataSources;
+
+	public ShardRoutingDataSource(List<? extends DataSource> shardDataSources) {
+		this.shardDataSources = List.copyOf(shardDataSources);
+
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		for (int shard = 0; shard < shardDataSources.size(); shard++) {
+			targetDataSources.put(shard, shardDataSources.get(shard));
+		}
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(shardDataSources.get(DEFAULT_SHARD));
+	}
+
+	public List<? extends DataSource> getShardDataSources() {
+		return shardDataSources;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return ShardContext.current()
+			.orElse(DEFAULT_SHARD);
+	}
+
+	@Override
+	public void close() {
+		shardDataSources.stream()
+			.filter(HikariDataSource.class::isInstance)
+			.map(HikariDataSource.class::cast)
+			.forEach(HikariDataSource::close);
+	}
+}
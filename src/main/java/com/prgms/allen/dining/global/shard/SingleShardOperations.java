@@ -0,0 +1,59 @@
+package com.prgms.allen.dining.global.shard;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Component
+@ConditionalOnExpression("'${spring.datasource.shards[0].url:}'.isEmpty()")
+public class SingleShardOperations implements ShardOperations {
+
+	private final TransactionOperations transactionOperations;
+
+	public SingleShardOperations(TransactionOperations transactionOperations) {
+		this.transactionOperations = transactionOperations;
+	}
+
+	@Override
+	public <T> List<T> gather(Supplier<List<T>> query) {
+		return query.get();
+	}
+
+	@Override
+	public <T> List<T> gatherPage(
+		Pageable pageable,
+		Comparator<? super T> order,
+		Function<Pageable, List<T>> query
+	) {
+		if (pageable.isUnpaged()) {
+			return query.apply(pageable);
+		}
+		return query.apply(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+	}
+
+	@Override
+	public void runOnEachShard(Runnable task) {
+		transactionOperations.executeWithoutResult(status -> task.run());
+	}
+
+	@Override
+	public int shardOf(long shardKey) {
+		return 0;
+	}
+
+	@Override
+	public <T> T runOnShard(long shardKey, Supplier<T> task) {
+		return transactionOperations.execute(status -> task.get());
+	}
+
+	@Override
+	public void runOnReplicaShards(Runnable task) {
+	}
+}
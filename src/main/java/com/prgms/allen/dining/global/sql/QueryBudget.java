@@ -0,0 +1,14 @@
+package com.prgms.allen.dining.global.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 한 요청에서 실행할 수 있는 SQL 문 수의 상한. sql-trace.enforce-budget 이 켜져 있으면 넘는 순간 실패한다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+	int value();
+}
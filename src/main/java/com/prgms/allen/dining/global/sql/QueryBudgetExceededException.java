@@ -0,0 +1,8 @@
+package com.prgms.allen.dining.global.sql;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+	public QueryBudgetExceededException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,56 @@
+package com.prgms.allen.dining.global.sql;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class SqlTrace {
+
+	public static final int NO_BUDGET = -1;
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+	private final int budget;
+	private final boolean enforceBudget;
+	private final Map<String, Integer> countPerShape = new HashMap<>();
+	private int statementCount;
+
+	public SqlTrace(int budget, boolean enforceBudget) {
+		this.budget = budget;
+		this.enforceBudget = enforceBudget;
+	}
+
+	public void record(String sql) {
+		statementCount++;
+		countPerShape.merge(toShape(sql), 1, Integer::sum);
+
+		if (enforceBudget && budget != NO_BUDGET && statementCount > budget) {
+			throw new QueryBudgetExceededException(MessageFormat.format(
+				"Query budget {0} exceeded by statement: {1}", budget, sql
+			));
+		}
+	}
+
+	public int getStatementCount() {
+		return statementCount;
+	}
+
+	// 같은 모양의 문장이 한 요청에서 여러 번 실행됐다면 연관 엔티티를 하나씩 불러오는 N+1 일 가능성이 크다.
+	public Map<String, Integer> findRepeatedShapes(int threshold) {
+		return countPerShape.entrySet()
+			.stream()
+			.filter(entry -> entry.getValue() >= threshold)
+			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+	}
+
+	// 값만 다른 문장을 같은 모양으로 보도록 리터럴을 ? 로 바꾼다. PreparedStatement 는 이미 ? 로 들어온다.
+	static String toShape(String sql) {
+		String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+		shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+		return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+	}
+}
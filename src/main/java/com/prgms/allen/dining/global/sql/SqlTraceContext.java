@@ -0,0 +1,25 @@
+package com.prgms.allen.dining.global.sql;
+
+import java.util.Optional;
+
+public final class SqlTraceContext {
+
+	private static final ThreadLocal<SqlTrace> CURRENT_TRACE = new ThreadLocal<>();
+
+	private SqlTraceContext() {
+	}
+
+	public static void start(int budget, boolean enforceBudget) {
+		CURRENT_TRACE.set(new SqlTrace(budget, enforceBudget));
+	}
+
+	public static Optional<SqlTrace> current() {
+		return Optional.ofNullable(CURRENT_TRACE.get());
+	}
+
+	public static Optional<SqlTrace> finish() {
+		Optional<SqlTrace> trace = current();
+		CURRENT_TRACE.remove();
+		return trace;
+	}
+}
@@ -0,0 +1,32 @@
+package com.prgms.allen.dining.global.sql;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+// 단일 DB, 복제본 라우팅, 샤드 라우팅 어느 구성이든 애플리케이션이 쓰는 DataSource 빈 이름은 dataSource 이므로 그 빈만 감싼다.
+@Component
+public class SqlTracingDataSourcePostProcessor implements BeanPostProcessor {
+
+	private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+	private final Duration slowThreshold;
+
+	public SqlTracingDataSourcePostProcessor(@Value("${sql-trace.slow-threshold-millis:200}") long slowThresholdMillis) {
+		this.slowThreshold = Duration.ofMillis(slowThresholdMillis);
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource
+			&& DATA_SOURCE_BEAN_NAME.equals(beanName)
+			&& !(bean instanceof TracingDataSource)) {
+			return new TracingDataSource(dataSource, slowThreshold);
+		}
+		return bean;
+	}
+}
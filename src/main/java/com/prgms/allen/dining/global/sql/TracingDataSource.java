@@ -0,0 +1,154 @@
+package com.prgms.allen.dining.global.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// 커넥션과 문장을 JDK 프록시로 감싸서 실행되는 SQL 을 현재 요청의 SqlTrace 에 기록하고, 느린 문장은 바인드 값과 함께 남긴다.
+public class TracingDataSource extends DelegatingDataSource {
+
+	private static final Logger log = LoggerFactory.getLogger(TracingDataSource.class);
+
+	private static final Set<String> EXECUTE_METHODS = Set.of(
+		"execute",
+		"executeQuery",
+		"executeUpdate",
+		"executeLargeUpdate",
+		"executeBatch",
+		"executeLargeBatch"
+	);
+
+	private final long slowThresholdNanos;
+
+	public TracingDataSource(DataSource targetDataSource, Duration slowThreshold) {
+		super(targetDataSource);
+		this.slowThresholdNanos = slowThreshold.toNanos();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return traceConnection(obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return traceConnection(obtainTargetDataSource().getConnection(username, password));
+	}
+
+	private Connection traceConnection(Connection connection) {
+		return (Connection)Proxy.newProxyInstance(
+			Connection.class.getClassLoader(),
+			new Class<?>[] {Connection.class},
+			new ConnectionHandler(connection)
+		);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private class ConnectionHandler implements InvocationHandler {
+
+		private final Connection connection;
+
+		ConnectionHandler(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object result = TracingDataSource.invoke(connection, method, args);
+
+			return switch (method.getName()) {
+				case "prepareStatement" -> traceStatement(PreparedStatement.class, result, (String)args[0]);
+				case "prepareCall" -> traceStatement(CallableStatement.class, result, (String)args[0]);
+				case "createStatement" -> traceStatement(Statement.class, result, null);
+				default -> result;
+			};
+		}
+
+		private Object traceStatement(Class<? extends Statement> type, Object statement, String sql) {
+			return Proxy.newProxyInstance(
+				type.getClassLoader(),
+				new Class<?>[] {type},
+				new StatementHandler((Statement)statement, sql)
+			);
+		}
+	}
+
+	private class StatementHandler implements InvocationHandler {
+
+		private final Statement statement;
+		private final String preparedSql;
+		private final Map<Integer, Object> parameters = new TreeMap<>();
+
+		StatementHandler(Statement statement, String preparedSql) {
+			this.statement = statement;
+			this.preparedSql = preparedSql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (!EXECUTE_METHODS.contains(name)) {
+				captureParameter(name, args);
+				return TracingDataSource.invoke(statement, method, args);
+			}
+
+			String sql = args != null && args.length > 0 && args[0] instanceof String executed ? executed : preparedSql;
+			SqlTraceContext.current()
+				.ifPresent(trace -> trace.record(sql));
+
+			long startNanos = System.nanoTime();
+			try {
+				return TracingDataSource.invoke(statement, method, args);
+			} finally {
+				long elapsedNanos = System.nanoTime() - startNanos;
+				if (elapsedNanos >= slowThresholdNanos) {
+					logSlowStatement(sql, elapsedNanos);
+				}
+			}
+		}
+
+		// 바인딩 값에는 전화번호, 비밀번호 같은 개인 정보가 담기므로 WARN 에는 타입만 남기고 값은 DEBUG 에서만 남긴다.
+		private void logSlowStatement(String sql, long elapsedNanos) {
+			Map<Integer, String> parameterTypes = new TreeMap<>();
+			parameters.forEach((index, value) ->
+				parameterTypes.put(index, value == null ? "null" : value.getClass().getSimpleName()));
+
+			log.warn("Slow SQL took {} ms: {} paramTypes={}", Duration.ofNanos(elapsedNanos).toMillis(), sql,
+				parameterTypes);
+			log.debug("Slow SQL params={}", parameters);
+		}
+
+		private void captureParameter(String name, Object[] args) {
+			if (name.equals("clearParameters")) {
+				parameters.clear();
+				return;
+			}
+			if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+				parameters.put(index, args[1]);
+			}
+		}
+	}
+}
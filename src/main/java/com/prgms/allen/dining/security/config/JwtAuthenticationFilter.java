@@ -16,6 +16,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.prgms.allen.dining.global.jfr.JwtAuthenticationEvent;
 import com.prgms.allen.dining.security.jwt.JwtProvider;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -34,14 +35,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	@Override
 	public void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws
 		IOException, ServletException {
+		JwtAuthenticationEvent authenticationEvent = new JwtAuthenticationEvent(request.getRequestURI());
+		authenticationEvent.begin();
+
 		String token = resolveToken(request);
 
+		boolean authenticated = false;
 		if (token != null && jwtProvider.validateToken(token)) {
 			Authentication authentication = jwtProvider.getAuthentication(token);
 			log.info("Verify JWT token. JwtAuthenticationPrincipal: {}", authentication.getPrincipal());
 			SecurityContextHolder.getContext().setAuthentication(authentication);
+			authenticated = true;
 		}
 
+		authenticationEvent.verified(token != null, authenticated);
+		authenticationEvent.commit();
+
 		chain.doFilter(request, response);
 	}
 
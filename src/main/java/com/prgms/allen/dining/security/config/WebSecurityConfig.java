@@ -12,6 +12,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import com.prgms.allen.dining.domain.member.MemberService;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
+import com.prgms.allen.dining.domain.restaurant.RestaurantService;
 import com.prgms.allen.dining.security.jwt.JwtAuthenticationProvider;
 import com.prgms.allen.dining.security.jwt.JwtProvider;
 
@@ -22,28 +23,36 @@ public class WebSecurityConfig {
 	static final String LOGIN_REQUEST_URL = "/api/members/login";
 	static final String SIGNUP_REQUEST_URL = "/api/members/signup";
 	static final String OWNER_API_URL_PREFIX = "/owner/api/restaurants/**";
+	static final String OWNER_RESERVATION_API_URL_PREFIX = "/owner/api/reservations/**";
+	static final String ADMIN_API_URL_PREFIX = "/admin/api/**";
 	static final String CUSTOMER_API_URL_PREFIX = "/customer/api/**";
 	static final String CUSTOMER_RESTAURANT_API_URL_PREFIX = "/customer/api/restaurants/**";
-	static final String RESERVATION_AVAILABLE_TIMES_API_URL_PREFIX = "/customer/api/reservations/available-times";
+	static final String RESERVATION_AVAILABLE_TIMES_API_URL_PREFIX = "/customer/api/reservations/available-times/**";
 	static final String RESERVATION_AVAILABLE_DATES_API_URL_PREFIX = "/customer/api/reservations/available-dates";
+	static final String RESERVATION_AVAILABLE_MATRIX_API_URL_PREFIX = "/customer/api/reservations/available-matrix";
+	static final String ACTUATOR_JFR_URL = "/actuator/jfr/**";
 	static final String[] ANONYMOUS_AND_CUSTOMER_API_URL_PREFIX = {
 		CUSTOMER_RESTAURANT_API_URL_PREFIX,
 		RESERVATION_AVAILABLE_TIMES_API_URL_PREFIX,
-		RESERVATION_AVAILABLE_DATES_API_URL_PREFIX
+		RESERVATION_AVAILABLE_DATES_API_URL_PREFIX,
+		RESERVATION_AVAILABLE_MATRIX_API_URL_PREFIX
 	};
 
 	private final MemberService memberService;
+	private final RestaurantService restaurantService;
 	private final LoginSuccessHandler loginSuccessHandler;
 	private final LoginFailureHandler loginFailureHandler;
 	private final JwtProvider jwtProvider;
 
 	public WebSecurityConfig(
 		MemberService memberService,
+		RestaurantService restaurantService,
 		LoginSuccessHandler loginSuccessHandler,
 		LoginFailureHandler loginFailureHandler,
 		JwtProvider jwtProvider
 	) {
 		this.memberService = memberService;
+		this.restaurantService = restaurantService;
 		this.loginSuccessHandler = loginSuccessHandler;
 		this.loginFailureHandler = loginFailureHandler;
 		this.jwtProvider = jwtProvider;
@@ -73,8 +82,12 @@ public class WebSecurityConfig {
 			.authorizeRequests()
 			.antMatchers(LOGIN_REQUEST_URL, SIGNUP_REQUEST_URL)
 			.permitAll()
-			.antMatchers(OWNER_API_URL_PREFIX)
+			.antMatchers(ACTUATOR_JFR_URL)
+			.access("hasIpAddress('127.0.0.1') or hasIpAddress('::1')")
+			.antMatchers(OWNER_API_URL_PREFIX, OWNER_RESERVATION_API_URL_PREFIX)
 			.hasRole(MemberType.OWNER.toString())
+			.antMatchers(ADMIN_API_URL_PREFIX)
+			.hasRole(MemberType.ADMIN.toString())
 			.antMatchers(ANONYMOUS_AND_CUSTOMER_API_URL_PREFIX)
 			.access("hasRole('" + MemberType.CUSTOMER + "') or isAnonymous()")
 			.antMatchers(CUSTOMER_API_URL_PREFIX)
@@ -106,6 +119,6 @@ public class WebSecurityConfig {
 
 	@Bean
 	public JwtAuthenticationProvider jwtAuthenticationProvider() {
-		return new JwtAuthenticationProvider(memberService, jwtProvider);
+		return new JwtAuthenticationProvider(memberService, restaurantService, jwtProvider);
 	}
 }
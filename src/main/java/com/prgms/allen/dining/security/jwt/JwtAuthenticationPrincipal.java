@@ -4,7 +4,8 @@ import org.springframework.util.Assert;
 
 public record JwtAuthenticationPrincipal(
 	String jwtToken,
-	Long memberId
+	Long memberId,
+	Long restaurantId
 ) {
 
 	public JwtAuthenticationPrincipal {
@@ -12,11 +13,20 @@ public record JwtAuthenticationPrincipal(
 		Assert.notNull(memberId, "memberId must not blank");
 	}
 
+	public JwtAuthenticationPrincipal(String jwtToken, Long memberId) {
+		this(jwtToken, memberId, null);
+	}
+
+	public boolean hasRestaurant() {
+		return restaurantId != null;
+	}
+
 	@Override
 	public String toString() {
 		return "JwtAuthenticationPrincipal{" +
 			"jwtToken(head 6 chars)='" + jwtToken.substring(0, 6) + '\'' +
 			", memberId='" + memberId + '\'' +
+			", restaurantId='" + restaurantId + '\'' +
 			'}';
 	}
 }
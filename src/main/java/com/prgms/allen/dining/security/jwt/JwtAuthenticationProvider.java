@@ -12,14 +12,22 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import com.prgms.allen.dining.domain.member.MemberService;
 import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.member.entity.MemberType;
+import com.prgms.allen.dining.domain.restaurant.RestaurantService;
 
 public class JwtAuthenticationProvider implements AuthenticationProvider {
 
 	private final MemberService memberService;
+	private final RestaurantService restaurantService;
 	private final JwtProvider jwtProvider;
 
-	public JwtAuthenticationProvider(MemberService memberService, JwtProvider jwtProvider) {
+	public JwtAuthenticationProvider(
+		MemberService memberService,
+		RestaurantService restaurantService,
+		JwtProvider jwtProvider
+	) {
 		this.memberService = memberService;
+		this.restaurantService = restaurantService;
 		this.jwtProvider = jwtProvider;
 	}
 
@@ -44,9 +52,10 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
 				new SimpleGrantedAuthority(member.getMemberType().getValue())
 			);
 
-			String jwtToken = jwtProvider.generateToken(nickname, member.getId(), authorities);
+			Long restaurantId = findRestaurantId(member);
+			String jwtToken = jwtProvider.generateToken(nickname, member.getId(), restaurantId, authorities);
 			return JwtAuthenticationToken.authenticated(
-				new JwtAuthenticationPrincipal(jwtToken, member.getId()),
+				new JwtAuthenticationPrincipal(jwtToken, member.getId(), restaurantId),
 				password,
 				authorities
 			);
@@ -56,4 +65,12 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
 			throw new AuthenticationServiceException(e.getMessage());
 		}
 	}
+
+	private Long findRestaurantId(Member member) {
+		if (member.getMemberType() != MemberType.OWNER) {
+			return null;
+		}
+		return restaurantService.findIdByOwnerId(member.getId())
+			.orElse(null);
+	}
 }
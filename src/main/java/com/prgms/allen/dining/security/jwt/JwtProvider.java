@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -33,6 +34,7 @@ public class JwtProvider {
 	private static final String NICKNAME_KEY = "nickname";
 	private static final String ID_KEY = "id";
 	private static final String ROLE_KEY = "role";
+	private static final String RESTAURANT_ID_KEY = "restaurantId";
 
 	private final String issuer;
 	private final SecretKey key;
@@ -49,6 +51,15 @@ public class JwtProvider {
 	}
 
 	public String generateToken(String nickname, Long memberId, List<GrantedAuthority> authorities) {
+		return generateToken(nickname, memberId, null, authorities);
+	}
+
+	public String generateToken(
+		String nickname,
+		Long memberId,
+		Long restaurantId,
+		List<GrantedAuthority> authorities
+	) {
 		String parsedAuthorities = authorities.stream()
 			.map(GrantedAuthority::getAuthority)
 			.collect(Collectors.joining(","));
@@ -56,11 +67,17 @@ public class JwtProvider {
 		long now = (new Date()).getTime();
 
 		Date expiresIn = new Date(now + expirationMillis);
-		return Jwts.builder()
+		JwtBuilder builder = Jwts.builder()
 			.setIssuer(issuer)
 			.claim(NICKNAME_KEY, nickname)
 			.claim(ID_KEY, memberId)
-			.claim(ROLE_KEY, parsedAuthorities)
+			.claim(ROLE_KEY, parsedAuthorities);
+
+		if (restaurantId != null) {
+			builder.claim(RESTAURANT_ID_KEY, restaurantId);
+		}
+
+		return builder
 			.setExpiration(expiresIn)
 			.signWith(key, SignatureAlgorithm.HS256)
 			.compact();
@@ -82,11 +99,20 @@ public class JwtProvider {
 			jwtToken,
 			Long.parseLong(
 				String.valueOf(claims.get(ID_KEY))
-			)
+			),
+			parseRestaurantId(claims)
 		);
 		return JwtAuthenticationToken.authenticated(principal, "", authorities);
 	}
 
+	private Long parseRestaurantId(Claims claims) {
+		Object restaurantId = claims.get(RESTAURANT_ID_KEY);
+		if (restaurantId == null) {
+			return null;
+		}
+		return Long.parseLong(String.valueOf(restaurantId));
+	}
+
 	private Claims parseClaims(String accessToken) {
 		return Jwts.parserBuilder()
 			.setSigningKey(key)
@@ -0,0 +1,56 @@
+package com.prgms.allen.dining.web.filter;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+// AIMD: 목표 지연 안에 끝나면 한도를 1씩 늘리고, 넘기면 일정 비율로 줄인다.
+// 한도를 어느 정도 채워 쓰고 있을 때만 늘려서, 한가할 때 한도가 끝없이 커지지 않게 한다.
+// 한 번 줄인 뒤 목표 지연만큼은 다시 줄이지 않아서, 같은 혼잡을 겪은 느린 응답들이 한도를 바닥까지 끌어내리지 않게 한다.
+public class AdaptiveConcurrencyLimit {
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final long targetLatencyNanos;
+	private final double backoffRatio;
+
+	private double limit;
+	private boolean decreased;
+	private long lastDecreaseNanos;
+
+	public AdaptiveConcurrencyLimit(
+		int initialLimit,
+		int minLimit,
+		int maxLimit,
+		Duration targetLatency,
+		double backoffRatio
+	) {
+		Assert.isTrue(0 < minLimit && minLimit <= initialLimit && initialLimit <= maxLimit,
+			"limits must satisfy 0 < minLimit <= initialLimit <= maxLimit.");
+		Assert.isTrue(0 < backoffRatio && backoffRatio < 1, "backoffRatio must be between 0 and 1.");
+
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.targetLatencyNanos = targetLatency.toNanos();
+		this.backoffRatio = backoffRatio;
+		this.limit = initialLimit;
+	}
+
+	public synchronized void onSample(long startNanos, long endNanos, int inflight) {
+		if (endNanos - startNanos > targetLatencyNanos) {
+			if (!decreased || endNanos - lastDecreaseNanos >= targetLatencyNanos) {
+				limit = Math.max(minLimit, limit * backoffRatio);
+				decreased = true;
+				lastDecreaseNanos = endNanos;
+			}
+			return;
+		}
+		if (inflight * 2 >= limit) {
+			limit = Math.min(maxLimit, limit + 1);
+		}
+	}
+
+	public synchronized int getLimit() {
+		return (int)limit;
+	}
+}
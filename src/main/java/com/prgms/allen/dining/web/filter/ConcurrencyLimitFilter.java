@@ -0,0 +1,168 @@
+package com.prgms.allen.dining.web.filter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgms.allen.dining.global.error.ErrorCode;
+import com.prgms.allen.dining.global.error.ErrorResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 한도를 넘는 요청은 톰캣 스레드에서 기다리게 두지 않고 바로 503 으로 돌려보낸다.
+// 조회 요청은 한도의 일부까지만 받아서, 예약과 상태 변경 요청이 쓸 자리를 남겨 둔다.
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+	// 연결을 오래 붙잡는 스트리밍 요청은 지연 시간이 부하와 상관없으므로 한도에서 뺀다.
+	private static final List<String> EXCLUDED_PATHS = List.of(
+		"/customer/api/reservations/available-times/stream",
+		"/owner/api/reservations/feed",
+		"/owner/api/reservations/export",
+		"/admin/api/restaurants/bulk"
+	);
+
+	private final AdaptiveConcurrencyLimit concurrencyLimit;
+	private final double readShare;
+	private final long retryAfterSeconds;
+	private final ObjectMapper objectMapper;
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+	private final AtomicInteger inflight = new AtomicInteger();
+	private final Counter rejectedWrites;
+	private final Counter rejectedReads;
+
+	public ConcurrencyLimitFilter(
+		AdaptiveConcurrencyLimit concurrencyLimit,
+		double readShare,
+		long retryAfterSeconds,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry
+	) {
+		this.concurrencyLimit = concurrencyLimit;
+		this.readShare = readShare;
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.objectMapper = objectMapper;
+
+		Gauge.builder("http.concurrency.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+			.register(meterRegistry);
+		Gauge.builder("http.concurrency.inflight", inflight, AtomicInteger::get)
+			.register(meterRegistry);
+		this.rejectedWrites = Counter.builder("http.concurrency.rejected")
+			.tag("priority", "write")
+			.register(meterRegistry);
+		this.rejectedReads = Counter.builder("http.concurrency.rejected")
+			.tag("priority", "read")
+			.register(meterRegistry);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return EXCLUDED_PATHS.stream()
+			.anyMatch(excluded -> pathMatcher.match(excluded, path));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+		boolean write = !HttpMethod.GET.matches(request.getMethod());
+		if (!tryAcquire(write)) {
+			(write ? rejectedWrites : rejectedReads).increment();
+			reject(request, response);
+			return;
+		}
+
+		long startNanos = System.nanoTime();
+		AtomicBoolean released = new AtomicBoolean();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			if (request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new ReleaseOnComplete(startNanos, released));
+			} else {
+				release(startNanos, released);
+			}
+		}
+	}
+
+	private boolean tryAcquire(boolean write) {
+		int limit = concurrencyLimit.getLimit();
+		int admitLimit = write ? limit : Math.max(1, (int)(limit * readShare));
+		while (true) {
+			int current = inflight.get();
+			if (current >= admitLimit) {
+				return false;
+			}
+			if (inflight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private void release(long startNanos, AtomicBoolean released) {
+		if (released.compareAndSet(false, true)) {
+			concurrencyLimit.onSample(startNanos, System.nanoTime(), inflight.getAndDecrement());
+		}
+	}
+
+	private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		log.info("Request shed by concurrency limit={}: {} {}",
+			concurrencyLimit.getLimit(), request.getMethod(), request.getRequestURI());
+		response.setStatus(ErrorCode.SERVICE_BUSY.getStatus().value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		objectMapper.writeValue(response.getWriter(), new ErrorResponse(ErrorCode.SERVICE_BUSY));
+	}
+
+	private class ReleaseOnComplete implements AsyncListener {
+
+		private final long startNanos;
+		private final AtomicBoolean released;
+
+		ReleaseOnComplete(long startNanos, AtomicBoolean released) {
+			this.startNanos = startNanos;
+			this.released = released;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			release(startNanos, released);
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			release(startNanos, released);
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			release(startNanos, released);
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+		}
+	}
+}
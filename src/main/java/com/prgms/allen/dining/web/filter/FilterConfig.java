@@ -0,0 +1,119 @@
+package com.prgms.allen.dining.web.filter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class FilterConfig {
+
+	// 인증보다 앞에서 걸러내야 과부하 때 토큰 검증에 드는 비용도 아낀다.
+	@Bean
+	public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+		@Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+		@Value("${concurrency-limit.min-limit:4}") int minLimit,
+		@Value("${concurrency-limit.max-limit:200}") int maxLimit,
+		@Value("${concurrency-limit.target-latency-millis:250}") long targetLatencyMillis,
+		@Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+		@Value("${concurrency-limit.read-share:0.8}") double readShare,
+		@Value("${concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry
+	) {
+		ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+			new AdaptiveConcurrencyLimit(
+				initialLimit,
+				minLimit,
+				maxLimit,
+				Duration.ofMillis(targetLatencyMillis),
+				backoffRatio
+			),
+			readShare,
+			retryAfterSeconds,
+			objectMapper,
+			meterRegistry
+		);
+
+		FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+		registration.addUrlPatterns("/customer/api/reservations/*", "/owner/api/*");
+		registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+		return registration;
+	}
+
+	// 인증 정보로 회원을 구분해야 하므로 인증 필터 뒤에서 센다.
+	@Bean
+	public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+		List<RateLimitBudget> budgets,
+		@Value("${rate-limit.stripes:64}") int stripeCount,
+		@Value("${rate-limit.max-buckets:100000}") int maxBuckets,
+		ObjectMapper objectMapper
+	) {
+		RateLimitFilter filter = new RateLimitFilter(
+			budgets,
+			new TokenBucketRateLimiter(stripeCount, maxBuckets, Clock.systemUTC()),
+			objectMapper
+		);
+
+		FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+		registration.addUrlPatterns("/customer/api/*");
+		registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+		return registration;
+	}
+
+	@Bean
+	public RateLimitBudget restaurantsRateLimitBudget(
+		@Value("${rate-limit.restaurants.capacity:120}") long capacity,
+		@Value("${rate-limit.restaurants.refill-per-second:20}") double refillPerSecond
+	) {
+		return new RateLimitBudget("restaurants", List.of("/customer/api/restaurants/**"), capacity, refillPerSecond);
+	}
+
+	@Bean
+	public RateLimitBudget availableTimesRateLimitBudget(
+		@Value("${rate-limit.available-times.capacity:60}") long capacity,
+		@Value("${rate-limit.available-times.refill-per-second:10}") double refillPerSecond
+	) {
+		return new RateLimitBudget(
+			"available-times",
+			List.of("/customer/api/reservations/available-times/**"),
+			capacity,
+			refillPerSecond
+		);
+	}
+
+	@Bean
+	public RateLimitBudget availableDatesRateLimitBudget(
+		@Value("${rate-limit.available-dates.capacity:60}") long capacity,
+		@Value("${rate-limit.available-dates.refill-per-second:10}") double refillPerSecond
+	) {
+		return new RateLimitBudget(
+			"available-dates",
+			List.of("/customer/api/reservations/available-dates"),
+			capacity,
+			refillPerSecond
+		);
+	}
+
+	@Bean
+	public RateLimitBudget availableMatrixRateLimitBudget(
+		@Value("${rate-limit.available-matrix.capacity:30}") long capacity,
+		@Value("${rate-limit.available-matrix.refill-per-second:5}") double refillPerSecond
+	) {
+		return new RateLimitBudget(
+			"available-matrix",
+			List.of("/customer/api/reservations/available-matrix"),
+			capacity,
+			refillPerSecond
+		);
+	}
+}
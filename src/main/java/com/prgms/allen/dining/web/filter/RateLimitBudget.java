@@ -0,0 +1,20 @@
+package com.prgms.allen.dining.web.filter;
+
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+public record RateLimitBudget(
+	String name,
+	List<String> pathPatterns,
+	long capacity,
+	double refillPerSecond
+) {
+
+	public RateLimitBudget {
+		Assert.hasText(name, "name must not be blank.");
+		Assert.notEmpty(pathPatterns, "pathPatterns must not be empty.");
+		Assert.isTrue(capacity > 0, "capacity must be positive.");
+		Assert.isTrue(refillPerSecond > 0, "refillPerSecond must be positive.");
+	}
+}
@@ -0,0 +1,93 @@
+package com.prgms.allen.dining.web.filter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgms.allen.dining.global.error.ErrorCode;
+import com.prgms.allen.dining.global.error.ErrorResponse;
+import com.prgms.allen.dining.security.jwt.JwtAuthenticationPrincipal;
+
+// 로그인한 회원은 회원 아이디로, 익명 사용자는 IP 로 구분해서 경로마다 정해진 예산만큼만 받는다.
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	public static final String RATE_LIMIT_LIMIT_HEADER = "X-RateLimit-Limit";
+	public static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
+
+	private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+	private final List<RateLimitBudget> budgets;
+	private final TokenBucketRateLimiter rateLimiter;
+	private final ObjectMapper objectMapper;
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+
+	public RateLimitFilter(
+		List<RateLimitBudget> budgets,
+		TokenBucketRateLimiter rateLimiter,
+		ObjectMapper objectMapper
+	) {
+		this.budgets = List.copyOf(budgets);
+		this.rateLimiter = rateLimiter;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+		Optional<RateLimitBudget> budget = findBudget(request);
+		if (budget.isEmpty()) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		String clientKey = resolveClientKey(request);
+		RateLimitResult result = rateLimiter.tryConsume(budget.get(), clientKey);
+		response.setHeader(RATE_LIMIT_LIMIT_HEADER, String.valueOf(budget.get().capacity()));
+		response.setHeader(RATE_LIMIT_REMAINING_HEADER, String.valueOf(result.remaining()));
+
+		if (!result.allowed()) {
+			log.info("Request rate limited. budget={}, client={}", budget.get().name(), clientKey);
+			response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(result.retryAfterSeconds()));
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.setCharacterEncoding("UTF-8");
+			objectMapper.writeValue(response.getWriter(), new ErrorResponse(ErrorCode.TOO_MANY_REQUESTS));
+			return;
+		}
+
+		chain.doFilter(request, response);
+	}
+
+	private Optional<RateLimitBudget> findBudget(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return budgets.stream()
+			.filter(budget -> budget.pathPatterns()
+				.stream()
+				.anyMatch(pattern -> pathMatcher.match(pattern, path)))
+			.findFirst();
+	}
+
+	private String resolveClientKey(HttpServletRequest request) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof JwtAuthenticationPrincipal principal) {
+			return "member:" + principal.memberId();
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+}
@@ -0,0 +1,8 @@
+package com.prgms.allen.dining.web.filter;
+
+public record RateLimitResult(
+	boolean allowed,
+	long remaining,
+	long retryAfterSeconds
+) {
+}
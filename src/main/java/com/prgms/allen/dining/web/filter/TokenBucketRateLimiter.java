@@ -0,0 +1,130 @@
+package com.prgms.allen.dining.web.filter;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+// 버킷을 stripe 별 LRU 맵에 나눠 담아, 서로 다른 클라이언트끼리는 잠금을 거의 다투지 않는다.
+// 가득 찰 만큼 오래 쓰이지 않은 버킷은 지워도 다시 만들면 같은 상태이므로 접근할 때마다 정리하고,
+// stripe 마다 개수 상한도 둬서 키가 폭증해도 메모리는 일정하게 유지된다.
+// 상한에 닿으면 가득 찬 버킷만 지우고, 그래도 자리가 없으면 새 키를 거절한다. 예산을 다 쓴 버킷을 지우면 한도가 풀리기 때문이다.
+public class TokenBucketRateLimiter {
+
+	private static final long FULL_STRIPE_RETRY_AFTER_SECONDS = 1;
+
+	private final Stripe[] stripes;
+	private final Clock clock;
+
+	public TokenBucketRateLimiter(int stripeCount, int maxBuckets, Clock clock) {
+		Assert.isTrue(stripeCount > 0, "stripeCount must be positive.");
+		Assert.isTrue(maxBuckets >= stripeCount, "maxBuckets must not be less than stripeCount.");
+
+		int maxBucketsPerStripe = maxBuckets / stripeCount;
+		this.stripes = new Stripe[stripeCount];
+		Arrays.setAll(stripes, i -> new Stripe(maxBucketsPerStripe));
+		this.clock = clock;
+	}
+
+	public RateLimitResult tryConsume(RateLimitBudget budget, String clientKey) {
+		BucketKey key = new BucketKey(budget.name(), clientKey);
+		Stripe stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+		long nowMillis = clock.millis();
+
+		synchronized (stripe) {
+			stripe.evictIdle(nowMillis);
+			Bucket bucket = stripe.buckets.get(key);
+			if (bucket == null) {
+				if (!stripe.makeRoom(nowMillis)) {
+					return new RateLimitResult(false, 0, FULL_STRIPE_RETRY_AFTER_SECONDS);
+				}
+				bucket = new Bucket(budget, nowMillis);
+				stripe.buckets.put(key, bucket);
+			}
+			return bucket.tryConsume(nowMillis);
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.buckets.size();
+			}
+		}
+		return size;
+	}
+
+	private record BucketKey(String budgetName, String clientKey) {
+	}
+
+	private static class Stripe {
+
+		private final Map<BucketKey, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+		private final int maxBuckets;
+
+		Stripe(int maxBuckets) {
+			this.maxBuckets = maxBuckets;
+		}
+
+		// 접근 순서로 정렬돼 있어서 앞에서부터 가득 찬 버킷만 지우다가 아닌 버킷을 만나면 멈춘다.
+		void evictIdle(long nowMillis) {
+			Iterator<Bucket> iterator = buckets.values().iterator();
+			while (iterator.hasNext()) {
+				if (!iterator.next().isFullAt(nowMillis)) {
+					return;
+				}
+				iterator.remove();
+			}
+		}
+
+		// 앞쪽 정리로 못 지운, 최근에 쓰였지만 이미 다시 가득 찬 버킷까지 훑어서 자리를 만든다.
+		boolean makeRoom(long nowMillis) {
+			if (buckets.size() < maxBuckets) {
+				return true;
+			}
+			buckets.values().removeIf(bucket -> bucket.isFullAt(nowMillis));
+			return buckets.size() < maxBuckets;
+		}
+	}
+
+	private static class Bucket {
+
+		private final long capacity;
+		private final double refillPerMilli;
+		private double tokens;
+		private long lastRefillMillis;
+
+		Bucket(RateLimitBudget budget, long nowMillis) {
+			this.capacity = budget.capacity();
+			this.refillPerMilli = budget.refillPerSecond() / 1000;
+			this.tokens = capacity;
+			this.lastRefillMillis = nowMillis;
+		}
+
+		RateLimitResult tryConsume(long nowMillis) {
+			refill(nowMillis);
+			if (tokens >= 1) {
+				tokens -= 1;
+				return new RateLimitResult(true, (long)tokens, 0);
+			}
+
+			long retryAfterMillis = (long)Math.ceil((1 - tokens) / refillPerMilli);
+			return new RateLimitResult(false, 0, Math.max(1, (retryAfterMillis + 999) / 1000));
+		}
+
+		boolean isFullAt(long nowMillis) {
+			return tokens + (nowMillis - lastRefillMillis) * refillPerMilli >= capacity;
+		}
+
+		private void refill(long nowMillis) {
+			if (nowMillis > lastRefillMillis) {
+				tokens = Math.min(capacity, tokens + (nowMillis - lastRefillMillis) * refillPerMilli);
+				lastRefillMillis = nowMillis;
+			}
+		}
+	}
+}
@@ -1,15 +1,49 @@
 package com.prgms.allen.dining.web.interceptor;
 
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class InterceptorConfig implements WebMvcConfigurer {
 
+	private final long replicaMaxLagMillis;
+	private final MeterRegistry meterRegistry;
+	private final boolean enforceQueryBudget;
+	private final int repeatedShapeThreshold;
+
+	public InterceptorConfig(
+		@Value("${spring.datasource.replica.max-lag-millis:5000}") long replicaMaxLagMillis,
+		MeterRegistry meterRegistry,
+		@Value("${sql-trace.enforce-budget:false}") boolean enforceQueryBudget,
+		@Value("${sql-trace.repeated-shape-threshold:5}") int repeatedShapeThreshold
+	) {
+		this.replicaMaxLagMillis = replicaMaxLagMillis;
+		this.meterRegistry = meterRegistry;
+		this.enforceQueryBudget = enforceQueryBudget;
+		this.repeatedShapeThreshold = repeatedShapeThreshold;
+	}
+
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
 		registry.addInterceptor(new ApiLogInterceptor())
 			.addPathPatterns("/**/api/**");
+		registry.addInterceptor(new ReadYourWritesInterceptor(
+				Duration.ofMillis(replicaMaxLagMillis),
+				Clock.systemUTC()
+			))
+			.addPathPatterns("/**/api/**");
+		registry.addInterceptor(new SqlTracingInterceptor(
+				meterRegistry,
+				enforceQueryBudget,
+				repeatedShapeThreshold
+			))
+			.addPathPatterns("/**/api/**");
 	}
 }
@@ -0,0 +1,93 @@
+package com.prgms.allen.dining.web.interceptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.prgms.allen.dining.global.datasource.ReadYourWrites;
+import com.prgms.allen.dining.global.datasource.ReadYourWritesContext;
+
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+	public static final String READ_PRIMARY_UNTIL_COOKIE = "read-primary-until";
+
+	private final Duration window;
+	private final Clock clock;
+
+	public ReadYourWritesInterceptor(Duration window, Clock clock) {
+		this.window = window;
+		this.clock = clock;
+	}
+
+	// 쓰기 요청에서 쿠키로 만료 시각을 내려주고, 그 시각 전까지 오는 요청은 복제본 대신 원본에서 읽게 한다.
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (isPinned(request)) {
+			ReadYourWritesContext.pinToPrimary();
+		}
+
+		if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(ReadYourWrites.class)) {
+			ReadYourWritesContext.pinToPrimary();
+			response.addCookie(createCookie());
+		}
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		Object handler
+	) {
+		ReadYourWritesContext.clear();
+	}
+
+	@Override
+	public void afterCompletion(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		Object handler,
+		Exception ex
+	) {
+		ReadYourWritesContext.clear();
+	}
+
+	// 만료 시각을 멀리 잡은 쿠키로 원본을 계속 붙잡지 못하게, 지금부터 허용치 안의 시각만 믿는다.
+	private boolean isPinned(HttpServletRequest request) {
+		if (request.getCookies() == null) {
+			return false;
+		}
+
+		long nowMillis = clock.millis();
+		return Arrays.stream(request.getCookies())
+			.filter(cookie -> READ_PRIMARY_UNTIL_COOKIE.equals(cookie.getName()))
+			.map(cookie -> parseMillis(cookie.getValue()))
+			.anyMatch(untilMillis -> nowMillis < untilMillis && untilMillis <= nowMillis + window.toMillis());
+	}
+
+	private Cookie createCookie() {
+		Cookie cookie = new Cookie(
+			READ_PRIMARY_UNTIL_COOKIE,
+			String.valueOf(clock.millis() + window.toMillis())
+		);
+		cookie.setPath("/");
+		cookie.setHttpOnly(true);
+		cookie.setMaxAge((int)Math.max(1L, window.toSeconds()));
+		return cookie;
+	}
+
+	private static long parseMillis(String value) {
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			return 0L;
+		}
+	}
+}
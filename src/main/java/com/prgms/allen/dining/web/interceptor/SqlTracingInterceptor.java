@@ -0,0 +1,89 @@
+package com.prgms.allen.dining.web.interceptor;
+
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.prgms.allen.dining.global.sql.QueryBudget;
+import com.prgms.allen.dining.global.sql.SqlTrace;
+import com.prgms.allen.dining.global.sql.SqlTraceContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class SqlTracingInterceptor implements AsyncHandlerInterceptor {
+
+	private static final Logger log = LoggerFactory.getLogger(SqlTracingInterceptor.class);
+
+	private static final String UNKNOWN_URI = "UNKNOWN";
+
+	private final MeterRegistry meterRegistry;
+	private final boolean enforceBudget;
+	private final int repeatedShapeThreshold;
+
+	public SqlTracingInterceptor(MeterRegistry meterRegistry, boolean enforceBudget, int repeatedShapeThreshold) {
+		this.meterRegistry = meterRegistry;
+		this.enforceBudget = enforceBudget;
+		this.repeatedShapeThreshold = repeatedShapeThreshold;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		int budget = SqlTrace.NO_BUDGET;
+		if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(QueryBudget.class)) {
+			budget = handlerMethod.getMethodAnnotation(QueryBudget.class).value();
+		}
+		SqlTraceContext.start(budget, enforceBudget);
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+		Object handler) {
+		SqlTraceContext.finish();
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+		Exception ex) {
+		SqlTraceContext.finish()
+			.ifPresent(trace -> report(request, trace));
+	}
+
+	private void report(HttpServletRequest request, SqlTrace trace) {
+		String uri = resolveUri(request);
+
+		DistributionSummary.builder("http.server.requests.sql.statements")
+			.tag("method", request.getMethod())
+			.tag("uri", uri)
+			.register(meterRegistry)
+			.record(trace.getStatementCount());
+
+		Map<String, Integer> repeatedShapes = trace.findRepeatedShapes(repeatedShapeThreshold);
+		if (repeatedShapes.isEmpty()) {
+			return;
+		}
+
+		Counter.builder("http.server.requests.sql.n-plus-one")
+			.tag("method", request.getMethod())
+			.tag("uri", uri)
+			.register(meterRegistry)
+			.increment();
+		repeatedShapes.forEach((shape, count) -> log.warn(
+			"Suspected N+1 in {} {}: {} executions of [{}]", request.getMethod(), uri, count, shape
+		));
+	}
+
+	private String resolveUri(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern == null ? UNKNOWN_URI : pattern.toString();
+	}
+}
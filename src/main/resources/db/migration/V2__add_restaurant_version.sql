@@ -0,0 +1,2 @@
+alter table `restaurant`
+    add column `version` bigint not null default 0;
@@ -0,0 +1,26 @@
+alter table `menu` rename to `menu_legacy`;
+
+create table `menu`
+(
+    `menu_id`       bigint         not null auto_increment,
+    `restaurant_id` bigint         not null,
+    `display_order` integer        not null,
+    `description`   varchar(255),
+    `name`          varchar(30)    not null,
+    `price`         numeric(19, 2) not null,
+    primary key (`menu_id`),
+    constraint `fk_menu_restaurant` foreign key (`restaurant_id`) references restaurant (`restaurant_id`)
+);
+
+-- 기존 행에는 순서 정보가 없어서 식당별로 이름 순서대로 번호를 매긴다.
+insert into `menu` (`restaurant_id`, `display_order`, `description`, `name`, `price`)
+select `restaurant_id`,
+       row_number() over (partition by `restaurant_id` order by `name`) - 1,
+       `description`,
+       `name`,
+       `price`
+from `menu_legacy`;
+
+drop table `menu_legacy`;
+
+create index `idx_menu_restaurant_display_order` on `menu` (`restaurant_id`, `display_order`);
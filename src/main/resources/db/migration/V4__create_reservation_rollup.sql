@@ -0,0 +1,23 @@
+create table `reservation_rollup`
+(
+    `reservation_rollup_id` bigint       not null auto_increment,
+    `restaurant_id`         bigint       not null,
+    `visit_date`            date         not null,
+    `visit_time`            time         not null,
+    `status`                varchar(255) not null,
+    `reservation_count`     integer      not null,
+    `visitor_count`         integer      not null,
+    primary key (`reservation_rollup_id`),
+    constraint `uk_reservation_rollup_slot_status` unique (`restaurant_id`, `visit_date`, `visit_time`, `status`)
+);
+
+-- 이후에는 예약 상태가 바뀔 때마다 증분으로 갱신하고, 매일 밤 최근 기간을 다시 집계해서 보정한다.
+insert into `reservation_rollup` (`restaurant_id`, `visit_date`, `visit_time`, `status`, `reservation_count`, `visitor_count`)
+select `restaurant_id`,
+       `visit_date`,
+       `visit_time`,
+       `status`,
+       count(*),
+       sum(`visitor_count`)
+from `reservation`
+group by `restaurant_id`, `visit_date`, `visit_time`, `status`;
@@ -0,0 +1,10 @@
+-- 원본에 주기적으로 시각을 쓰고 복제본에서 읽어서 복제 지연을 잰다.
+create table `replication_heartbeat`
+(
+    `heartbeat_id` integer not null,
+    `beat_millis`  bigint  not null,
+    primary key (`heartbeat_id`)
+);
+
+insert into `replication_heartbeat` (`heartbeat_id`, `beat_millis`)
+values (1, 0);
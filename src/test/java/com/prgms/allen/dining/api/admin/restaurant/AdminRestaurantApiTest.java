@@ -0,0 +1,120 @@
+package com.prgms.allen.dining.api.admin.restaurant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.prgms.allen.dining.domain.member.MemberRepository;
+import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.member.entity.MemberType;
+import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
+import com.prgms.allen.dining.domain.restaurant.entity.ClosingDay;
+import com.prgms.allen.dining.domain.restaurant.entity.Menu;
+import com.prgms.allen.dining.generator.JwtGenerator;
+import com.prgms.allen.dining.security.config.HeaderValue;
+
+@AutoConfigureRestDocs
+@AutoConfigureMockMvc
+@SpringBootTest
+@Transactional
+class AdminRestaurantApiTest {
+
+	private static final String CSV = String.join("\n",
+		"ownerNickname,foodType,name,capacity,openTime,lastOrderTime,location,description,phone,closingDays,menus",
+		"franchise01,KOREAN,프랜차이즈 강남점,20,11:00,21:00,서울특별시 강남구 1,"
+			+ "\"국밥, 수육 전문\",0211112222,MONDAY;SUNDAY,국밥:9000:진한 국물|수육:25000",
+		"franchise02,KOREAN,프랜차이즈 서초점,20,11:00,21:00,서울특별시 서초구 2,,0222223333,,국밥:9000",
+		"franchise09,KOREAN,프랜차이즈 송파점,20,11:00,21:00,서울특별시 송파구 3,,0233334444,,",
+		"franchise01,KOREAN,프랜차이즈 중구점,20,11:00,21:00,서울특별시 중구 4,,0244445555,,"
+	);
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private RestaurantRepository restaurantRepository;
+	@Autowired
+	private JwtGenerator jwtGenerator;
+
+	@Test
+	@DisplayName("운영자는 CSV 로 가입한 점주들의 식당을 한 번에 등록하고 줄마다 실패 사유를 받을 수 있다.")
+	void importCsv() throws Exception {
+
+		Member admin = memberRepository.save(createMember("operator01", "운영자", MemberType.ADMIN));
+		Member owner = memberRepository.save(createMember("franchise01", "김점주", MemberType.OWNER));
+		memberRepository.save(createMember("franchise02", "이점주", MemberType.OWNER));
+		long memberCount = memberRepository.count();
+
+		mockMvc.perform(post("/admin/api/restaurants/bulk")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(admin))
+				.contentType("text/csv")
+				.content(CSV.getBytes(StandardCharsets.UTF_8)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.totalCount").value(4))
+			.andExpect(jsonPath("$.importedCount").value(2))
+			.andExpect(jsonPath("$.errors[0].lineNumber").value(4))
+			.andExpect(jsonPath("$.errors[1].lineNumber").value(5))
+			.andDo(print())
+			.andDo(document("admin-restaurant-bulk-import",
+				responseFields(
+					fieldWithPath("totalCount").type(JsonFieldType.NUMBER).description("number of data rows"),
+					fieldWithPath("importedCount").type(JsonFieldType.NUMBER).description("number of imported rows"),
+					fieldWithPath("errors").type(JsonFieldType.ARRAY).description("rows that failed"),
+					fieldWithPath("errors[].lineNumber").type(JsonFieldType.NUMBER).description("line number"),
+					fieldWithPath("errors[].message").type(JsonFieldType.STRING).description("failure reason")
+				))
+			);
+
+		Long restaurantId = restaurantRepository.findIdByOwnerId(owner.getId()).get();
+		assertThat(restaurantRepository.getMenus(PageRequest.of(0, 10), restaurantId))
+			.extracting(Menu::getName)
+			.containsExactly("국밥", "수육");
+		assertThat(restaurantRepository.findById(restaurantId).get().getClosingDays())
+			.containsExactly(new ClosingDay(DayOfWeek.MONDAY), new ClosingDay(DayOfWeek.SUNDAY));
+		assertThat(memberRepository.count()).isEqualTo(memberCount);
+	}
+
+	@Test
+	@DisplayName("점주는 식당을 일괄 등록할 수 없다.")
+	void failImportCsvByOwner() throws Exception {
+
+		Member owner = memberRepository.save(createMember("franchise01", "김점주", MemberType.OWNER));
+
+		mockMvc.perform(post("/admin/api/restaurants/bulk")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner))
+				.contentType("text/csv")
+				.content(CSV.getBytes(StandardCharsets.UTF_8)))
+			.andExpect(status().isForbidden())
+			.andDo(print());
+
+		assertThat(restaurantRepository.existsRestaurantByOwnerId(owner.getId())).isFalse();
+	}
+
+	private Member createMember(String nickname, String name, MemberType memberType) {
+		return new Member(
+			nickname,
+			name,
+			"01011112222",
+			"qwer1234!",
+			memberType
+		);
+	}
+}
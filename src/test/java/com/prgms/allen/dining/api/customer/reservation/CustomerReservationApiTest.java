@@ -1,6 +1,8 @@
 package com.prgms.allen.dining.api.customer.reservation;
 
 import static com.prgms.allen.dining.domain.reservation.entity.ReservationStatus.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,11 +37,15 @@ import com.prgms.allen.dining.domain.member.MemberRepository;
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationCreateReq;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationCustomerInputCreateReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldConfirmReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldCreateReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationModifyReq;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationStatusUpdateReq;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
 import com.prgms.allen.dining.domain.reservation.entity.VisitStatus;
+import com.prgms.allen.dining.domain.reservation.live.AvailabilityBroadcaster;
 import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
 import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
@@ -68,6 +76,9 @@ class CustomerReservationApiTest {
 	@Autowired
 	private JwtGenerator jwtGenerator;
 
+	@Autowired
+	private AvailabilityBroadcaster availabilityBroadcaster;
+
 	@Test
 	@DisplayName("고객은 식당 예약을 요청할 수 있다.")
 	void request_reserve() throws Exception {
@@ -106,6 +117,216 @@ class CustomerReservationApiTest {
 			);
 	}
 
+	@Test
+	@DisplayName("같은 Idempotency-Key 로 재시도한 예약 요청은 새 예약을 만들지 않고 처음 예약의 위치를 돌려준다.")
+	void request_reserve_with_idempotency_key() throws Exception {
+		// given
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+
+		ReservationCreateReq reservationCreateReq = new ReservationCreateReq(
+			restaurant.getId(),
+			new ReservationCustomerInputCreateReq(
+				LocalDateTime.of(
+					LocalDate.now().plusDays(1),
+					restaurant.getOpenTime()
+				),
+				2,
+				"가지 빼주세요"
+			)
+		);
+		String idempotencyKey = UUID.randomUUID().toString();
+		String content = objectMapper.registerModule(new JavaTimeModule()).writeValueAsString(reservationCreateReq);
+		long beforeCount = reservationRepository.count();
+
+		// when
+		String firstLocation = mockMvc.perform(post("/customer/api/reservations")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(customer))
+				.header("Idempotency-Key", idempotencyKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(content))
+			.andExpect(status().isCreated())
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.LOCATION);
+
+		// then
+		mockMvc.perform(post("/customer/api/reservations")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(customer))
+				.header("Idempotency-Key", idempotencyKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(content))
+			.andExpect(status().isCreated())
+			.andExpect(header().string(HttpHeaders.LOCATION, firstLocation))
+			.andDo(print())
+			.andDo(document("customer-reserve-idempotent",
+				requestHeaders(
+					headerWithName(HeaderValue.AUTHORIZATION.getValue()).description("인증 토큰"),
+					headerWithName("Idempotency-Key").description("재시도 시 같은 값을 보내면 처음 예약 결과를 돌려준다")
+				),
+				responseHeaders(
+					headerWithName(HttpHeaders.LOCATION).description("처음 생성된 예약의 위치")
+				))
+			);
+		assertThat(reservationRepository.count()).isEqualTo(beforeCount + 1);
+	}
+
+	@Test
+	@DisplayName("고객은 좌석을 먼저 홀드한 뒤 메모를 입력해 예약으로 확정할 수 있다.")
+	void hold_and_confirm_reservation() throws Exception {
+		// given
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+
+		ReservationHoldCreateReq holdCreateReq = new ReservationHoldCreateReq(
+			restaurant.getId(),
+			LocalDateTime.of(
+				LocalDate.now().plusDays(1),
+				restaurant.getOpenTime()
+			),
+			2
+		);
+		long beforeCount = reservationRepository.count();
+
+		// when
+		String holdResponse = mockMvc.perform(post("/customer/api/reservations/holds")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(customer))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.registerModule(new JavaTimeModule()).writeValueAsString(holdCreateReq)))
+			.andExpect(status().isCreated())
+			.andDo(print())
+			.andDo(document("customer-reservation-hold",
+				requestFields(
+					fieldWithPath("restaurantId").description("식당 아이디"),
+					fieldWithPath("visitDateTime").description("방문할 날짜와 시간"),
+					fieldWithPath("visitorCount").description("방문 인원수")
+				),
+				responseFields(
+					fieldWithPath("holdId").description("홀드 아이디"),
+					fieldWithPath("restaurantId").description("식당 아이디"),
+					fieldWithPath("visitDateTime").description("방문할 날짜와 시간"),
+					fieldWithPath("visitorCount").description("방문 인원수"),
+					fieldWithPath("expiresAt").description("홀드 만료 시각")
+				))
+			)
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+		long holdId = objectMapper.readTree(holdResponse).get("holdId").asLong();
+
+		// then
+		mockMvc.perform(post("/customer/api/reservations/holds/{holdId}/confirm", holdId)
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(customer))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new ReservationHoldConfirmReq("가지 빼주세요"))))
+			.andExpect(status().isCreated())
+			.andDo(print())
+			.andDo(document("customer-reservation-hold-confirm",
+				pathParameters(
+					parameterWithName("holdId").description("홀드 아이디")
+				),
+				requestFields(
+					fieldWithPath("memo").description("예약자 메모")
+				))
+			);
+		assertThat(reservationRepository.count()).isEqualTo(beforeCount + 1);
+	}
+
+	@Test
+	@DisplayName("방문 인원수가 허용 범위를 벗어나면 좌석을 홀드할 수 없다.")
+	void failHoldWithInvalidVisitorCount() throws Exception {
+		// given
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+
+		ReservationHoldCreateReq holdCreateReq = new ReservationHoldCreateReq(
+			restaurant.getId(),
+			LocalDateTime.of(
+				LocalDate.now().plusDays(1),
+				restaurant.getOpenTime()
+			),
+			0
+		);
+
+		// when & then
+		mockMvc.perform(post("/customer/api/reservations/holds")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(customer))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.registerModule(new JavaTimeModule()).writeValueAsString(holdCreateReq)))
+			.andExpect(status().isBadRequest())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("고객은 예약의 방문 시간과 인원수를 한 번에 변경할 수 있다.")
+	void modify_reservation() throws Exception {
+		// given
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		LocalDate visitDate = LocalDate.now().plusDays(1);
+		Reservation reservation = reservationRepository.save(new Reservation(
+			customer,
+			restaurant,
+			new ReservationCustomerInput(visitDate, restaurant.getOpenTime(), 2)
+		));
+
+		ReservationModifyReq modifyReq = new ReservationModifyReq(
+			LocalDateTime.of(visitDate, restaurant.getOpenTime().plusHours(1)),
+			3
+		);
+
+		// when & then
+		mockMvc.perform(put("/customer/api/reservations/{reservationId}/schedule", reservation.getId())
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(customer))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.registerModule(new JavaTimeModule()).writeValueAsString(modifyReq)))
+			.andExpect(status().isOk())
+			.andDo(print())
+			.andDo(document("customer-reservation-modify",
+				pathParameters(
+					parameterWithName("reservationId").description("예약 식별자")
+				),
+				requestFields(
+					fieldWithPath("visitDateTime").description("변경할 방문 날짜와 시간"),
+					fieldWithPath("visitorCount").description("변경할 방문 인원수")
+				))
+			);
+		assertThat(reservation.getVisitDateTime()).isEqualTo(modifyReq.visitDateTime());
+		assertThat(reservation.getVisitorCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("고객은 식당의 날짜별 남은 예약 가능 인원 변경분을 SSE 로 구독할 수 있다.")
+	void stream_reservation_available_times() throws Exception {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		LocalDate date = LocalDate.now().plusDays(1L);
+
+		// when
+		mockMvc.perform(get("/customer/api/reservations/available-times/stream")
+				.param("restaurantId", String.valueOf(restaurant.getId()))
+				.param("date", date.toString())
+				.accept(MediaType.TEXT_EVENT_STREAM)
+			)
+			.andExpect(status().isOk())
+			.andExpect(request().asyncStarted())
+			.andDo(print())
+			.andDo(document("customer-reservation-stream-available-times",
+				requestParameters(
+					parameterWithName("restaurantId").description("식당 식별자"),
+					parameterWithName("date").description("방문 날짜")
+				))
+			);
+
+		// then
+		assertThat(availabilityBroadcaster.getSubscriberCount(restaurant.getId(), date)).isEqualTo(1);
+	}
+
 	@Test
 	@DisplayName("고객은 예약하려는 식당의 방문 날짜와 인원수를 고르면 식당의 예약 가능한 시간들을 확인할 수 있다.")
 	void get_reservation_available_times() throws Exception {
@@ -137,6 +358,44 @@ class CustomerReservationApiTest {
 			);
 	}
 
+	@Test
+	@DisplayName("고객은 식당의 기간 내 날짜별, 시간대별 남은 예약 가능 인원을 한 번에 조회할 수 있다.")
+	void get_reservation_available_matrix() throws Exception {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		reservationRepository.saveAll(DummyGenerator.createReservationEveryHour(customer, restaurant));
+
+		// when & then
+		String restaurantId = String.valueOf(restaurant.getId());
+		String startDate = LocalDate.now().toString();
+		String endDate = LocalDate.now().plusDays(6L).toString();
+
+		mockMvc.perform(get("/customer/api/reservations/available-matrix")
+				.param("restaurantId", restaurantId)
+				.param("startDate", startDate)
+				.param("endDate", endDate)
+			)
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.dates.length()").value(7))
+			.andExpect(jsonPath("$.dates[1].remainingCapacities[0]").value(0))
+			.andDo(print())
+			.andDo(document("customer-reservation-get-available-matrix",
+				requestParameters(
+					parameterWithName("restaurantId").description("식당 식별자"),
+					parameterWithName("startDate").description("조회 시작 날짜"),
+					parameterWithName("endDate").description("조회 종료 날짜")
+				),
+				responseFields(
+					fieldWithPath("times[]").description("식당의 예약 시간표"),
+					fieldWithPath("dates[]").description("휴무일을 제외한 날짜별 남은 예약 가능 인원"),
+					fieldWithPath("dates[].date").description("날짜"),
+					fieldWithPath("dates[].remainingCapacities[]").description("times 와 같은 순서의 시간대별 남은 인원")
+				))
+			);
+	}
+
 	@ParameterizedTest
 	@CsvSource({"PLANNED", "DONE", "CANCEL"})
 	@DisplayName("고객은 자신의 예약을 상태별로 조회할 수 있다.")
@@ -1,5 +1,8 @@
 package com.prgms.allen.dining.api.customer.restaurant;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -7,12 +10,15 @@ import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigInteger;
 import java.text.MessageFormat;
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +27,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +37,7 @@ import org.springframework.util.MultiValueMap;
 import com.prgms.allen.dining.domain.member.MemberRepository;
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
+import com.prgms.allen.dining.domain.reservation.availability.AvailabilityIndex;
 import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
 import com.prgms.allen.dining.domain.restaurant.RestaurantService;
 import com.prgms.allen.dining.domain.restaurant.dto.RestaurantCreateReq;
@@ -56,6 +64,9 @@ class CustomerRestaurantApiTest {
 	@Autowired
 	private RestaurantRepository restaurantRepository;
 
+	@Autowired
+	private AvailabilityIndex availabilityIndex;
+
 	@BeforeEach
 	void setUp() {
 		final List<Member> members = List.of(
@@ -115,6 +126,80 @@ class CustomerRestaurantApiTest {
 			);
 	}
 
+	@Test
+	@DisplayName("고객이 가진 ETag 가 식당의 현재 버전과 같으면 상세 정보 대신 304 를 받는다.")
+	void getOneNotModified() throws Exception {
+		Member owner = memberRepository.save(createOwner("etagOwner"));
+		Restaurant restaurant = restaurantRepository.save(createRestaurant(owner));
+
+		String eTag = mockMvc.perform(
+				get("/customer/api/restaurants/{restaurantId}", restaurant.getId()))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"" + restaurant.getId() + "-0\""))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(
+				get("/customer/api/restaurants/{restaurantId}", restaurant.getId())
+					.header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""))
+			.andDo(print())
+			.andDo(document("customer-get-one-restaurant-not-modified",
+				requestHeaders(
+					headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답에서 받은 ETag")
+				),
+				responseHeaders(
+					headerWithName(HttpHeaders.ETAG).description("식당 아이디와 버전으로 만든 ETag"),
+					headerWithName(HttpHeaders.CACHE_CONTROL).description("캐시 정책")
+				))
+			);
+	}
+
+	@Test
+	@DisplayName("gzip 을 받을 수 있는 고객에게는 미리 압축해 둔 식당 상세 정보를 내려준다.")
+	void getOneGzipped() throws Exception {
+		Member owner = memberRepository.save(createOwner("gzipOwner"));
+		Restaurant restaurant = restaurantRepository.save(createRestaurant(owner));
+
+		byte[] json = mockMvc.perform(
+				get("/customer/api/restaurants/{restaurantId}", restaurant.getId()))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+			.andReturn()
+			.getResponse()
+			.getContentAsByteArray();
+
+		byte[] gzippedJson = mockMvc.perform(
+				get("/customer/api/restaurants/{restaurantId}", restaurant.getId())
+					.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+			.andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+			.andExpect(header().string(HttpHeaders.ETAG, "\"" + restaurant.getId() + "-0-gzip\""))
+			.andReturn()
+			.getResponse()
+			.getContentAsByteArray();
+
+		try (GZIPInputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(gzippedJson))) {
+			assertThat(gzipIn.readAllBytes()).isEqualTo(json);
+		}
+	}
+
+	@Test
+	@DisplayName("gzip 의 q 값이 0 이면 압축하지 않은 식당 상세 정보를 내려준다.")
+	void getOneNotGzippedWhenRefused() throws Exception {
+		Member owner = memberRepository.save(createOwner("gzipRefuser"));
+		Restaurant restaurant = restaurantRepository.save(createRestaurant(owner));
+
+		mockMvc.perform(get("/customer/api/restaurants/{restaurantId}", restaurant.getId())
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+			.andExpect(header().string(HttpHeaders.ETAG, "\"" + restaurant.getId() + "-0\""));
+	}
+
 	@Test
 	@DisplayName("구매자는 레스토랑의 목록을 페이징 조회할 수 있다")
 	void getRestaurants() throws Exception {
@@ -191,6 +276,29 @@ class CustomerRestaurantApiTest {
 				)));
 	}
 
+	@Test
+	@DisplayName("구매자가 보낸 정렬 기준대로 레스토랑 목록을 조회한다")
+	void getRestaurantsContainsSortedByName() throws Exception {
+		List<String> names = List.of("정렬 나", "정렬 가", "정렬 다");
+		for (int i = 0; i < names.size(); i++) {
+			restaurantRepository.save(createRestaurant(memberRepository.save(createOwner("sortOwner" + i)), names.get(i)));
+		}
+
+		mockMvc.perform(get("/customer/api/restaurants/search")
+				.param("restaurantName", "정렬")
+				.param("sort", "name,desc"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[*].restaurantName").value(contains("정렬 다", "정렬 나", "정렬 가")));
+	}
+
+	@Test
+	@DisplayName("목록에서 정렬할 수 없는 속성으로 정렬을 요청하면 400 을 응답한다")
+	void failGetRestaurantsSortedByUnsupportedProperty() throws Exception {
+		mockMvc.perform(get("/customer/api/restaurants")
+				.param("sort", "capacity,asc"))
+			.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	@DisplayName("구매자는 특정 레스토랑의 메뉴 리스트를 조회할 수 있다")
 	void getMenus() throws Exception {
@@ -223,6 +331,62 @@ class CustomerRestaurantApiTest {
 				)));
 	}
 
+	@Test
+	@DisplayName("구매자는 원하는 날짜, 시간, 인원으로 예약 가능한 레스토랑들을 음식 종류별로 조회할 수 있다")
+	void getAvailableRestaurants() throws Exception {
+		Member owner = memberRepository.save(createOwner("주인장"));
+		Restaurant restaurant = restaurantRepository.save(createRestaurant(owner));
+		availabilityIndex.register(
+			restaurant.getId(),
+			restaurant.getFoodType(),
+			restaurant.getCapacity(),
+			restaurant.getOpenTime(),
+			restaurant.getLastOrderTime(),
+			List.of()
+		);
+
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		params.add("date", LocalDate.now().plusDays(1).toString());
+		params.add("time", "19:00");
+		params.add("visitorCount", "4");
+		params.add("foodType", FoodType.KOREAN.name());
+		params.add("page", "0");
+		params.add("size", "10");
+
+		mockMvc.perform(get("/customer/api/restaurants/available")
+				.queryParams(params))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[*].restaurantName").value(hasItem(restaurant.getName())))
+			.andDo(print())
+			.andDo(document("customer-get-available-restaurant-list",
+				requestParameters(
+					parameterWithName("date").description("방문 날짜"),
+					parameterWithName("time").description("방문 시간"),
+					parameterWithName("visitorCount").description("방문 인원수"),
+					parameterWithName("foodType").description("음식 카테고리(생략 시 전체)"),
+					parameterWithName("page").description("페이지"),
+					parameterWithName("size").description("페이지 사이즈")
+				),
+				responseFields(
+					fieldWithPath("content[].foodType").description("음식 카테고리"),
+					fieldWithPath("content[].restaurantName").description("레스토랑 이름"),
+					fieldWithPath("content[].location").description("레스토랑 주소"),
+					subsectionWithPath("pageable").description("페이징 정보"),
+					fieldWithPath("totalElements").description("전체 데이터 개수"),
+					fieldWithPath("first").description("첫번째 페이지인지 여부"),
+					fieldWithPath("last").description("마지막 페이지인지 여부"),
+					fieldWithPath("totalPages").description("전체 페이지 개수"),
+					fieldWithPath("numberOfElements").description("요청 페이지에서 조회된 데이터 개수"),
+					fieldWithPath("size").description("한 페이지당 조회할 데이터 개수"),
+					fieldWithPath("number").description("현재 페이지 번호"),
+					fieldWithPath("sort").description("정렬 기준"),
+					fieldWithPath("sort.sorted").description("정렬 됐는지 여부"),
+					fieldWithPath("sort.unsorted").description("정렬 안됐는지 여부"),
+					fieldWithPath("sort.empty").description("데이터가 비었는지 여부"),
+					fieldWithPath("empty").description("데이터가 비었는지 여부")
+				)));
+	}
+
 	private Member createOwner(String nickName) {
 
 		return new Member(
@@ -234,10 +398,14 @@ class CustomerRestaurantApiTest {
 	}
 
 	private Restaurant createRestaurant(Member member) {
+		return createRestaurant(member, "돼지국밥 맛난집");
+	}
+
+	private Restaurant createRestaurant(Member member, String name) {
 		return new Restaurant(
 			member,
 			FoodType.KOREAN,
-			"돼지국밥 맛난집",
+			name,
 			40,
 			LocalTime.of(8, 0),
 			LocalTime.of(20, 0),
@@ -23,6 +23,7 @@ import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
 import com.prgms.allen.dining.generator.DummyGenerator;
 import com.prgms.allen.dining.security.config.MemberLoginReq;
+import com.prgms.allen.dining.web.interceptor.ReadYourWritesInterceptor;
 
 @AutoConfigureRestDocs
 @AutoConfigureMockMvc
@@ -55,6 +56,7 @@ class MemberApiTest {
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(signupReq)))
 			.andExpect(status().isCreated())
+			.andExpect(cookie().exists(ReadYourWritesInterceptor.READ_PRIMARY_UNTIL_COOKIE))
 			.andDo(print())
 			.andDo(document("member-join",
 				requestFields(
@@ -1,10 +1,13 @@
 package com.prgms.allen.dining.api.owner.reservation;
 
 import static com.prgms.allen.dining.domain.reservation.entity.ReservationStatus.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -20,20 +23,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prgms.allen.dining.domain.member.MemberRepository;
 import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.member.entity.MemberType;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationStatusUpdateReq;
 import com.prgms.allen.dining.domain.reservation.entity.FakeReservationCustomerInput;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.reservation.event.ReservationChangedEvent;
+import com.prgms.allen.dining.domain.reservation.feed.OwnerReservationFeed;
 import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
+import com.prgms.allen.dining.domain.reservation.rollup.ReservationRollup;
+import com.prgms.allen.dining.domain.reservation.rollup.ReservationRollupRepository;
 import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
 import com.prgms.allen.dining.generator.DummyGenerator;
@@ -63,6 +73,12 @@ class OwnerReservationApiTest {
 	@Autowired
 	private JwtGenerator jwtGenerator;
 
+	@Autowired
+	private OwnerReservationFeed ownerReservationFeed;
+
+	@Autowired
+	private ReservationRollupRepository rollupRepository;
+
 	@Test
 	@DisplayName("점주는 확정 대기 중인 예약을 확정할 수 있다.")
 	void confirm_reservation() throws Exception {
@@ -273,6 +289,7 @@ class OwnerReservationApiTest {
 		String size = "5";
 
 		mockMvc.perform(get("/owner/api/reservations")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner))
 				.param("reservationStatus", status)
 				.param("restaurantId", restaurant.getId().toString())
 				.param("page", page)
@@ -284,7 +301,7 @@ class OwnerReservationApiTest {
 				document("owner-reservation-get-by-reservationStatus",
 					requestParameters(
 						parameterWithName("reservationStatus").description("조회할 상태"),
-						parameterWithName("restaurantId").description("조회하려는 레스토랑의 아이디"),
+						parameterWithName("restaurantId").optional().description("조회하려는 레스토랑의 아이디, 점주의 식당과 같아야 한다"),
 						parameterWithName("page").description("페이지 번호"),
 						parameterWithName("size").description("한 페이지 당 조회 개수")
 					),
@@ -314,4 +331,267 @@ class OwnerReservationApiTest {
 				)
 			);
 	}
-}
\ No newline at end of file
+
+	@ParameterizedTest
+	@CsvSource({
+		"/owner/api/reservations?reservationStatus=PENDING",
+		"/owner/api/reservations/feed?since=0",
+		"/owner/api/reservations/export?startDate=2026-01-01&endDate=2026-03-31",
+		"/owner/api/reservations/analytics?startDate=2026-01-01&endDate=2026-03-31"
+	})
+	@DisplayName("토큰 없이 점주 예약 API 를 호출하면 403 을 응답한다.")
+	void failOwnerReservationApiWithoutToken(String url) throws Exception {
+		mockMvc.perform(get(url))
+			.andExpect(status().isForbidden())
+			.andDo(print());
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+		"/owner/api/reservations?reservationStatus=PENDING",
+		"/owner/api/reservations/feed?since=0",
+		"/owner/api/reservations/export?startDate=2026-01-01&endDate=2026-03-31",
+		"/owner/api/reservations/analytics?startDate=2026-01-01&endDate=2026-03-31"
+	})
+	@DisplayName("구매자 토큰으로 점주 예약 API 를 호출하면 403 을 응답한다.")
+	void failOwnerReservationApiWithCustomerToken(String url) throws Exception {
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+
+		mockMvc.perform(get(url)
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(customer)))
+			.andExpect(status().isForbidden())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("점주는 토큰에 담긴 식당 아이디로 예약 목록을 조회할 수 있다.")
+	void getOwnerReservationsByTokenRestaurantId() throws Exception {
+		// given
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		ReservationCustomerInput customerInput = new FakeReservationCustomerInput(
+			LocalDate.now()
+				.plusDays(1),
+			LocalTime.now()
+				.truncatedTo(ChronoUnit.HOURS),
+			2
+		);
+		reservationRepository.save(
+			Reservation.newTestInstance(null, customer, restaurant, ReservationStatus.PENDING, customerInput)
+		);
+
+		// when & then
+		mockMvc.perform(get("/owner/api/reservations")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner, restaurant.getId()))
+				.param("reservationStatus", ReservationStatus.PENDING.name())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.totalElements").value(1))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("점주는 토큰에 담긴 식당이 아닌 다른 식당의 예약 목록을 조회할 수 없다.")
+	void failGetOwnerReservationsOfOtherRestaurant() throws Exception {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+
+		// when & then
+		mockMvc.perform(get("/owner/api/reservations")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner, restaurant.getId()))
+				.param("reservationStatus", ReservationStatus.PENDING.name())
+				.param("restaurantId", String.valueOf(restaurant.getId() + 1))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("점주는 커서 이후에 생기거나 바뀐 예약을 피드로 받을 수 있다.")
+	void getReservationFeed() throws Exception {
+		// given
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		ReservationCustomerInput customerInput = new ReservationCustomerInput(
+			LocalDate.now()
+				.plusDays(1),
+			LocalTime.now()
+				.truncatedTo(ChronoUnit.HOURS),
+			2
+		);
+		Reservation reservation = reservationRepository.save(new Reservation(customer, restaurant, customerInput));
+		ownerReservationFeed.onReservationChanged(new ReservationChangedEvent(reservation));
+
+		// when
+		MvcResult mvcResult = mockMvc.perform(get("/owner/api/reservations/feed")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner, restaurant.getId()))
+				.param("since", "0"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.items[0].reservationId").value(reservation.getId()))
+			.andDo(print())
+			.andDo(document("owner-reservation-get-feed",
+				requestParameters(
+					parameterWithName("since").description("마지막으로 받은 커서, 처음이면 0"),
+					parameterWithName("restaurantId").optional().description("식당 아이디, 보내면 점주의 식당과 같아야 한다")
+				),
+				responseFields(
+					fieldWithPath("cursor").description("다음 요청에 보낼 커서"),
+					fieldWithPath("truncated").description("보관 범위를 벗어난 커서라 목록을 다시 조회해야 하는지 여부"),
+					fieldWithPath("items[].cursor").description("변경분의 커서"),
+					fieldWithPath("items[].reservationId").description("예약 아이디"),
+					fieldWithPath("items[].status").description("예약 상태"),
+					fieldWithPath("items[].visitDateTime").description("방문 날짜와 시간"),
+					fieldWithPath("items[].visitorCount").description("방문 인원수")
+				))
+			);
+	}
+
+	@Test
+	@DisplayName("토큰에 식당이 없는 점주는 다른 점주의 식당 아이디로 피드를 받을 수 없다.")
+	void failGetReservationFeedOfOtherRestaurantWithoutTokenRestaurant() throws Exception {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		Restaurant otherRestaurant = saveOtherOwnerRestaurant();
+
+		// when & then
+		mockMvc.perform(get("/owner/api/reservations/feed")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner))
+				.param("since", "0")
+				.param("restaurantId", otherRestaurant.getId().toString()))
+			.andExpect(status().isBadRequest())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("점주는 기간과 상태로 걸러낸 예약을 CSV 파일로 내려받을 수 있다.")
+	void exportReservations() throws Exception {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+
+		// when
+		MvcResult mvcResult = mockMvc.perform(get("/owner/api/reservations/export")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner, restaurant.getId()))
+				.param("startDate", "2026-01-01")
+				.param("endDate", "2026-03-31")
+				.param("statuses", "CONFIRMED", "VISITED"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("attachment")))
+			.andExpect(content().contentType("text/csv;charset=UTF-8"))
+			.andExpect(content().string(startsWith("reservationId,visitDate,visitTime,visitorCount,status,createdAt")))
+			.andDo(print())
+			.andDo(document("owner-reservation-export",
+				requestParameters(
+					parameterWithName("startDate").description("내보낼 방문일 시작(포함)"),
+					parameterWithName("endDate").description("내보낼 방문일 끝(포함)"),
+					parameterWithName("statuses").optional().description("내보낼 예약 상태, 없으면 모든 상태"),
+					parameterWithName("restaurantId").optional().description("식당 아이디, 보내면 점주의 식당과 같아야 한다")
+				))
+			);
+	}
+
+	@Test
+	@DisplayName("토큰에 식당이 없는 점주는 다른 점주의 식당 예약을 내려받을 수 없다.")
+	void failExportReservationsOfOtherRestaurantWithoutTokenRestaurant() throws Exception {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		Restaurant otherRestaurant = saveOtherOwnerRestaurant();
+
+		// when & then
+		mockMvc.perform(get("/owner/api/reservations/export")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner))
+				.param("startDate", "2026-01-01")
+				.param("endDate", "2026-03-31")
+				.param("restaurantId", otherRestaurant.getId().toString()))
+			.andExpect(status().isBadRequest())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("점주는 기간별 방문 인원, 노쇼율, 시간대별 좌석 점유율을 조회할 수 있다.")
+	void getReservationAnalytics() throws Exception {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		LocalDate visitDate = LocalDate.of(2026, 3, 1);
+		LocalTime visitTime = LocalTime.of(18, 0);
+		rollupRepository.save(new ReservationRollup(restaurant.getId(), visitDate, visitTime, VISITED, 3, 8));
+		rollupRepository.save(new ReservationRollup(restaurant.getId(), visitDate, visitTime, NO_SHOW, 1, 2));
+
+		// when & then
+		mockMvc.perform(get("/owner/api/reservations/analytics")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner, restaurant.getId()))
+				.param("startDate", "2026-03-01")
+				.param("endDate", "2026-03-31"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.dailyStats[0].covers").value(8))
+			.andExpect(jsonPath("$.dailyStats[0].noShowRate").value(0.25))
+			.andExpect(jsonPath("$.slotUtilizations[0].visitorCount").value(10))
+			.andDo(print())
+			.andDo(document("owner-reservation-analytics",
+				requestParameters(
+					parameterWithName("startDate").description("조회할 방문일 시작(포함)"),
+					parameterWithName("endDate").description("조회할 방문일 끝(포함)"),
+					parameterWithName("restaurantId").optional().description("식당 아이디, 보내면 점주의 식당과 같아야 한다")
+				),
+				responseFields(
+					fieldWithPath("startDate").description("조회한 방문일 시작"),
+					fieldWithPath("endDate").description("조회한 방문일 끝"),
+					fieldWithPath("capacity").description("식당의 시간대별 수용 인원"),
+					fieldWithPath("dailyStats[].date").description("방문 날짜, 예약이 있었던 날짜만 내려준다"),
+					fieldWithPath("dailyStats[].reservationCount").description("취소를 뺀 예약 수"),
+					fieldWithPath("dailyStats[].covers").description("방문 완료한 인원수"),
+					fieldWithPath("dailyStats[].noShowCount").description("노쇼한 예약 수"),
+					fieldWithPath("dailyStats[].noShowRate").description("방문 완료와 노쇼 중 노쇼의 비율"),
+					fieldWithPath("slotUtilizations[].date").description("방문 날짜"),
+					fieldWithPath("slotUtilizations[].time").description("방문 시간"),
+					fieldWithPath("slotUtilizations[].visitorCount").description("취소를 뺀 예약 인원수"),
+					fieldWithPath("slotUtilizations[].utilization").description("수용 인원 대비 예약 인원 비율")
+				))
+			);
+	}
+
+	@Test
+	@DisplayName("토큰에 식당이 없는 점주는 다른 점주의 식당 통계를 조회할 수 없다.")
+	void failGetReservationAnalyticsOfOtherRestaurantWithoutTokenRestaurant() throws Exception {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		Restaurant otherRestaurant = saveOtherOwnerRestaurant();
+
+		// when & then
+		mockMvc.perform(get("/owner/api/reservations/analytics")
+				.header(HeaderValue.AUTHORIZATION.getValue(), jwtGenerator.getToken(owner))
+				.param("startDate", "2026-03-01")
+				.param("endDate", "2026-03-31")
+				.param("restaurantId", otherRestaurant.getId().toString()))
+			.andExpect(status().isBadRequest())
+			.andDo(print());
+	}
+
+	private Restaurant saveOtherOwnerRestaurant() {
+		Member otherOwner = memberRepository.save(new Member(
+			"otherOwner",
+			"다른점주",
+			"01056785678",
+			"qwer1234!",
+			MemberType.OWNER
+		));
+		return restaurantRepository.save(DummyGenerator.createRestaurant(otherOwner));
+	}
+}
@@ -0,0 +1,23 @@
+package com.prgms.allen.dining.domain.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+public class FakeApplicationEventPublisher implements ApplicationEventPublisher {
+
+	private final List<Object> events = new ArrayList<>();
+
+	@Override
+	public void publishEvent(Object event) {
+		events.add(event);
+	}
+
+	public <T> List<T> getEvents(Class<T> eventType) {
+		return events.stream()
+			.filter(eventType::isInstance)
+			.map(eventType::cast)
+			.toList();
+	}
+}
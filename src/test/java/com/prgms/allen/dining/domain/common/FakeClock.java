@@ -0,0 +1,30 @@
+package com.prgms.allen.dining.domain.common;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+public class FakeClock extends Clock {
+
+	private Instant now = Instant.parse("2023-01-01T00:00:00Z");
+
+	public void advance(Duration duration) {
+		now = now.plus(duration);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneId.of("UTC");
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		return this;
+	}
+
+	@Override
+	public Instant instant() {
+		return now;
+	}
+}
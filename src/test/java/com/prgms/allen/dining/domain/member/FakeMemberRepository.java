@@ -1,11 +1,14 @@
 package com.prgms.allen.dining.domain.member;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
+import javax.persistence.EntityNotFoundException;
+
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -146,7 +149,8 @@ public class FakeMemberRepository implements MemberRepository {
 
 	@Override
 	public Member getReferenceById(Long aLong) {
-		throw new UnsupportedOperationException();
+		return findById(aLong)
+			.orElseThrow(EntityNotFoundException::new);
 	}
 
 	@Override
@@ -197,4 +201,27 @@ public class FakeMemberRepository implements MemberRepository {
 	public Optional<Member> findByNickname(String nickname) {
 		return Optional.empty();
 	}
+
+	@Override
+	public List<Member> findAllByNicknameInAndMemberType(Collection<String> nicknames, MemberType memberType) {
+		return members.stream()
+			.filter(member -> nicknames.contains(member.getNickname()))
+			.filter(member -> memberType.equals(member.getMemberType()))
+			.toList();
+	}
+
+	@Override
+	public List<Member> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<Long> findIdsByIdIn(Collection<Long> ids) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int insertReplica(Member member) {
+		throw new UnsupportedOperationException();
+	}
 }
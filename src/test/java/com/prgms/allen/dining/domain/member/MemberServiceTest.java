@@ -5,14 +5,22 @@ import static org.assertj.core.api.Assertions.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
 
+import com.prgms.allen.dining.domain.member.dto.MemberContact;
 import com.prgms.allen.dining.domain.member.dto.MemberSignupReq;
+import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.member.entity.MemberType;
+import com.prgms.allen.dining.global.shard.SingleShardOperations;
 
 class MemberServiceTest {
 
 	private final MemberRepository memberRepository = new FakeMemberRepository();
-	private final MemberService memberService = new MemberService(memberRepository);
+	private final MemberService memberService = new MemberService(
+		memberRepository,
+		new MemberContactCache(100),
+		new SingleShardOperations(TransactionOperations.withoutTransaction())
+	);
 
 	@AfterEach
 	void tearDown() {
@@ -34,4 +42,62 @@ class MemberServiceTest {
 		assertThat(count)
 			.isEqualTo(1L);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("다른 샤드로 복제하다 실패해도 가입은 유지되고, 빠진 샤드는 보정 작업에 맡긴다.")
+	public void signupWhenReplicationFails() {
+		// given
+		final MemberService failingReplicationService = new MemberService(
+			memberRepository,
+			new MemberContactCache(100),
+			new SingleShardOperations(TransactionOperations.withoutTransaction()) {
+				@Override
+				public void runOnReplicaShards(Runnable task) {
+					throw new IllegalStateException("shard 1 is unavailable");
+				}
+			}
+		);
+		final MemberSignupReq memberSignupReq = new MemberSignupReq("닉네임", "이택승", "01012341234",
+			"qwer1234!", MemberType.CUSTOMER);
+
+		// when
+		final Long memberId = failingReplicationService.signup(memberSignupReq);
+
+		// then
+		assertThat(memberId).isNotNull();
+		assertThat(memberRepository.count())
+			.isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("운영자 계정으로는 회원가입 할 수 없다.")
+	public void failSignupAdmin() {
+		// given
+		final MemberSignupReq memberSignupReq = new MemberSignupReq("닉네임", "이택승", "01012341234",
+			"qwer1234!", MemberType.ADMIN);
+
+		// when & then
+		assertThatThrownBy(() -> memberService.signup(memberSignupReq))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(memberRepository.count())
+			.isZero();
+	}
+
+	@Test
+	@DisplayName("한 번 조회한 회원의 이름과 전화번호는 캐시에서 재사용된다.")
+	public void getContact() {
+		// given
+		final Member member = memberRepository.save(new Member("닉네임", "이택승", "01012341234",
+			"qwer1234!", MemberType.CUSTOMER));
+		final MemberContact expect = memberService.getContact(member.getId());
+		memberRepository.deleteAll();
+
+		// when
+		final MemberContact actual = memberService.getContact(member.getId());
+
+		// then
+		assertThat(actual)
+			.isEqualTo(expect)
+			.isEqualTo(new MemberContact("이택승", "01012341234"));
+	}
+}
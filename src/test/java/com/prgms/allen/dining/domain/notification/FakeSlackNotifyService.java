@@ -11,7 +11,7 @@ public class FakeSlackNotifyService extends SlackNotifyService {
 	private static final Logger log = LoggerFactory.getLogger(FakeSlackNotifyService.class);
 
 	public FakeSlackNotifyService() {
-		super(null, null, null);
+		super(null, null, null, null);
 		log.info(
 			"FakeSlackNotifyService.constructor() called: this is class for test and service code won't be called");
 	}
@@ -30,4 +30,9 @@ public class FakeSlackNotifyService extends SlackNotifyService {
 	public void notifyCancel(Reservation reservation) {
 		log.info("FakeSlackNotifyService.notifyCancel() called because service code doesn't need to be called");
 	}
+
+	@Override
+	public void notifyModify(Reservation reservation) {
+		log.info("FakeSlackNotifyService.notifyModify() called because service code doesn't need to be called");
+	}
 }
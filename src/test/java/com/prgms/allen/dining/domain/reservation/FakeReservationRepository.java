@@ -13,10 +13,10 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
@@ -25,6 +25,11 @@ import com.prgms.allen.dining.domain.reservation.dto.DateAndTotalVisitCountPerDa
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.reservation.dto.CustomerReservationInfoParam;
 import com.prgms.allen.dining.domain.reservation.dto.CustomerReservationInfoProj;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationExportProj;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForCustomer;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForOwner;
+import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerRestaurantAndVisitDateTimeProj;
+import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerVisitDateTimeProj;
 import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerVisitTimeProj;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
@@ -37,28 +42,27 @@ public class FakeReservationRepository implements ReservationRepository {
 	private Long id = 0L;
 
 	@Override
-	public Page<Reservation> findAllByRestaurantAndStatus(Restaurant restaurant, ReservationStatus status,
+	public List<ReservationSimpleResForOwner> findSimpleResForOwner(Long restaurantId, ReservationStatus status,
 		Pageable pageable) {
-		return new PageImpl<>(
-			reservations.stream()
-				.filter(reservation -> Objects.equals(reservation.getRestaurantId(), restaurant.getId()))
-				.filter(reservation -> reservation.getStatus() == status)
-				.skip(pageable.getOffset())
-				.limit(pageable.getPageSize())
-				.toList()
-		);
+		return reservations.stream()
+			.filter(reservation -> Objects.equals(reservation.getRestaurantId(), restaurantId))
+			.filter(reservation -> reservation.getStatus() == status)
+			.skip(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.map(ReservationSimpleResForOwner::new)
+			.toList();
 	}
 
 	@Override
-	public Page<Reservation> findAllByCustomerAndStatusIn(Member customer, List<ReservationStatus> statuses,
-		Pageable pageable) {
-		return new PageImpl<>(
-			reservations.stream()
-				.filter(reservation -> Objects.equals(reservation.getCustomerId(), customer.getId()))
-				.filter(reservation -> statuses.contains(reservation.getStatus()))
-				.skip(pageable.getOffset())
-				.limit(pageable.getPageSize())
-				.toList());
+	public List<ReservationSimpleResForCustomer> findSimpleResForCustomer(Long customerId,
+		List<ReservationStatus> statuses, Pageable pageable) {
+		return reservations.stream()
+			.filter(reservation -> Objects.equals(reservation.getCustomerId(), customerId))
+			.filter(reservation -> statuses.contains(reservation.getStatus()))
+			.skip(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.map(ReservationSimpleResForCustomer::new)
+			.toList();
 	}
 
 	@Override
@@ -78,6 +82,42 @@ public class FakeReservationRepository implements ReservationRepository {
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	public List<VisitorCountPerVisitDateTimeProj> findVisitorCountPerVisitDateTime(
+		Restaurant restaurant,
+		LocalDate startDate,
+		LocalDate endDate,
+		List<ReservationStatus> statuses
+	) {
+		return reservations.stream()
+			.filter(reservation -> restaurant.getId().equals(reservation.getRestaurantId()))
+			.filter(reservation -> statuses.contains(reservation.getStatus()))
+			.filter(reservation -> {
+				LocalDate visitDate = reservation.getVisitDateTime().toLocalDate();
+				return !visitDate.isBefore(startDate) && !visitDate.isAfter(endDate);
+			})
+			.collect(Collectors.groupingBy(
+				Reservation::getVisitDateTime,
+				Collectors.summingLong(Reservation::getVisitorCount)
+			))
+			.entrySet()
+			.stream()
+			.map(entry -> new VisitorCountPerVisitDateTimeProj(
+				entry.getKey().toLocalDate(),
+				entry.getKey().toLocalTime(),
+				entry.getValue()
+			))
+			.toList();
+	}
+
+	@Override
+	public List<VisitorCountPerRestaurantAndVisitDateTimeProj> findVisitorCountPerRestaurantAndVisitDateTime(
+		LocalDate startDate,
+		List<ReservationStatus> statuses
+	) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	public Optional<Integer> countTotalVisitorCount(Restaurant restaurant,
 		LocalDate visitDate,
@@ -107,6 +147,27 @@ public class FakeReservationRepository implements ReservationRepository {
 			.toList();
 	}
 
+	@Override
+	public Stream<ReservationExportProj> streamForExport(Long restaurantId, LocalDate startDate, LocalDate endDate,
+		List<ReservationStatus> statuses) {
+		return reservations.stream()
+			.filter(reservation -> Objects.equals(reservation.getRestaurantId(), restaurantId))
+			.filter(reservation -> {
+				LocalDate visitDate = reservation.getVisitDateTime().toLocalDate();
+				return !visitDate.isBefore(startDate) && !visitDate.isAfter(endDate);
+			})
+			.filter(reservation -> statuses.contains(reservation.getStatus()))
+			.sorted(Comparator.comparing(Reservation::getVisitDateTime).thenComparing(Reservation::getId))
+			.map(reservation -> new ReservationExportProj(
+				reservation.getId(),
+				reservation.getVisitDateTime().toLocalDate(),
+				reservation.getVisitDateTime().toLocalTime(),
+				reservation.getVisitorCount(),
+				reservation.getStatus(),
+				null
+			));
+	}
+
 	public long getCount(LocalDate localDate) {
 		return reservations.stream()
 			.filter(reservation -> reservation.getVisitDateTime()
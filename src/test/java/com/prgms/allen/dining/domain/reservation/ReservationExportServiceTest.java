@@ -0,0 +1,69 @@
+package com.prgms.allen.dining.domain.reservation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgms.allen.dining.domain.reservation.dto.ReservationExportProj;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationExportReq;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.reservation.service.ReservationExportService;
+
+class ReservationExportServiceTest {
+
+	private static final LocalDate START_DATE = LocalDate.of(2026, 1, 1);
+	private static final LocalDate END_DATE = LocalDate.of(2026, 3, 31);
+
+	@Test
+	@DisplayName("예약을 헤더와 함께 한 줄씩 CSV 로 내보낸다.")
+	void export_csv() throws IOException {
+		// given
+		ReservationExportService exportService = new ReservationExportService(new FakeReservationRepository() {
+			@Override
+			public Stream<ReservationExportProj> streamForExport(Long restaurantId, LocalDate startDate,
+				LocalDate endDate, List<ReservationStatus> statuses) {
+				return Stream.of(
+					new ReservationExportProj(1L, START_DATE, LocalTime.of(12, 0), 2, ReservationStatus.VISITED,
+						LocalDateTime.of(2025, 12, 20, 9, 30)),
+					new ReservationExportProj(2L, START_DATE, LocalTime.of(13, 0), 4, ReservationStatus.NO_SHOW, null)
+				);
+			}
+		});
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		long rowCount = exportService.exportCsv(1L, new ReservationExportReq(START_DATE, END_DATE, null), outputStream);
+
+		// then
+		assertThat(rowCount).isEqualTo(2);
+		assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+			"reservationId,visitDate,visitTime,visitorCount,status,createdAt\n"
+				+ "1,2026-01-01,12:00,2,VISITED,2025-12-20T09:30\n"
+				+ "2,2026-01-01,13:00,4,NO_SHOW,\n"
+		);
+	}
+
+	@Test
+	@DisplayName("시작일이 종료일보다 늦으면 내보낼 수 없다.")
+	void fail_export_with_reversed_range() {
+		// given
+		ReservationExportService exportService = new ReservationExportService(new FakeReservationRepository());
+
+		// when & then
+		assertThatThrownBy(() -> exportService.exportCsv(
+			1L,
+			new ReservationExportReq(END_DATE, START_DATE, null),
+			new ByteArrayOutputStream()
+		)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
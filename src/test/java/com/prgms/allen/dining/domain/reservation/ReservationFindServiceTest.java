@@ -16,8 +16,11 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 
+import com.prgms.allen.dining.domain.common.FakeApplicationEventPublisher;
 import com.prgms.allen.dining.domain.member.FakeMemberRepository;
+import com.prgms.allen.dining.domain.member.MemberContactCache;
 import com.prgms.allen.dining.domain.member.MemberRepository;
 import com.prgms.allen.dining.domain.member.MemberService;
 import com.prgms.allen.dining.domain.member.entity.Member;
@@ -33,9 +36,11 @@ import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
 import com.prgms.allen.dining.domain.reservation.entity.VisitStatus;
+import com.prgms.allen.dining.domain.reservation.hold.SeatHoldStore;
 import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
 import com.prgms.allen.dining.domain.reservation.service.ReservationFindService;
 import com.prgms.allen.dining.domain.reservation.service.ReservationService;
+import com.prgms.allen.dining.domain.reservation.slot.FakeSlotLockManager;
 import com.prgms.allen.dining.domain.restaurant.FakeRestaurantRepository;
 import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
 import com.prgms.allen.dining.domain.restaurant.RestaurantService;
@@ -44,26 +49,40 @@ import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
 import com.prgms.allen.dining.domain.restaurant.entity.Menu;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
 import com.prgms.allen.dining.generator.DummyGenerator;
+import com.prgms.allen.dining.global.shard.SingleShardOperations;
 
 class ReservationFindServiceTest {
 
 	private final ReservationRepository reservationRepository = new FakeReservationRepository();
 	private final RestaurantRepository restaurantRepository = new FakeRestaurantRepository();
 	private final MemberRepository memberRepository = new FakeMemberRepository();
-	private final MemberService memberService = new MemberService(memberRepository);
+	private final MemberService memberService = new MemberService(
+		memberRepository,
+		new MemberContactCache(100),
+		new SingleShardOperations(TransactionOperations.withoutTransaction())
+	);
 	private final SlackNotifyService slackNotifyService = new FakeSlackNotifyService();
-	private final RestaurantService restaurantService = new RestaurantService(restaurantRepository, memberService);
+	private final RestaurantService restaurantService = new RestaurantService(
+		restaurantRepository,
+		memberService,
+		new FakeApplicationEventPublisher(),
+		new SingleShardOperations(TransactionOperations.withoutTransaction())
+	);
 	private final ReservationService reservationService = new ReservationService(
 		reservationRepository,
 		restaurantService,
 		memberService,
-		slackNotifyService
+		slackNotifyService,
+		new FakeApplicationEventPublisher(),
+		new SeatHoldStore(10, 3),
+		new FakeSlotLockManager()
 	);
 	private final ReservationFindService reservationFindService = new ReservationFindService(
 		reservationRepository,
 		restaurantService,
 		memberService,
-		reservationService
+		reservationService,
+		new SingleShardOperations(TransactionOperations.withoutTransaction())
 	);
 
 	@ParameterizedTest
@@ -8,9 +8,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.stat.SessionStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +25,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import com.prgms.allen.dining.domain.member.MemberRepository;
 import com.prgms.allen.dining.domain.member.entity.Member;
@@ -25,6 +33,8 @@ import com.prgms.allen.dining.domain.member.entity.MemberType;
 import com.prgms.allen.dining.domain.reservation.dto.CustomerReservationInfoParam;
 import com.prgms.allen.dining.domain.reservation.dto.CustomerReservationInfoProj;
 import com.prgms.allen.dining.domain.reservation.dto.DateAndTotalVisitCountPerDayProj;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationExportProj;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationSimpleResForOwner;
 import com.prgms.allen.dining.domain.reservation.dto.VisitorCountPerVisitTimeProj;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
 import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
@@ -101,6 +111,9 @@ class ReservationRepositoryTest {
 	@Autowired
 	private ReservationRepository reservationRepository;
 
+	@Autowired
+	private EntityManager entityManager;
+
 	@BeforeEach
 	void initMembersAndRestaurant() {
 		memberRepository.saveAll(List.of(customer, owner));
@@ -324,6 +337,42 @@ class ReservationRepositoryTest {
 
 	}
 
+	@Test
+	@DisplayName("식당의 예약 목록은 메모 없이 목록에 보여줄 값만 조회한다.")
+	void find_simple_reservations_for_owner() {
+		// given
+		LocalDateTime visitDateTime = LocalDateTime.now()
+			.plusDays(1L)
+			.truncatedTo(ChronoUnit.HOURS);
+		saveReservation(
+			customer,
+			restaurant,
+			ReservationStatus.CONFIRMED,
+			new ReservationCustomerInput(visitDateTime, 3, "창가 자리로 부탁드려요")
+		);
+		saveReservation(
+			customer,
+			restaurant2,
+			ReservationStatus.CONFIRMED,
+			new ReservationCustomerInput(visitDateTime, 4, "메모메모")
+		);
+
+		// when
+		List<ReservationSimpleResForOwner> actual = reservationRepository.findSimpleResForOwner(
+			restaurant.getId(),
+			ReservationStatus.CONFIRMED,
+			PageRequest.of(0, 10)
+		);
+
+		// then
+		assertThat(actual).containsExactly(new ReservationSimpleResForOwner(
+			customer.getName(),
+			customer.getPhone(),
+			visitDateTime,
+			3
+		));
+	}
+
 	private Reservation saveReservation(
 		Member consumer,
 		Restaurant savedRestaurant,
@@ -376,6 +425,85 @@ class ReservationRepositoryTest {
 		));
 	}
 
+	@Test
+	@DisplayName("기간과 상태로 걸러낸 식당의 예약을 방문 일시 순서대로 내보낼 수 있다.")
+	void stream_reservations_for_export() {
+		// given
+		LocalDate visitDate = LocalDate.now().plusDays(1L);
+		Reservation lateConfirmed = saveReservation(restaurant, ReservationStatus.CONFIRMED, visitDate, 14);
+		Reservation earlyConfirmed = saveReservation(restaurant, ReservationStatus.CONFIRMED, visitDate, 12);
+		saveReservation(restaurant, ReservationStatus.CANCELLED, visitDate, 13);
+		saveReservation(restaurant, ReservationStatus.CONFIRMED, visitDate.plusDays(10L), 12);
+		saveReservation(restaurant2, ReservationStatus.CONFIRMED, visitDate, 12);
+
+		// when
+		List<Long> exportedIds;
+		try (Stream<ReservationExportProj> rows = reservationRepository.streamForExport(
+			restaurant.getId(),
+			visitDate,
+			visitDate.plusDays(1L),
+			List.of(ReservationStatus.CONFIRMED)
+		)) {
+			exportedIds = rows.map(ReservationExportProj::reservationId).toList();
+		}
+
+		// then
+		assertThat(exportedIds).containsExactly(earlyConfirmed.getId(), lateConfirmed.getId());
+	}
+
+	@Test
+	@DisplayName("내보내기 커서는 fetch size 보다 많은 예약도 모두 읽고 영속성 컨텍스트에 엔티티를 남기지 않는다.")
+	void stream_reservations_for_export_without_managed_entities() {
+		// given
+		int rowCount = 2_500;
+		LocalDate visitDate = LocalDate.now().plusDays(1L);
+		reservationRepository.saveAll(IntStream.range(0, rowCount)
+			.mapToObj(i -> Reservation.newTestInstance(
+				null,
+				customer,
+				restaurant,
+				ReservationStatus.CONFIRMED,
+				new ReservationCustomerInput(visitDate.plusDays(i % 30), LocalTime.of(12 + i % 8, 0), 2)
+			))
+			.toList());
+		entityManager.flush();
+		entityManager.clear();
+		SessionStatistics statistics = entityManager.unwrap(Session.class).getStatistics();
+
+		// when
+		long streamedCount;
+		int maxManagedEntityCount = 0;
+		try (Stream<ReservationExportProj> rows = reservationRepository.streamForExport(
+			restaurant.getId(),
+			visitDate,
+			visitDate.plusDays(30L),
+			List.of(ReservationStatus.CONFIRMED)
+		)) {
+			Iterator<ReservationExportProj> iterator = rows.iterator();
+			streamedCount = 0;
+			while (iterator.hasNext()) {
+				iterator.next();
+				streamedCount++;
+				maxManagedEntityCount = Math.max(maxManagedEntityCount, statistics.getEntityCount());
+			}
+		}
+
+		// then
+		assertThat(streamedCount).isEqualTo(rowCount);
+		assertThat(maxManagedEntityCount).isZero();
+	}
+
+	private Reservation saveReservation(Restaurant savedRestaurant, ReservationStatus status, LocalDate visitDate,
+		int visitHour) {
+		return reservationRepository.save(Reservation.newTestInstance(
+			null,
+			customer,
+			savedRestaurant,
+			status,
+			new ReservationCustomerInput(visitDate, LocalTime.of(visitHour, 0), 2)
+		));
+	}
+
 	private void createReservations(Member consumer, Restaurant savedRestaurant, ReservationStatus status) {
 
 		reservationRepository.save(Reservation.newTestInstance(
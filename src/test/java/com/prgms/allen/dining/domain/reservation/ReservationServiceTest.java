@@ -1,5 +1,6 @@
 package com.prgms.allen.dining.domain.reservation;
 
+import static com.prgms.allen.dining.domain.reservation.policy.ReservationPolicy.*;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
@@ -8,24 +9,43 @@ import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.prgms.allen.dining.domain.common.FakeApplicationEventPublisher;
+import com.prgms.allen.dining.domain.common.NotFoundResourceException;
 import com.prgms.allen.dining.domain.member.FakeMemberRepository;
+import com.prgms.allen.dining.domain.member.MemberContactCache;
 import com.prgms.allen.dining.domain.member.MemberRepository;
 import com.prgms.allen.dining.domain.member.MemberService;
 import com.prgms.allen.dining.domain.member.entity.Member;
 import com.prgms.allen.dining.domain.notification.FakeSlackNotifyService;
 import com.prgms.allen.dining.domain.notification.slack.SlackNotifyService;
+import com.prgms.allen.dining.domain.reservation.dto.RemainingCapacityPerDateRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableMatrixReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAvailableMatrixRes;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationCreateReq;
 import com.prgms.allen.dining.domain.reservation.dto.ReservationCustomerInputCreateReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldConfirmReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldCreateReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationHoldRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationModifyReq;
 import com.prgms.allen.dining.domain.reservation.entity.Reservation;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+import com.prgms.allen.dining.domain.reservation.hold.SeatHoldStore;
 import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
 import com.prgms.allen.dining.domain.reservation.service.ReservationService;
+import com.prgms.allen.dining.domain.reservation.slot.FakeSlotLockManager;
+import com.prgms.allen.dining.domain.reservation.slot.ReservationSlot;
 import com.prgms.allen.dining.domain.restaurant.FakeRestaurantRepository;
 import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
 import com.prgms.allen.dining.domain.restaurant.RestaurantService;
 import com.prgms.allen.dining.domain.restaurant.dto.ReservationAvailableDatesRes;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
 import com.prgms.allen.dining.generator.DummyGenerator;
+import com.prgms.allen.dining.global.shard.SingleShardOperations;
 
 class ReservationServiceTest {
 
@@ -33,13 +53,29 @@ class ReservationServiceTest {
 	private final RestaurantRepository restaurantRepository = new FakeRestaurantRepository();
 	private final MemberRepository memberRepository = new FakeMemberRepository();
 	private SlackNotifyService slackNotifyService = new FakeSlackNotifyService();
-	private final MemberService memberService = new MemberService(memberRepository);
-	private final RestaurantService restaurantService = new RestaurantService(restaurantRepository, memberService);
+	private final FakeApplicationEventPublisher eventPublisher = new FakeApplicationEventPublisher();
+	private final SeatHoldStore seatHoldStore = new SeatHoldStore(10, 3);
+	private final FakeSlotLockManager slotLockManager = new FakeSlotLockManager();
+	private final MemberService memberService = new MemberService(
+		memberRepository,
+		new MemberContactCache(100),
+		new SingleShardOperations(TransactionOperations.withoutTransaction())
+	);
+	private final RestaurantService restaurantService = new RestaurantService(
+		restaurantRepository,
+		memberService,
+		new FakeApplicationEventPublisher(),
+		new SingleShardOperations(TransactionOperations.withoutTransaction())
+	);
 	private final ReservationService reservationService = new ReservationService(
 		reservationRepository,
 		restaurantService,
 		memberService,
-		slackNotifyService);
+		slackNotifyService,
+		eventPublisher,
+		seatHoldStore,
+		slotLockManager
+	);
 
 	@Test
 	@DisplayName("고객은 식당의 예약을 요청할 수 있다.")
@@ -67,6 +103,13 @@ class ReservationServiceTest {
 		// then
 		long actualCount = reservationRepository.count();
 		assertThat(actualCount).isEqualTo(1);
+		assertThat(eventPublisher.getEvents(ReservationSlotChangedEvent.class))
+			.containsExactly(new ReservationSlotChangedEvent(
+				restaurant.getId(),
+				LocalDate.now().plusDays(1),
+				restaurant.getOpenTime(),
+				2
+			));
 	}
 
 	@Test
@@ -88,4 +131,280 @@ class ReservationServiceTest {
 			.doesNotContain(reservations.get(0).getVisitDateTime().toLocalDate())
 			.allMatch(localDate -> !restaurant.isClosingDay(localDate));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("기간 내 날짜별, 시간대별 남은 예약 가능 인원을 한 번에 받을 수 있다.")
+	public void testGetAvailableMatrix() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		List<Reservation> reservations = DummyGenerator.createReservationEveryHour(customer, restaurant);
+		reservationRepository.saveAll(reservations);
+
+		LocalDate startDate = LocalDate.now();
+		LocalDate endDate = startDate.plusDays(2);
+		LocalDate reservedDate = reservations.get(0).getVisitDateTime().toLocalDate();
+
+		// when
+		ReservationAvailableMatrixRes actual = reservationService.getAvailableMatrix(
+			new ReservationAvailableMatrixReq(restaurant.getId(), startDate, endDate)
+		);
+
+		// then
+		assertThat(actual.times()).isEqualTo(restaurant.generateTimeTable());
+		assertThat(actual.dates())
+			.extracting(RemainingCapacityPerDateRes::date)
+			.containsExactly(startDate, startDate.plusDays(1), endDate);
+		assertThat(actual.dates())
+			.allMatch(capacities -> capacities.remainingCapacities().size() == actual.times().size())
+			.allMatch(capacities -> capacities.date().equals(reservedDate)
+				? capacities.remainingCapacities().stream().allMatch(remaining -> remaining == 0)
+				: capacities.remainingCapacities().stream().allMatch(remaining -> remaining == restaurant.getCapacity())
+			);
+	}
+
+	@Test
+	@DisplayName("조회 종료일이 시작일보다 앞서면 남은 예약 가능 인원을 조회할 수 없다.")
+	public void failGetAvailableMatrixWithReversedPeriod() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		LocalDate startDate = LocalDate.now().plusDays(2);
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.getAvailableMatrix(
+			new ReservationAvailableMatrixReq(restaurant.getId(), startDate, startDate.minusDays(1))
+		)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("오늘 이전부터 조회하면 남은 예약 가능 인원을 조회할 수 없다.")
+	public void failGetAvailableMatrixFromPast() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		LocalDate startDate = LocalDate.now().minusYears(10);
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.getAvailableMatrix(
+			new ReservationAvailableMatrixReq(restaurant.getId(), startDate, LocalDate.now())
+		)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("예약 가능한 날짜까지만 조회할 수 있고, 그 다음 날부터는 조회할 수 없다.")
+	public void getAvailableMatrixUntilLastReservableDate() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		LocalDate today = LocalDate.now();
+		LocalDate lastReservableDate = reservationService.getAvailableDates(restaurant.getId())
+			.availableDates()
+			.stream()
+			.max(LocalDate::compareTo)
+			.orElseThrow();
+
+		// when
+		ReservationAvailableMatrixRes actual = reservationService.getAvailableMatrix(
+			new ReservationAvailableMatrixReq(restaurant.getId(), lastReservableDate, lastReservableDate)
+		);
+
+		// then
+		assertThat(actual.dates()).extracting(RemainingCapacityPerDateRes::date)
+			.containsExactly(lastReservableDate);
+		assertThatThrownBy(() -> reservationService.getAvailableMatrix(
+			new ReservationAvailableMatrixReq(restaurant.getId(), today, today.plusDays(MAX_RESERVE_PERIOD))
+		)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("다른 고객이 홀드한 인원은 예약 가능 인원에서 제외된다.")
+	void held_seats_are_excluded_from_capacity() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		LocalDateTime visitDateTime = LocalDateTime.of(LocalDate.now().plusDays(1), restaurant.getOpenTime());
+
+		reservationService.hold(
+			customer.getId() + 1,
+			new ReservationHoldCreateReq(restaurant.getId(), visitDateTime, 2)
+		);
+
+		ReservationCreateReq reservationCreateReq = new ReservationCreateReq(
+			restaurant.getId(),
+			new ReservationCustomerInputCreateReq(visitDateTime, 2, "가지 빼주세요")
+		);
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.reserve(customer.getId(), reservationCreateReq))
+			.isInstanceOf(ReserveFailException.class);
+	}
+
+	@Test
+	@DisplayName("고객은 홀드한 좌석을 확정해 예약할 수 있다.")
+	void confirm_hold() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		LocalDateTime visitDateTime = LocalDateTime.of(LocalDate.now().plusDays(1), restaurant.getOpenTime());
+
+		ReservationHoldRes holdRes = reservationService.hold(
+			customer.getId(),
+			new ReservationHoldCreateReq(restaurant.getId(), visitDateTime, 2)
+		);
+
+		// when
+		reservationService.confirmHold(customer.getId(), holdRes.holdId(), new ReservationHoldConfirmReq("창가 자리"));
+
+		// then
+		assertThat(reservationRepository.count()).isEqualTo(1);
+		assertThat(seatHoldStore.find(holdRes.holdId())).isEmpty();
+		assertThat(seatHoldStore.getHeldVisitorCount(new ReservationSlot(restaurant.getId(), visitDateTime)))
+			.isZero();
+	}
+
+	@Test
+	@DisplayName("다른 고객의 홀드는 확정할 수 없다.")
+	void fail_confirm_hold_of_other_customer() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		LocalDateTime visitDateTime = LocalDateTime.of(LocalDate.now().plusDays(1), restaurant.getOpenTime());
+
+		ReservationHoldRes holdRes = reservationService.hold(
+			customer.getId(),
+			new ReservationHoldCreateReq(restaurant.getId(), visitDateTime, 2)
+		);
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.confirmHold(
+			customer.getId() + 1,
+			holdRes.holdId(),
+			new ReservationHoldConfirmReq("창가 자리")
+		)).isInstanceOf(NotFoundResourceException.class);
+	}
+
+	@Test
+	@DisplayName("홀드는 확정한 트랜잭션이 커밋된 뒤에 풀린다.")
+	void release_hold_after_commit() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		LocalDateTime visitDateTime = LocalDateTime.of(LocalDate.now().plusDays(1), restaurant.getOpenTime());
+
+		ReservationHoldRes holdRes = reservationService.hold(
+			customer.getId(),
+			new ReservationHoldCreateReq(restaurant.getId(), visitDateTime, 2)
+		);
+
+		// when
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			reservationService.confirmHold(customer.getId(), holdRes.holdId(), new ReservationHoldConfirmReq("창가 자리"));
+
+			// then
+			assertThat(seatHoldStore.find(holdRes.holdId())).isPresent();
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(seatHoldStore.find(holdRes.holdId())).isEmpty();
+		assertThat(reservationRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("고객은 같은 시간대의 예약 인원을 자신의 기존 인원을 제외한 잔여석 안에서 변경할 수 있다.")
+	void modify_visitor_count_in_same_slot() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		LocalDateTime visitDateTime = LocalDateTime.of(LocalDate.now().plusDays(1), restaurant.getOpenTime());
+
+		Reservation reservation = reservationRepository.save(new Reservation(
+			customer,
+			restaurant,
+			new ReservationCustomerInput(visitDateTime, 1, "가지 빼주세요")
+		));
+
+		// when
+		reservationService.modify(
+			customer.getId(),
+			reservation.getId(),
+			new ReservationModifyReq(visitDateTime, 2)
+		);
+
+		// then
+		Reservation modifiedReservation = reservationService.findById(reservation.getId());
+		assertThat(modifiedReservation.getVisitorCount()).isEqualTo(2);
+		assertThat(modifiedReservation.getMemo()).isEqualTo("가지 빼주세요");
+		assertThat(eventPublisher.getEvents(ReservationSlotChangedEvent.class))
+			.containsExactly(
+				new ReservationSlotChangedEvent(restaurant.getId(), visitDateTime.toLocalDate(),
+					visitDateTime.toLocalTime(), -1),
+				new ReservationSlotChangedEvent(restaurant.getId(), visitDateTime.toLocalDate(),
+					visitDateTime.toLocalTime(), 2)
+			);
+	}
+
+	@Test
+	@DisplayName("옮기려는 시간대에 자리가 없으면 예약을 변경할 수 없고 기존 예약은 그대로 남는다.")
+	void fail_modify_to_full_slot() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		LocalDateTime visitDateTime = LocalDateTime.of(LocalDate.now().plusDays(1), restaurant.getOpenTime());
+		LocalDateTime fullDateTime = visitDateTime.plusHours(1);
+
+		Reservation reservation = reservationRepository.save(new Reservation(
+			customer,
+			restaurant,
+			new ReservationCustomerInput(visitDateTime, 2, "가지 빼주세요")
+		));
+		reservationRepository.save(new Reservation(
+			customer,
+			restaurant,
+			new ReservationCustomerInput(fullDateTime, 2, "창가 자리")
+		));
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.modify(
+			customer.getId(),
+			reservation.getId(),
+			new ReservationModifyReq(fullDateTime, 2)
+		)).isInstanceOf(ReserveFailException.class);
+		assertThat(reservationService.findById(reservation.getId()).getVisitDateTime()).isEqualTo(visitDateTime);
+		assertThat(eventPublisher.getEvents(ReservationSlotChangedEvent.class)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 고객의 예약은 슬롯을 잠그기 전에 변경을 거절한다.")
+	void fail_modify_other_customer_reservation_before_locking() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurantWith2Capacity(owner));
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		LocalDateTime visitDateTime = LocalDateTime.of(LocalDate.now().plusDays(1), restaurant.getOpenTime());
+
+		Reservation reservation = reservationRepository.save(new Reservation(
+			customer,
+			restaurant,
+			new ReservationCustomerInput(visitDateTime, 1, "가지 빼주세요")
+		));
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.modify(
+			customer.getId() + 1,
+			reservation.getId(),
+			new ReservationModifyReq(visitDateTime.plusHours(1), 2)
+		)).isInstanceOf(IllegalStateException.class);
+		assertThat(slotLockManager.getLockedSlots()).isEmpty();
+	}
+}
@@ -0,0 +1,126 @@
+package com.prgms.allen.dining.domain.reservation.availability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
+
+class AvailabilityIndexTest {
+
+	private static final LocalTime OPEN_TIME = LocalTime.of(11, 0);
+	private static final LocalTime LAST_ORDER_TIME = LocalTime.of(22, 0);
+
+	private final AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+
+	@Test
+	@DisplayName("요청 인원을 받을 수 있는 식당만 검색된다.")
+	void search_restaurants_with_remaining_capacity() {
+		// given
+		LocalDate visitDate = LocalDate.now().plusDays(1);
+		LocalTime visitTime = LocalTime.of(19, 0);
+		availabilityIndex.register(1L, FoodType.KOREAN, 4, OPEN_TIME, LAST_ORDER_TIME, List.of());
+		availabilityIndex.register(2L, FoodType.KOREAN, 8, OPEN_TIME, LAST_ORDER_TIME, List.of());
+		availabilityIndex.apply(1L, visitDate, visitTime, 2);
+
+		// when
+		long[] actual = availabilityIndex.search(visitDate, visitTime, 4, FoodType.KOREAN);
+
+		// then
+		assertThat(actual).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("예약이 취소되면 해당 시간대의 식당이 다시 검색된다.")
+	void search_restaurants_after_cancel() {
+		// given
+		LocalDate visitDate = LocalDate.now().plusDays(1);
+		LocalTime visitTime = LocalTime.of(19, 0);
+		availabilityIndex.register(1L, FoodType.KOREAN, 4, OPEN_TIME, LAST_ORDER_TIME, List.of());
+		availabilityIndex.apply(1L, visitDate, visitTime, 4);
+
+		// when
+		availabilityIndex.apply(1L, visitDate, visitTime, -4);
+
+		// then
+		assertThat(availabilityIndex.search(visitDate, visitTime, 4, null)).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("음식 종류, 휴무일, 영업 시간에 맞지 않는 식당은 검색되지 않는다.")
+	void search_restaurants_filtered_by_food_type_closing_day_and_time_table() {
+		// given
+		LocalDate visitDate = LocalDate.now().plusDays(1);
+		availabilityIndex.register(1L, FoodType.KOREAN, 8, OPEN_TIME, LAST_ORDER_TIME, List.of());
+		availabilityIndex.register(2L, FoodType.JAPANESE, 8, OPEN_TIME, LAST_ORDER_TIME, List.of());
+		availabilityIndex.register(3L, FoodType.KOREAN, 8, OPEN_TIME, LAST_ORDER_TIME,
+			List.of(visitDate.getDayOfWeek()));
+		availabilityIndex.register(4L, FoodType.KOREAN, 8, LocalTime.of(9, 0), LocalTime.of(15, 0), List.of());
+
+		// when & then
+		assertThat(availabilityIndex.search(visitDate, LocalTime.of(19, 0), 2, FoodType.KOREAN))
+			.containsExactly(1L);
+		assertThat(availabilityIndex.search(visitDate, LocalTime.of(12, 0), 2, FoodType.KOREAN))
+			.containsExactly(1L, 4L);
+		assertThat(availabilityIndex.search(visitDate, LocalTime.of(19, 30), 2, null))
+			.isEmpty();
+	}
+
+	@Test
+	@Tag("performance")
+	@DisplayName("식당 5만 곳, 30일, 하루 12개 시간대가 모두 채워진 인덱스에서도 검색은 밀리초 단위로 끝난다.")
+	void search_benchmark() {
+		// given
+		int restaurantCount = 50_000;
+		int days = 30;
+		int capacity = 8;
+		FoodType[] foodTypes = FoodType.values();
+		List<LocalTime> timeTable = IntStream.rangeClosed(OPEN_TIME.getHour(), LAST_ORDER_TIME.getHour())
+			.mapToObj(hour -> LocalTime.of(hour, 0))
+			.toList();
+		LocalDate today = LocalDate.now();
+
+		for (long id = 1; id <= restaurantCount; id++) {
+			availabilityIndex.register(id, foodTypes[(int)(id % foodTypes.length)], capacity,
+				OPEN_TIME, LAST_ORDER_TIME, id % 7 == 0 ? List.of(DayOfWeek.MONDAY) : List.of());
+		}
+		for (int day = 0; day < days; day++) {
+			LocalDate date = today.plusDays(day);
+			for (int slot = 0; slot < timeTable.size(); slot++) {
+				for (long id = 1; id <= restaurantCount; id++) {
+					availabilityIndex.apply(id, date, timeTable.get(slot), (int)((id + day + slot) % (capacity + 1)));
+				}
+			}
+		}
+
+		Random random = new Random(0);
+		int searchCount = 1_000;
+
+		// when
+		long startNanos = System.nanoTime();
+		long foundTotal = 0;
+		for (int i = 0; i < searchCount; i++) {
+			foundTotal += availabilityIndex.search(
+				today.plusDays(random.nextInt(days)),
+				timeTable.get(random.nextInt(timeTable.size())),
+				2 + random.nextInt(7),
+				foodTypes[random.nextInt(foodTypes.length)]
+			).length;
+		}
+		Duration averageLatency = Duration.ofNanos((System.nanoTime() - startNanos) / searchCount);
+
+		// then
+		assertThat(foundTotal).isPositive();
+		assertThat(averageLatency).isLessThan(Duration.ofMillis(50));
+	}
+}
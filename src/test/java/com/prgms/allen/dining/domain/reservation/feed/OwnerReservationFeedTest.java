@@ -0,0 +1,109 @@
+package com.prgms.allen.dining.domain.reservation.feed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgms.allen.dining.domain.reservation.dto.ReservationFeedItemRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationFeedRes;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.reservation.event.ReservationChangedEvent;
+
+class OwnerReservationFeedTest {
+
+	private static final Long RESTAURANT_ID = 1L;
+	private static final LocalDateTime VISIT_DATE_TIME = LocalDateTime.of(2023, 1, 2, 18, 0);
+
+	private final OwnerReservationFeed ownerReservationFeed = new OwnerReservationFeed(2);
+
+	@Test
+	@DisplayName("커서 이후의 변경분만 받는다.")
+	void poll_after_cursor() {
+		// given
+		ownerReservationFeed.onReservationChanged(createEvent(RESTAURANT_ID, 10L, ReservationStatus.PENDING));
+		ReservationFeedRes first = ownerReservationFeed.poll(RESTAURANT_ID, 0);
+		ownerReservationFeed.onReservationChanged(createEvent(RESTAURANT_ID, 10L, ReservationStatus.CONFIRMED));
+		ownerReservationFeed.onReservationChanged(createEvent(RESTAURANT_ID + 1, 11L, ReservationStatus.PENDING));
+
+		// when
+		ReservationFeedRes next = ownerReservationFeed.poll(RESTAURANT_ID, first.cursor());
+
+		// then
+		assertThat(next.truncated()).isFalse();
+		assertThat(next.items())
+			.extracting(ReservationFeedItemRes::status)
+			.containsExactly(ReservationStatus.CONFIRMED);
+		assertThat(next.cursor()).isGreaterThan(first.cursor());
+	}
+
+	@Test
+	@DisplayName("기다리던 요청은 새 변경이 들어오면 바로 응답받는다.")
+	void await_until_next_change() {
+		// given
+		List<ReservationFeedRes> responses = new ArrayList<>();
+		ownerReservationFeed.await(RESTAURANT_ID, 0, responses::add);
+		assertThat(responses).isEmpty();
+
+		// when
+		ownerReservationFeed.onReservationChanged(createEvent(RESTAURANT_ID, 10L, ReservationStatus.PENDING));
+
+		// then
+		assertThat(responses).hasSize(1);
+		assertThat(responses.get(0).items())
+			.extracting(ReservationFeedItemRes::reservationId)
+			.containsExactly(10L);
+	}
+
+	@Test
+	@DisplayName("취소한 대기는 새 변경이 들어와도 응답받지 않는다.")
+	void cancel_await() {
+		// given
+		List<ReservationFeedRes> responses = new ArrayList<>();
+		Runnable cancel = ownerReservationFeed.await(RESTAURANT_ID, 0, responses::add);
+
+		// when
+		cancel.run();
+		ownerReservationFeed.onReservationChanged(createEvent(RESTAURANT_ID, 10L, ReservationStatus.PENDING));
+
+		// then
+		assertThat(responses).isEmpty();
+	}
+
+	@Test
+	@DisplayName("보관 범위에서 밀려난 커서로 요청하면 truncated 로 알려준다.")
+	void truncated_when_cursor_was_evicted() {
+		// given
+		ownerReservationFeed.onReservationChanged(createEvent(RESTAURANT_ID, 10L, ReservationStatus.PENDING));
+		ownerReservationFeed.onReservationChanged(createEvent(RESTAURANT_ID, 11L, ReservationStatus.PENDING));
+		ownerReservationFeed.onReservationChanged(createEvent(RESTAURANT_ID, 12L, ReservationStatus.PENDING));
+
+		// when
+		ReservationFeedRes feedRes = ownerReservationFeed.poll(RESTAURANT_ID, 0);
+
+		// then
+		assertThat(feedRes.truncated()).isTrue();
+		assertThat(feedRes.items())
+			.extracting(ReservationFeedItemRes::reservationId)
+			.containsExactly(11L, 12L);
+	}
+
+	@Test
+	@DisplayName("서버가 모르는 미래의 커서로 요청하면 truncated 로 알려준다.")
+	void truncated_when_cursor_is_ahead() {
+		// when
+		ReservationFeedRes feedRes = ownerReservationFeed.poll(RESTAURANT_ID, 100);
+
+		// then
+		assertThat(feedRes.truncated()).isTrue();
+		assertThat(feedRes.cursor()).isZero();
+	}
+
+	private ReservationChangedEvent createEvent(Long restaurantId, Long reservationId, ReservationStatus status) {
+		return new ReservationChangedEvent(restaurantId, reservationId, status, VISIT_DATE_TIME, 2);
+	}
+}
@@ -0,0 +1,107 @@
+package com.prgms.allen.dining.domain.reservation.hold;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgms.allen.dining.domain.common.FakeClock;
+import com.prgms.allen.dining.domain.reservation.slot.ReservationSlot;
+
+class SeatHoldStoreTest {
+
+	private static final int MAX_HOLDS_PER_CUSTOMER = 2;
+	private static final ReservationSlot SLOT = new ReservationSlot(1L, LocalDate.of(2023, 1, 2), LocalTime.of(18, 0));
+
+	private final FakeClock clock = new FakeClock();
+	private final SeatHoldStore seatHoldStore = new SeatHoldStore(Duration.ofMinutes(10), MAX_HOLDS_PER_CUSTOMER, clock);
+
+	@Test
+	@DisplayName("같은 슬롯의 홀드 인원은 합산된다.")
+	void held_visitor_counts_are_summed_per_slot() {
+		// when
+		seatHoldStore.hold(1L, SLOT, 2);
+		seatHoldStore.hold(2L, SLOT, 4);
+		seatHoldStore.hold(3L, new ReservationSlot(1L, SLOT.visitDate(), LocalTime.of(19, 0)), 2);
+
+		// then
+		assertThat(seatHoldStore.getHeldVisitorCount(SLOT)).isEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("유지 시간이 지난 홀드는 조회되지 않고 인원에서도 빠진다.")
+	void expired_holds_are_dropped() {
+		// given
+		SeatHold first = seatHoldStore.hold(1L, SLOT, 2);
+		clock.advance(Duration.ofMinutes(5));
+		SeatHold second = seatHoldStore.hold(2L, SLOT, 4);
+
+		// when
+		clock.advance(Duration.ofMinutes(5));
+
+		// then
+		assertThat(seatHoldStore.find(first.id())).isEmpty();
+		assertThat(seatHoldStore.find(second.id())).contains(second);
+		assertThat(seatHoldStore.getHeldVisitorCount(SLOT)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("타이머 휠 한 바퀴보다 오래 지나도 모든 홀드가 만료된다.")
+	void holds_expire_after_long_idle() {
+		// given
+		SeatHold seatHold = seatHoldStore.hold(1L, SLOT, 2);
+
+		// when
+		clock.advance(Duration.ofHours(3));
+
+		// then
+		assertThat(seatHoldStore.find(seatHold.id())).isEmpty();
+		assertThat(seatHoldStore.getHeldVisitorCount(SLOT)).isZero();
+	}
+
+	@Test
+	@DisplayName("해제한 홀드는 인원에서 빠진다.")
+	void released_hold_is_dropped() {
+		// given
+		SeatHold seatHold = seatHoldStore.hold(1L, SLOT, 2);
+
+		// when
+		seatHoldStore.release(seatHold.id());
+
+		// then
+		assertThat(seatHoldStore.find(seatHold.id())).isEmpty();
+		assertThat(seatHoldStore.getHeldVisitorCount(SLOT)).isZero();
+	}
+
+	@Test
+	@DisplayName("한 고객은 정해진 수까지만 홀드할 수 있고, 홀드를 해제하면 다시 홀드할 수 있다.")
+	void limit_holds_per_customer() {
+		// given
+		SeatHold first = seatHoldStore.hold(1L, SLOT, 2);
+		seatHoldStore.hold(1L, SLOT, 2);
+
+		// when & then
+		assertThatThrownBy(() -> seatHoldStore.hold(1L, SLOT, 2))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(seatHoldStore.hold(2L, SLOT, 2)).isNotNull();
+
+		seatHoldStore.release(first.id());
+		assertThat(seatHoldStore.hold(1L, SLOT, 2)).isNotNull();
+	}
+
+	@Test
+	@DisplayName("확정 중인 홀드는 빼고 슬롯의 홀드 인원을 센다.")
+	void held_visitor_count_without_confirming_hold() {
+		// given
+		SeatHold confirming = seatHoldStore.hold(1L, SLOT, 2);
+		seatHoldStore.hold(2L, SLOT, 4);
+
+		// when & then
+		assertThat(seatHoldStore.getHeldVisitorCount(SLOT, confirming.id())).isEqualTo(4);
+		assertThat(seatHoldStore.getHeldVisitorCount(SLOT, null)).isEqualTo(6);
+	}
+}
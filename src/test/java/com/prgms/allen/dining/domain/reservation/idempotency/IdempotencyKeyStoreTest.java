@@ -0,0 +1,200 @@
+package com.prgms.allen.dining.domain.reservation.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgms.allen.dining.domain.common.FakeClock;
+
+class IdempotencyKeyStoreTest {
+
+	private static final Long MEMBER_ID = 1L;
+	private static final String KEY = "6f1c2a4e-retry";
+
+	private final FakeClock clock = new FakeClock();
+	private final IdempotencyKeyStore store = new IdempotencyKeyStore(
+		100,
+		Duration.ofMinutes(10),
+		Duration.ofSeconds(5),
+		clock
+	);
+
+	@Test
+	@DisplayName("같은 키로 다시 요청하면 처음 결과를 돌려주고 작업을 다시 실행하지 않는다.")
+	void repeat_returns_original_result() {
+		// given
+		AtomicInteger executionCount = new AtomicInteger();
+
+		// when
+		Long first = store.execute(MEMBER_ID, KEY, "request", () -> (long)executionCount.incrementAndGet());
+		Long second = store.execute(MEMBER_ID, KEY, "request", () -> (long)executionCount.incrementAndGet());
+
+		// then
+		assertThat(second).isEqualTo(first);
+		assertThat(executionCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("같은 키로 동시에 들어온 요청들은 하나만 실행되고 나머지는 그 결과를 기다린다.")
+	void concurrent_duplicates_are_collapsed() throws Exception {
+		// given
+		int threadCount = 16;
+		AtomicInteger executionCount = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		// when
+		List<Future<Long>> results = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			results.add(executorService.submit(() -> {
+				start.await();
+				return store.execute(MEMBER_ID, KEY, "request", () -> {
+					sleep(100);
+					return (long)executionCount.incrementAndGet();
+				});
+			}));
+		}
+		start.countDown();
+
+		// then
+		for (Future<Long> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+		}
+		assertThat(executionCount).hasValue(1);
+		executorService.shutdown();
+	}
+
+	@Test
+	@DisplayName("TTL 이 지난 키는 새 요청으로 처리된다.")
+	void expired_key_is_executed_again() {
+		// given
+		AtomicInteger executionCount = new AtomicInteger();
+		store.execute(MEMBER_ID, KEY, "request", () -> (long)executionCount.incrementAndGet());
+
+		// when
+		clock.advance(Duration.ofMinutes(10));
+		Long actual = store.execute(MEMBER_ID, KEY, "request", () -> (long)executionCount.incrementAndGet());
+
+		// then
+		assertThat(actual).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("실패한 요청은 저장되지 않아 같은 키로 다시 시도할 수 있다.")
+	void failed_execution_is_not_stored() {
+		// given
+		assertThatThrownBy(() -> store.execute(MEMBER_ID, KEY, "request", () -> {
+			throw new IllegalStateException("reserve failed");
+		})).isInstanceOf(IllegalStateException.class);
+
+		// when
+		Long actual = store.execute(MEMBER_ID, KEY, "request", () -> 1L);
+
+		// then
+		assertThat(actual).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("같은 키를 다른 요청에 재사용할 수 없다.")
+	void reuse_key_for_different_request_fails() {
+		// given
+		store.execute(MEMBER_ID, KEY, "request", () -> 1L);
+
+		// when & then
+		assertThatThrownBy(() -> store.execute(MEMBER_ID, KEY, "other request", () -> 2L))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("키는 회원별로 구분된다.")
+	void keys_are_scoped_by_member() {
+		// when
+		Long first = store.execute(MEMBER_ID, KEY, "request", () -> 1L);
+		Long second = store.execute(MEMBER_ID + 1, KEY, "request", () -> 2L);
+
+		// then
+		assertThat(first).isNotEqualTo(second);
+	}
+
+	@Test
+	@DisplayName("처리 중인 요청을 기다리다 제한 시간이 지나면 처리 중 예외가 발생한다.")
+	void waiting_for_in_flight_request_times_out() throws Exception {
+		// given
+		IdempotencyKeyStore shortWaitStore = new IdempotencyKeyStore(100, Duration.ofMinutes(10),
+			Duration.ofMillis(100), clock);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		Future<Long> first = executorService.submit(() -> shortWaitStore.execute(MEMBER_ID, KEY, "request", () -> {
+			started.countDown();
+			await(release);
+			return 1L;
+		}));
+		started.await(5, TimeUnit.SECONDS);
+
+		// when & then
+		assertThatThrownBy(() -> shortWaitStore.execute(MEMBER_ID, KEY, "request", () -> 2L))
+			.isInstanceOf(IdempotentRequestInProgressException.class);
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+		executorService.shutdown();
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘어도 처리 중인 키는 지워지지 않는다.")
+	void in_flight_key_is_not_evicted() throws Exception {
+		// given
+		IdempotencyKeyStore smallStore = new IdempotencyKeyStore(1, Duration.ofMinutes(10), Duration.ofMillis(100),
+			clock);
+		AtomicInteger executionCount = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		Future<Long> first = executorService.submit(() -> smallStore.execute(MEMBER_ID, KEY, "request", () -> {
+			started.countDown();
+			await(release);
+			return (long)executionCount.incrementAndGet();
+		}));
+		started.await(5, TimeUnit.SECONDS);
+
+		// when
+		smallStore.execute(MEMBER_ID, "other-key", "request", () -> 100L);
+		smallStore.execute(MEMBER_ID, "another-key", "request", () -> 200L);
+
+		// then
+		assertThatThrownBy(() -> smallStore.execute(MEMBER_ID, KEY, "request",
+			() -> (long)executionCount.incrementAndGet()))
+			.isInstanceOf(IdempotentRequestInProgressException.class);
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+		assertThat(executionCount).hasValue(1);
+		executorService.shutdown();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package com.prgms.allen.dining.domain.reservation.live;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgms.allen.dining.domain.common.FakeClock;
+import com.prgms.allen.dining.domain.reservation.dto.RemainingCapacityDeltaRes;
+import com.prgms.allen.dining.domain.reservation.event.ReservationSlotChangedEvent;
+
+class AvailabilityBroadcasterTest {
+
+	private static final Long RESTAURANT_ID = 1L;
+	private static final LocalDate DATE = LocalDate.of(2023, 1, 2);
+	private static final LocalTime TIME = LocalTime.of(18, 0);
+	private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+
+	private final FakeClock clock = new FakeClock();
+
+	@Test
+	@DisplayName("한 식당-날짜의 변경분은 만 명의 구독자 모두에게 순서대로 전달된다.")
+	void fan_out_to_ten_thousand_subscribers() throws InterruptedException {
+		// given
+		int subscriberCount = 10_000;
+		int eventCount = 3;
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		AvailabilityBroadcaster broadcaster = new AvailabilityBroadcaster(64, SEND_TIMEOUT, executor, clock);
+
+		CountDownLatch latch = new CountDownLatch(subscriberCount * eventCount);
+		List<List<RemainingCapacityDeltaRes>> received = new ArrayList<>();
+		for (int i = 0; i < subscriberCount; i++) {
+			List<RemainingCapacityDeltaRes> deltas = Collections.synchronizedList(new ArrayList<>());
+			received.add(deltas);
+			broadcaster.subscribe(RESTAURANT_ID, DATE, delta -> {
+				deltas.add(delta);
+				latch.countDown();
+			});
+		}
+
+		// when
+		for (int visitorCount = 1; visitorCount <= eventCount; visitorCount++) {
+			broadcaster.onReservationSlotChanged(new ReservationSlotChangedEvent(RESTAURANT_ID, DATE, TIME, visitorCount));
+		}
+
+		// then
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).allSatisfy(deltas -> assertThat(deltas).containsExactly(
+			new RemainingCapacityDeltaRes(1, DATE, TIME, -1),
+			new RemainingCapacityDeltaRes(2, DATE, TIME, -2),
+			new RemainingCapacityDeltaRes(3, DATE, TIME, -3)
+		));
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("구독자의 버퍼가 차면 가장 오래된 변경분부터 버리고, 건너뛴 번호로 빠진 변경분을 알 수 있다.")
+	void drop_oldest_when_buffer_is_full() {
+		// given
+		List<Runnable> pendingDrains = new ArrayList<>();
+		AvailabilityBroadcaster broadcaster = new AvailabilityBroadcaster(2, SEND_TIMEOUT, pendingDrains::add, clock);
+
+		List<RemainingCapacityDeltaRes> received = new ArrayList<>();
+		AvailabilitySubscriber subscriber = broadcaster.subscribe(RESTAURANT_ID, DATE, received::add);
+
+		// when
+		broadcaster.onReservationSlotChanged(new ReservationSlotChangedEvent(RESTAURANT_ID, DATE, TIME, 1));
+		broadcaster.onReservationSlotChanged(new ReservationSlotChangedEvent(RESTAURANT_ID, DATE, TIME, 2));
+		broadcaster.onReservationSlotChanged(new ReservationSlotChangedEvent(RESTAURANT_ID, DATE, TIME, -4));
+		pendingDrains.forEach(Runnable::run);
+
+		// then
+		assertThat(pendingDrains).hasSize(1);
+		assertThat(received).containsExactly(
+			new RemainingCapacityDeltaRes(2, DATE, TIME, -2),
+			new RemainingCapacityDeltaRes(3, DATE, TIME, 4)
+		);
+		assertThat(subscriber.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 날짜의 변경분은 전달되지 않는다.")
+	void ignore_other_dates() {
+		// given
+		AvailabilityBroadcaster broadcaster = new AvailabilityBroadcaster(4, SEND_TIMEOUT, Runnable::run, clock);
+		List<RemainingCapacityDeltaRes> received = new ArrayList<>();
+		broadcaster.subscribe(RESTAURANT_ID, DATE, received::add);
+
+		// when
+		broadcaster.onReservationSlotChanged(
+			new ReservationSlotChangedEvent(RESTAURANT_ID, DATE.plusDays(1), TIME, 2)
+		);
+
+		// then
+		assertThat(received).isEmpty();
+	}
+
+	@Test
+	@DisplayName("전송에 실패한 구독자는 구독이 해제된다.")
+	void close_subscriber_when_send_fails() {
+		// given
+		AvailabilityBroadcaster broadcaster = new AvailabilityBroadcaster(4, SEND_TIMEOUT, Runnable::run, clock);
+		broadcaster.subscribe(RESTAURANT_ID, DATE, delta -> {
+			throw new IllegalStateException("connection closed");
+		});
+
+		// when
+		broadcaster.onReservationSlotChanged(new ReservationSlotChangedEvent(RESTAURANT_ID, DATE, TIME, 2));
+
+		// then
+		assertThat(broadcaster.getSubscriberCount(RESTAURANT_ID, DATE)).isZero();
+	}
+
+	@Test
+	@DisplayName("전송이 제한 시간보다 오래 막힌 구독자는 다음 변경분을 받지 않고 구독이 해제된다.")
+	void close_subscriber_stuck_in_send() {
+		// given
+		AvailabilityBroadcaster broadcaster = new AvailabilityBroadcaster(4, SEND_TIMEOUT, Runnable::run, clock);
+		List<RemainingCapacityDeltaRes> received = new ArrayList<>();
+		AvailabilitySubscriber subscriber = broadcaster.subscribe(RESTAURANT_ID, DATE, delta -> {
+			received.add(delta);
+			if (received.size() == 1) {
+				// 첫 전송이 끝나기 전에 제한 시간이 지나고 다음 변경이 발행된다.
+				clock.advance(SEND_TIMEOUT.plusMillis(1));
+				broadcaster.onReservationSlotChanged(new ReservationSlotChangedEvent(RESTAURANT_ID, DATE, TIME, 3));
+			}
+		});
+
+		// when
+		broadcaster.onReservationSlotChanged(new ReservationSlotChangedEvent(RESTAURANT_ID, DATE, TIME, 2));
+
+		// then
+		assertThat(received).containsExactly(new RemainingCapacityDeltaRes(1, DATE, TIME, -2));
+		assertThat(broadcaster.getSubscriberCount(RESTAURANT_ID, DATE)).isZero();
+		assertThat(subscriber.getDroppedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("밀린 변경분이 많은 구독자는 한 번에 일부만 보내고 다시 차례를 기다린다.")
+	void drain_in_batches() {
+		// given
+		List<Runnable> pendingDrains = new ArrayList<>();
+		AvailabilityBroadcaster broadcaster = new AvailabilityBroadcaster(64, SEND_TIMEOUT, pendingDrains::add, clock);
+		List<RemainingCapacityDeltaRes> received = new ArrayList<>();
+		broadcaster.subscribe(RESTAURANT_ID, DATE, received::add);
+		for (int i = 0; i < 20; i++) {
+			broadcaster.onReservationSlotChanged(new ReservationSlotChangedEvent(RESTAURANT_ID, DATE, TIME, 1));
+		}
+
+		// when
+		pendingDrains.remove(0).run();
+
+		// then
+		assertThat(received).hasSize(16);
+		assertThat(pendingDrains).hasSize(1);
+
+		pendingDrains.remove(0).run();
+		assertThat(received).extracting(RemainingCapacityDeltaRes::sequence)
+			.containsExactlyElementsOf(LongStream.rangeClosed(1, 20).boxed().toList());
+	}
+}
@@ -0,0 +1,80 @@
+package com.prgms.allen.dining.domain.reservation.rollup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+
+public class FakeReservationRollupRepository implements ReservationRollupRepository {
+
+	private final List<ReservationRollup> rollups = new ArrayList<>();
+
+	@Override
+	public ReservationRollup save(ReservationRollup rollup) {
+		rollups.add(rollup);
+		return rollup;
+	}
+
+	@Override
+	public List<ReservationRollup> findAllByRestaurantIdAndVisitDateBetween(
+		Long restaurantId,
+		LocalDate startDate,
+		LocalDate endDate
+	) {
+		return rollups.stream()
+			.filter(rollup -> rollup.getRestaurantId().equals(restaurantId))
+			.filter(rollup -> !rollup.getVisitDate().isBefore(startDate) && !rollup.getVisitDate().isAfter(endDate))
+			.toList();
+	}
+
+	@Override
+	public int addCounts(
+		Long restaurantId,
+		LocalDate visitDate,
+		LocalTime visitTime,
+		ReservationStatus status,
+		int reservationCountDelta,
+		int visitorCountDelta
+	) {
+		Optional<ReservationRollup> found = find(restaurantId, visitDate, visitTime, status);
+		found.ifPresent(rollup -> {
+			rollups.remove(rollup);
+			rollups.add(new ReservationRollup(
+				restaurantId,
+				visitDate,
+				visitTime,
+				status,
+				rollup.getReservationCount() + reservationCountDelta,
+				rollup.getVisitorCount() + visitorCountDelta
+			));
+		});
+		return found.isPresent() ? 1 : 0;
+	}
+
+	@Override
+	public int deleteAllByVisitDateBetween(LocalDate startDate, LocalDate endDate) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int insertAllAggregatedByVisitDateBetween(LocalDate startDate, LocalDate endDate) {
+		throw new UnsupportedOperationException();
+	}
+
+	public Optional<ReservationRollup> find(
+		Long restaurantId,
+		LocalDate visitDate,
+		LocalTime visitTime,
+		ReservationStatus status
+	) {
+		return rollups.stream()
+			.filter(rollup -> rollup.getRestaurantId().equals(restaurantId))
+			.filter(rollup -> rollup.getVisitDate().equals(visitDate))
+			.filter(rollup -> rollup.getVisitTime().equals(visitTime))
+			.filter(rollup -> rollup.getStatus() == status)
+			.findFirst();
+	}
+}
@@ -0,0 +1,97 @@
+package com.prgms.allen.dining.domain.reservation.rollup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.prgms.allen.dining.domain.common.FakeApplicationEventPublisher;
+import com.prgms.allen.dining.domain.member.FakeMemberRepository;
+import com.prgms.allen.dining.domain.member.MemberContactCache;
+import com.prgms.allen.dining.domain.member.MemberRepository;
+import com.prgms.allen.dining.domain.member.MemberService;
+import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.reservation.dto.DailyReservationStatRes;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAnalyticsReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationAnalyticsRes;
+import com.prgms.allen.dining.domain.reservation.dto.SlotUtilizationRes;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.restaurant.FakeRestaurantRepository;
+import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
+import com.prgms.allen.dining.domain.restaurant.RestaurantService;
+import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.generator.DummyGenerator;
+import com.prgms.allen.dining.global.shard.SingleShardOperations;
+
+class ReservationAnalyticsServiceTest {
+
+	private static final LocalDate FIRST_DATE = LocalDate.of(2026, 3, 1);
+	private static final LocalDate SECOND_DATE = LocalDate.of(2026, 3, 2);
+	private static final LocalTime LUNCH = LocalTime.of(12, 0);
+	private static final LocalTime DINNER = LocalTime.of(18, 0);
+
+	private final RestaurantRepository restaurantRepository = new FakeRestaurantRepository();
+	private final MemberRepository memberRepository = new FakeMemberRepository();
+	private final FakeReservationRollupRepository rollupRepository = new FakeReservationRollupRepository();
+	private final ReservationAnalyticsService analyticsService = new ReservationAnalyticsService(
+		rollupRepository,
+		new RestaurantService(
+			restaurantRepository,
+			new MemberService(
+				memberRepository,
+				new MemberContactCache(100),
+				new SingleShardOperations(TransactionOperations.withoutTransaction())
+			),
+			new FakeApplicationEventPublisher(),
+			new SingleShardOperations(TransactionOperations.withoutTransaction())
+		)
+	);
+
+	@Test
+	@DisplayName("집계 행만으로 날짜별 방문 인원과 노쇼율, 슬롯별 좌석 점유율을 계산한다.")
+	void get_analytics_from_rollups() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		Long restaurantId = restaurant.getId();
+		rollupRepository.save(new ReservationRollup(restaurantId, FIRST_DATE, LUNCH, ReservationStatus.VISITED, 3, 10));
+		rollupRepository.save(new ReservationRollup(restaurantId, FIRST_DATE, LUNCH, ReservationStatus.NO_SHOW, 1, 4));
+		rollupRepository.save(new ReservationRollup(restaurantId, FIRST_DATE, LUNCH, ReservationStatus.CANCELLED, 2, 6));
+		rollupRepository.save(new ReservationRollup(restaurantId, FIRST_DATE, DINNER, ReservationStatus.VISITED, 1, 2));
+		rollupRepository.save(new ReservationRollup(restaurantId, SECOND_DATE, DINNER, ReservationStatus.CONFIRMED, 5, 20));
+		rollupRepository.save(new ReservationRollup(restaurantId, SECOND_DATE.plusDays(1L), DINNER,
+			ReservationStatus.CONFIRMED, 1, 2));
+
+		// when
+		ReservationAnalyticsRes analyticsRes = analyticsService.getAnalytics(
+			restaurantId,
+			new ReservationAnalyticsReq(FIRST_DATE, SECOND_DATE)
+		);
+
+		// then
+		assertThat(analyticsRes.capacity()).isEqualTo(restaurant.getCapacity());
+		assertThat(analyticsRes.dailyStats()).containsExactly(
+			new DailyReservationStatRes(FIRST_DATE, 5, 12, 1, 0.25),
+			new DailyReservationStatRes(SECOND_DATE, 5, 0, 0, 0)
+		);
+		assertThat(analyticsRes.slotUtilizations()).containsExactly(
+			new SlotUtilizationRes(FIRST_DATE, LUNCH, 14, 14.0 / restaurant.getCapacity()),
+			new SlotUtilizationRes(FIRST_DATE, DINNER, 2, 2.0 / restaurant.getCapacity()),
+			new SlotUtilizationRes(SECOND_DATE, DINNER, 20, 20.0 / restaurant.getCapacity())
+		);
+	}
+
+	@Test
+	@DisplayName("시작일이 종료일보다 늦으면 통계를 조회할 수 없다.")
+	void fail_get_analytics_with_reversed_range() {
+		// when & then
+		assertThatThrownBy(() -> analyticsService.getAnalytics(
+			1L,
+			new ReservationAnalyticsReq(SECOND_DATE, FIRST_DATE)
+		)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
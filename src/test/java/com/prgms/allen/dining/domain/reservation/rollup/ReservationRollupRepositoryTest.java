@@ -0,0 +1,115 @@
+package com.prgms.allen.dining.domain.reservation.rollup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.prgms.allen.dining.domain.member.MemberRepository;
+import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.reservation.entity.Reservation;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationCustomerInput;
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.reservation.repository.ReservationRepository;
+import com.prgms.allen.dining.domain.restaurant.RestaurantRepository;
+import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.generator.DummyGenerator;
+import com.prgms.allen.dining.global.shard.SingleShardOperations;
+
+@DataJpaTest
+class ReservationRollupRepositoryTest {
+
+	private static final LocalTime VISIT_TIME = LocalTime.of(18, 0);
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private RestaurantRepository restaurantRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationRollupRepository rollupRepository;
+
+	@Test
+	@DisplayName("야간 보정은 기간 안의 집계를 예약 테이블 기준으로 다시 만들고 기간 밖의 집계는 그대로 둔다.")
+	void repair_rollups_in_range() {
+		// given
+		LocalDate visitDate = LocalDate.now().plusDays(1L);
+		LocalDate outOfRangeDate = visitDate.plusDays(10L);
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		saveReservation(customer, restaurant, ReservationStatus.CONFIRMED, visitDate, 2);
+		saveReservation(customer, restaurant, ReservationStatus.CONFIRMED, visitDate, 4);
+		saveReservation(customer, restaurant, ReservationStatus.CANCELLED, visitDate, 3);
+		reservationRepository.flush();
+
+		Long restaurantId = restaurant.getId();
+		rollupRepository.save(new ReservationRollup(restaurantId, visitDate, VISIT_TIME,
+			ReservationStatus.CONFIRMED, 7, 30));
+		rollupRepository.save(new ReservationRollup(restaurantId, visitDate, VISIT_TIME,
+			ReservationStatus.NO_SHOW, 1, 2));
+		rollupRepository.save(new ReservationRollup(restaurantId, outOfRangeDate, VISIT_TIME,
+			ReservationStatus.CONFIRMED, 1, 2));
+		ReservationRollupUpdater rollupUpdater = new ReservationRollupUpdater(
+			rollupRepository,
+			new SingleShardOperations(TransactionOperations.withoutTransaction()),
+			TransactionOperations.withoutTransaction(),
+			7,
+			30
+		);
+
+		// when
+		rollupUpdater.repair(visitDate, visitDate.plusDays(1L));
+
+		// then
+		assertThat(rollupRepository.findAllByRestaurantIdAndVisitDateBetween(restaurantId, visitDate, outOfRangeDate))
+			.extracting(
+				ReservationRollup::getVisitDate,
+				ReservationRollup::getStatus,
+				ReservationRollup::getReservationCount,
+				ReservationRollup::getVisitorCount
+			)
+			.containsExactlyInAnyOrder(
+				tuple(visitDate, ReservationStatus.CONFIRMED, 2, 6),
+				tuple(visitDate, ReservationStatus.CANCELLED, 1, 3),
+				tuple(outOfRangeDate, ReservationStatus.CONFIRMED, 1, 2)
+			);
+	}
+
+	@Test
+	@DisplayName("슬롯과 상태가 같은 집계 행에 예약 수와 인원수를 더할 수 있다.")
+	void add_counts() {
+		// given
+		LocalDate visitDate = LocalDate.now().plusDays(1L);
+		rollupRepository.save(new ReservationRollup(1L, visitDate, VISIT_TIME, ReservationStatus.PENDING, 2, 4));
+
+		// when
+		int updatedCount = rollupRepository.addCounts(1L, visitDate, VISIT_TIME, ReservationStatus.PENDING, -1, -2);
+		int missedCount = rollupRepository.addCounts(1L, visitDate, VISIT_TIME, ReservationStatus.CONFIRMED, 1, 2);
+
+		// then
+		assertThat(updatedCount).isOne();
+		assertThat(missedCount).isZero();
+	}
+
+	private void saveReservation(Member customer, Restaurant restaurant, ReservationStatus status,
+		LocalDate visitDate, int visitorCount) {
+		reservationRepository.save(Reservation.newTestInstance(
+			null,
+			customer,
+			restaurant,
+			status,
+			new ReservationCustomerInput(visitDate, VISIT_TIME, visitorCount)
+		));
+	}
+}
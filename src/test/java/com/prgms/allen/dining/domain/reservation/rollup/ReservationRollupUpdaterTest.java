@@ -0,0 +1,114 @@
+package com.prgms.allen.dining.domain.reservation.rollup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.prgms.allen.dining.domain.reservation.entity.ReservationStatus;
+import com.prgms.allen.dining.domain.reservation.event.ReservationRollupChangedEvent;
+import com.prgms.allen.dining.global.shard.SingleShardOperations;
+
+class ReservationRollupUpdaterTest {
+
+	private static final Long RESTAURANT_ID = 1L;
+	private static final LocalDate VISIT_DATE = LocalDate.of(2026, 3, 1);
+	private static final LocalTime VISIT_TIME = LocalTime.of(18, 0);
+
+	private final FakeReservationRollupRepository rollupRepository = new FakeReservationRollupRepository();
+	private final ReservationRollupUpdater rollupUpdater = createRollupUpdater(rollupRepository);
+
+	@Test
+	@DisplayName("같은 슬롯과 상태의 예약은 한 집계 행에 예약 수와 인원수가 더해진다.")
+	void add_to_existing_rollup() {
+		// when
+		rollupUpdater.onReservationRollupChanged(added(ReservationStatus.PENDING, 2));
+		rollupUpdater.onReservationRollupChanged(added(ReservationStatus.PENDING, 4));
+
+		// then
+		assertThat(rollupRepository.find(RESTAURANT_ID, VISIT_DATE, VISIT_TIME, ReservationStatus.PENDING))
+			.hasValueSatisfying(rollup -> {
+				assertThat(rollup.getReservationCount()).isEqualTo(2);
+				assertThat(rollup.getVisitorCount()).isEqualTo(6);
+			});
+	}
+
+	@Test
+	@DisplayName("예약 상태가 바뀌면 이전 상태의 집계에서 빠지고 새 상태의 집계에 더해진다.")
+	void move_rollup_on_transition() {
+		// given
+		rollupUpdater.onReservationRollupChanged(added(ReservationStatus.CONFIRMED, 2));
+		rollupUpdater.onReservationRollupChanged(added(ReservationStatus.CONFIRMED, 4));
+
+		// when
+		rollupUpdater.onReservationRollupChanged(removed(ReservationStatus.CONFIRMED, 4));
+		rollupUpdater.onReservationRollupChanged(added(ReservationStatus.NO_SHOW, 4));
+
+		// then
+		assertThat(rollupRepository.find(RESTAURANT_ID, VISIT_DATE, VISIT_TIME, ReservationStatus.CONFIRMED))
+			.hasValueSatisfying(rollup -> {
+				assertThat(rollup.getReservationCount()).isEqualTo(1);
+				assertThat(rollup.getVisitorCount()).isEqualTo(2);
+			});
+		assertThat(rollupRepository.find(RESTAURANT_ID, VISIT_DATE, VISIT_TIME, ReservationStatus.NO_SHOW))
+			.hasValueSatisfying(rollup -> {
+				assertThat(rollup.getReservationCount()).isEqualTo(1);
+				assertThat(rollup.getVisitorCount()).isEqualTo(4);
+			});
+	}
+
+	@Test
+	@DisplayName("다른 트랜잭션이 같은 슬롯의 첫 집계 행을 먼저 넣었으면 그 행에 더해서 증분을 잃지 않는다.")
+	void add_to_concurrently_inserted_rollup() {
+		// given
+		FakeReservationRollupRepository racingRepository = new FakeReservationRollupRepository() {
+
+			private boolean raced;
+
+			@Override
+			public ReservationRollup save(ReservationRollup rollup) {
+				if (!raced) {
+					raced = true;
+					super.save(new ReservationRollup(RESTAURANT_ID, VISIT_DATE, VISIT_TIME,
+						ReservationStatus.PENDING, 1, 2));
+					throw new DataIntegrityViolationException("uk_reservation_rollup_slot_status");
+				}
+				return super.save(rollup);
+			}
+		};
+		ReservationRollupUpdater racingUpdater = createRollupUpdater(racingRepository);
+
+		// when
+		racingUpdater.onReservationRollupChanged(added(ReservationStatus.PENDING, 4));
+
+		// then
+		assertThat(racingRepository.find(RESTAURANT_ID, VISIT_DATE, VISIT_TIME, ReservationStatus.PENDING))
+			.hasValueSatisfying(rollup -> {
+				assertThat(rollup.getReservationCount()).isEqualTo(2);
+				assertThat(rollup.getVisitorCount()).isEqualTo(6);
+			});
+	}
+
+	private static ReservationRollupUpdater createRollupUpdater(ReservationRollupRepository repository) {
+		return new ReservationRollupUpdater(
+			repository,
+			new SingleShardOperations(TransactionOperations.withoutTransaction()),
+			TransactionOperations.withoutTransaction(),
+			7,
+			30
+		);
+	}
+
+	private ReservationRollupChangedEvent added(ReservationStatus status, int visitorCount) {
+		return new ReservationRollupChangedEvent(RESTAURANT_ID, VISIT_DATE, VISIT_TIME, status, 1, visitorCount);
+	}
+
+	private ReservationRollupChangedEvent removed(ReservationStatus status, int visitorCount) {
+		return new ReservationRollupChangedEvent(RESTAURANT_ID, VISIT_DATE, VISIT_TIME, status, -1, -visitorCount);
+	}
+}
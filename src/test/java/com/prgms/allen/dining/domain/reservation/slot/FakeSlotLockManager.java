@@ -0,0 +1,23 @@
+package com.prgms.allen.dining.domain.reservation.slot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class FakeSlotLockManager extends SlotLockManager {
+
+	private final List<ReservationSlot> lockedSlots = new ArrayList<>();
+
+	public FakeSlotLockManager() {
+		super(1);
+	}
+
+	@Override
+	public void lockAll(Collection<ReservationSlot> slots) {
+		lockedSlots.addAll(slots);
+	}
+
+	public List<ReservationSlot> getLockedSlots() {
+		return lockedSlots;
+	}
+}
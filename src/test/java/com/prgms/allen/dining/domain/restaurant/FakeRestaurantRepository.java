@@ -15,6 +15,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
 
 import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.restaurant.dto.ClosingDayPerRestaurantProj;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleProj;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantTimeTableProj;
 import com.prgms.allen.dining.domain.restaurant.entity.Menu;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
 
@@ -44,16 +47,22 @@ public class FakeRestaurantRepository implements RestaurantRepository {
 	}
 
 	@Override
-	public Page<Restaurant> findAllByNameContains(Pageable pageable, String restaurantName) {
+	public List<RestaurantSimpleProj> findAllSimple(Pageable pageable) {
+		return restaurants.stream()
+			.skip(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.map(FakeRestaurantRepository::toSimpleProj)
+			.toList();
+	}
 
-		List<Restaurant> answer = restaurants.stream()
+	@Override
+	public List<RestaurantSimpleProj> findAllSimpleByNameContains(Pageable pageable, String restaurantName) {
+		return restaurants.stream()
 			.filter(restaurant -> restaurant.getName().contains(restaurantName))
 			.skip(pageable.getOffset())
 			.limit(pageable.getPageSize())
+			.map(FakeRestaurantRepository::toSimpleProj)
 			.toList();
-
-		return new PageImpl<>(answer);
-
 	}
 
 	@Override
@@ -232,6 +241,43 @@ public class FakeRestaurantRepository implements RestaurantRepository {
 			.equals(ownerId));
 	}
 
+	@Override
+	public List<Long> findOwnerIdsByOwnerIdIn(Collection<Long> ownerIds) {
+		return restaurants.stream()
+			.map(restaurant -> restaurant.getOwner()
+				.getId())
+			.filter(ownerIds::contains)
+			.toList();
+	}
+
+	@Override
+	public Optional<Long> findIdByOwnerId(Long ownerId) {
+		return restaurants.stream()
+			.filter(restaurant -> restaurant.getOwner()
+				.getId()
+				.equals(ownerId))
+			.map(Restaurant::getId)
+			.findFirst();
+	}
+
+	@Override
+	public Optional<Long> findVersionById(Long restaurantId) {
+		return restaurants.stream()
+			.filter(restaurant -> restaurant.getId().equals(restaurantId))
+			.map(Restaurant::getVersion)
+			.findFirst();
+	}
+
+	@Override
+	public List<RestaurantTimeTableProj> findAllTimeTables() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<ClosingDayPerRestaurantProj> findAllClosingDays() {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	public Optional<Restaurant> findByIdAndOwner(Long id, Member owner) {
 		return restaurants.stream()
@@ -239,4 +285,18 @@ public class FakeRestaurantRepository implements RestaurantRepository {
 			.filter(restaurant -> restaurant.getOwner().equals(owner))
 			.findAny();
 	}
+
+	@Override
+	public Optional<Restaurant> findDetailById(Long id) {
+		return findById(id);
+	}
+
+	private static RestaurantSimpleProj toSimpleProj(Restaurant restaurant) {
+		return new RestaurantSimpleProj(
+			restaurant.getId(),
+			restaurant.getFoodType(),
+			restaurant.getName(),
+			restaurant.getLocation()
+		);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.prgms.allen.dining.domain.restaurant;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prgms.allen.dining.domain.common.FakeApplicationEventPublisher;
+import com.prgms.allen.dining.domain.member.FakeMemberRepository;
+import com.prgms.allen.dining.domain.member.MemberContactCache;
+import com.prgms.allen.dining.domain.member.MemberRepository;
+import com.prgms.allen.dining.domain.member.MemberService;
+import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.restaurant.dto.VersionedRestaurantDetail;
+import com.prgms.allen.dining.domain.restaurant.entity.ClosingDay;
+import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
+import com.prgms.allen.dining.domain.restaurant.entity.Menu;
+import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.generator.DummyGenerator;
+import com.prgms.allen.dining.global.shard.SingleShardOperations;
+
+class RestaurantDetailJsonCacheTest {
+
+	private final RestaurantRepository restaurantRepository = new FakeRestaurantRepository();
+	private final MemberRepository memberRepository = new FakeMemberRepository();
+	private final VersionedRestaurantService restaurantService = new VersionedRestaurantService(
+		restaurantRepository,
+		new MemberService(
+			memberRepository,
+			new MemberContactCache(100),
+			new SingleShardOperations(TransactionOperations.withoutTransaction())
+		)
+	);
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final RestaurantDetailJsonCache restaurantDetailJsonCache =
+		new RestaurantDetailJsonCache(restaurantService, objectMapper, 2, true);
+
+	@Test
+	@DisplayName("같은 버전의 상세 정보는 다시 직렬화하지 않고 캐시된 바이트를 돌려준다.")
+	void get_cached_json() throws IOException {
+		// given
+		Restaurant restaurant = saveRestaurant();
+
+		// when
+		RestaurantDetailJson first = restaurantDetailJsonCache.get(restaurant.getId(), 0L);
+		RestaurantDetailJson second = restaurantDetailJsonCache.get(restaurant.getId(), 0L);
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(first.json())
+			.isEqualTo(objectMapper.writeValueAsBytes(restaurantService.getRestaurant(restaurant.getId())));
+	}
+
+	@Test
+	@DisplayName("식당 버전이 바뀌면 상세 정보를 다시 직렬화한다.")
+	void reserialize_on_new_version() {
+		// given
+		Restaurant restaurant = saveRestaurant();
+		RestaurantDetailJson old = restaurantDetailJsonCache.get(restaurant.getId(), 0L);
+		restaurantService.version = 1L;
+
+		// when
+		RestaurantDetailJson renewed = restaurantDetailJsonCache.get(restaurant.getId(), 1L);
+
+		// then
+		assertThat(renewed).isNotSameAs(old);
+		assertThat(renewed.version()).isEqualTo(1L);
+		assertThat(restaurantDetailJsonCache.get(restaurant.getId(), 1L)).isSameAs(renewed);
+	}
+
+	@Test
+	@DisplayName("요청한 버전보다 옛 본문을 읽으면 읽은 버전을 붙이고 요청한 버전으로 캐시하지 않는다.")
+	void label_with_version_read_with_body() {
+		// given
+		Restaurant restaurant = saveRestaurant();
+		restaurantService.version = 1L;
+
+		// when
+		RestaurantDetailJson stale = restaurantDetailJsonCache.get(restaurant.getId(), 2L);
+		restaurantService.version = 2L;
+		RestaurantDetailJson renewed = restaurantDetailJsonCache.get(restaurant.getId(), 2L);
+
+		// then
+		assertThat(stale.version()).isEqualTo(1L);
+		assertThat(renewed).isNotSameAs(stale);
+		assertThat(renewed.version()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("미리 압축해 둔 바이트를 풀면 원래 JSON 과 같다.")
+	void gzipped_json_matches_json() throws IOException {
+		// given
+		Restaurant restaurant = saveRestaurant();
+
+		// when
+		RestaurantDetailJson detailJson = restaurantDetailJsonCache.get(restaurant.getId(), 0L);
+
+		// then
+		assertThat(detailJson.hasGzip()).isTrue();
+		try (GZIPInputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(detailJson.gzippedJson()))) {
+			assertThat(gzipIn.readAllBytes()).isEqualTo(detailJson.json());
+		}
+	}
+
+	@Test
+	@DisplayName("최대 개수를 넘으면 가장 오래 쓰이지 않은 식당부터 비운다.")
+	void evict_least_recently_used() {
+		// given
+		Restaurant first = saveRestaurant();
+		Restaurant second = saveRestaurant();
+		Restaurant third = saveRestaurant();
+		RestaurantDetailJson firstJson = restaurantDetailJsonCache.get(first.getId(), 0L);
+		restaurantDetailJsonCache.get(second.getId(), 0L);
+		restaurantDetailJsonCache.get(first.getId(), 0L);
+
+		// when
+		restaurantDetailJsonCache.get(third.getId(), 0L);
+
+		// then
+		assertThat(restaurantDetailJsonCache.size()).isEqualTo(2);
+		assertThat(restaurantDetailJsonCache.get(first.getId(), 0L)).isSameAs(firstJson);
+	}
+
+	@Test
+	@DisplayName("캐시된 바이트를 쓰면 매번 직렬화할 때보다 요청당 할당량이 줄어든다.")
+	void cached_json_allocates_less_than_serialization() throws IOException {
+		// given
+		com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		Restaurant restaurant = saveRestaurant();
+		Long restaurantId = restaurant.getId();
+		int requestCount = 20_000;
+
+		for (int i = 0; i < requestCount; i++) {
+			objectMapper.writeValueAsBytes(restaurantService.getRestaurant(restaurantId));
+			restaurantDetailJsonCache.get(restaurantId, 0L);
+		}
+
+		// when
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long serializedBytes = 0;
+		for (int i = 0; i < requestCount; i++) {
+			serializedBytes += objectMapper.writeValueAsBytes(restaurantService.getRestaurant(restaurantId)).length;
+		}
+		long serializeAllocated = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / requestCount;
+
+		allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long cachedBytes = 0;
+		for (int i = 0; i < requestCount; i++) {
+			cachedBytes += restaurantDetailJsonCache.get(restaurantId, 0L).json().length;
+		}
+		long cachedAllocated = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / requestCount;
+
+		// then
+		assertThat(cachedBytes).isEqualTo(serializedBytes);
+		assertThat(cachedAllocated).isLessThan(serializeAllocated / 10);
+	}
+
+	private Restaurant saveRestaurant() {
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		List<Menu> menu = IntStream.range(0, 10)
+			.mapToObj(i -> new Menu("메뉴" + i, BigInteger.valueOf(10000L + i * 1000L), "맛있는 메뉴" + i))
+			.toList();
+
+		return restaurantRepository.save(new Restaurant(
+			owner,
+			FoodType.KOREAN,
+			"장충동국밥",
+			100,
+			LocalTime.of(9, 0),
+			LocalTime.of(23, 0),
+			"서울특별시 서초구 어디길11 2층",
+			"실망시키지 않는 맛집",
+			"021234123",
+			menu,
+			List.of(new ClosingDay(DayOfWeek.MONDAY))
+		));
+	}
+
+	// 가짜 저장소에서는 JPA 가 버전을 올리지 않으므로, 본문과 함께 읽히는 버전을 테스트에서 정한다.
+	private static class VersionedRestaurantService extends RestaurantService {
+
+		private long version;
+
+		VersionedRestaurantService(RestaurantRepository restaurantRepository, MemberService memberService) {
+			super(
+				restaurantRepository,
+				memberService,
+				new FakeApplicationEventPublisher(),
+				new SingleShardOperations(TransactionOperations.withoutTransaction())
+			);
+		}
+
+		@Override
+		public VersionedRestaurantDetail getVersionedRestaurant(Long restaurantId) {
+			return new VersionedRestaurantDetail(version, getRestaurant(restaurantId));
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.prgms.allen.dining.domain.restaurant;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.prgms.allen.dining.domain.member.MemberRepository;
+import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.member.entity.MemberType;
+import com.prgms.allen.dining.domain.notification.slack.SlackNotifyService;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationCreateReq;
+import com.prgms.allen.dining.domain.reservation.dto.ReservationCustomerInputCreateReq;
+import com.prgms.allen.dining.domain.reservation.service.ReservationService;
+import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.generator.DummyGenerator;
+import com.prgms.allen.dining.global.sql.SqlTrace;
+import com.prgms.allen.dining.global.sql.SqlTraceContext;
+
+@SpringBootTest
+@Transactional
+class RestaurantQueryCountTest {
+
+	private static final Pattern MEMBER_TABLE = Pattern.compile("\\bmember\\b");
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private RestaurantRepository restaurantRepository;
+
+	@Autowired
+	private RestaurantService restaurantService;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@MockBean
+	private SlackNotifyService slackNotifyService;
+
+	@AfterEach
+	void tearDown() {
+		SqlTraceContext.finish();
+	}
+
+	@Test
+	@DisplayName("식당 목록 조회는 식당 수와 상관없이 한 번의 쿼리로 끝나고 사장님 정보를 읽지 않는다.")
+	void get_restaurant_list_in_one_query() {
+		// given
+		IntStream.rangeClosed(1, 5)
+			.forEach(i -> restaurantRepository.save(DummyGenerator.createRestaurant(
+				memberRepository.save(createOwner("owner" + i))
+			)));
+		clearPersistenceContext();
+
+		// when
+		SqlTraceContext.start(SqlTrace.NO_BUDGET, false);
+		restaurantService.getRestaurantList(PageRequest.of(0, 5));
+		SqlTrace trace = SqlTraceContext.finish()
+			.orElseThrow();
+
+		// then
+		assertThat(trace.getStatementCount()).isEqualTo(1);
+		assertThat(executedShapes(trace)).noneMatch(shape -> MEMBER_TABLE.matcher(shape).find());
+	}
+
+	@Test
+	@DisplayName("예약 요청은 사장님 정보를 읽지 않고 식당 조회, 인원 집계, 저장만 실행한다.")
+	void reserve_without_loading_owner() {
+		// given
+		Member customer = memberRepository.save(DummyGenerator.CUSTOMER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(
+			memberRepository.save(DummyGenerator.OWNER)
+		));
+		ReservationCreateReq createReq = new ReservationCreateReq(
+			restaurant.getId(),
+			new ReservationCustomerInputCreateReq(
+				LocalDateTime.of(LocalDate.now().plusDays(1), restaurant.getOpenTime()),
+				2,
+				"가지 빼주세요"
+			)
+		);
+		clearPersistenceContext();
+
+		// when
+		SqlTraceContext.start(SqlTrace.NO_BUDGET, false);
+		reservationService.reserve(customer.getId(), createReq);
+		SqlTrace trace = SqlTraceContext.finish()
+			.orElseThrow();
+
+		// then
+		assertThat(trace.getStatementCount()).isLessThanOrEqualTo(3);
+		assertThat(executedShapes(trace)).noneMatch(shape -> MEMBER_TABLE.matcher(shape).find());
+	}
+
+	private void clearPersistenceContext() {
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private static Set<String> executedShapes(SqlTrace trace) {
+		return trace.findRepeatedShapes(1)
+			.keySet();
+	}
+
+	private static Member createOwner(String nickname) {
+		return new Member(
+			nickname,
+			"점주",
+			"01012341234",
+			"qwer1234!",
+			MemberType.OWNER
+		);
+	}
+}
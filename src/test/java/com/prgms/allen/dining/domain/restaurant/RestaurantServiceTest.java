@@ -14,8 +14,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
 
+import com.prgms.allen.dining.domain.common.FakeApplicationEventPublisher;
 import com.prgms.allen.dining.domain.member.FakeMemberRepository;
+import com.prgms.allen.dining.domain.member.MemberContactCache;
 import com.prgms.allen.dining.domain.member.MemberRepository;
 import com.prgms.allen.dining.domain.member.MemberService;
 import com.prgms.allen.dining.domain.member.entity.Member;
@@ -23,20 +26,29 @@ import com.prgms.allen.dining.domain.member.entity.MemberType;
 import com.prgms.allen.dining.domain.restaurant.dto.ClosingDayCreateReq;
 import com.prgms.allen.dining.domain.restaurant.dto.MenuCreateReq;
 import com.prgms.allen.dining.domain.restaurant.dto.MenuDetailRes;
+import com.prgms.allen.dining.domain.restaurant.dto.MenuSimpleRes;
 import com.prgms.allen.dining.domain.restaurant.dto.RestaurantCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantDetailResForOwner;
 import com.prgms.allen.dining.domain.restaurant.dto.RestaurantSimpleRes;
 import com.prgms.allen.dining.domain.restaurant.entity.FoodType;
 import com.prgms.allen.dining.domain.restaurant.entity.Menu;
 import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.global.shard.SingleShardOperations;
 
 class RestaurantServiceTest {
 
 	private final RestaurantRepository restaurantRepository = new FakeRestaurantRepository();
 	private final MemberRepository memberRepository = new FakeMemberRepository();
-	private final MemberService memberService = new MemberService(memberRepository);
+	private final MemberService memberService = new MemberService(
+		memberRepository,
+		new MemberContactCache(100),
+		new SingleShardOperations(TransactionOperations.withoutTransaction())
+	);
 	private final RestaurantService restaurantService = new RestaurantService(
 		restaurantRepository,
-		memberService
+		memberService,
+		new FakeApplicationEventPublisher(),
+		new SingleShardOperations(TransactionOperations.withoutTransaction())
 	);
 
 	private Member savedOwner;
@@ -186,6 +198,21 @@ class RestaurantServiceTest {
 		assertThat(expectMenus).containsAll(actualMenus);
 	}
 
+	@Test
+	@DisplayName("점주의 식당 상세정보에는 노출 순서대로 앞의 메뉴 4개만 담긴다.")
+	void getRestaurantForOwnerWithMenuPreview() {
+		// given
+		Restaurant restaurant = createRestaurant(savedOwner);
+
+		// when
+		RestaurantDetailResForOwner actual = restaurantService.getRestaurant(restaurant.getId(), savedOwner.getId());
+
+		// then
+		assertThat(actual.menuList())
+			.extracting(MenuSimpleRes::name)
+			.containsExactly("라면", "감자칩", "계란찜", "짜장면");
+	}
+
 	private Member createOwner(String nickName) {
 		return new Member(
 			nickName,
@@ -0,0 +1,119 @@
+package com.prgms.allen.dining.domain.restaurant;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgms.allen.dining.domain.common.FakeClock;
+import com.prgms.allen.dining.domain.common.NotFoundResourceException;
+import com.prgms.allen.dining.domain.member.FakeMemberRepository;
+import com.prgms.allen.dining.domain.member.MemberRepository;
+import com.prgms.allen.dining.domain.member.entity.Member;
+import com.prgms.allen.dining.domain.restaurant.entity.Restaurant;
+import com.prgms.allen.dining.generator.DummyGenerator;
+
+class RestaurantVersionCacheTest {
+
+	private final CountingRestaurantRepository restaurantRepository = new CountingRestaurantRepository();
+	private final MemberRepository memberRepository = new FakeMemberRepository();
+	private final FakeClock clock = new FakeClock();
+	private final RestaurantVersionCache restaurantVersionCache = new RestaurantVersionCache(
+		restaurantRepository,
+		Duration.ofSeconds(60),
+		clock
+	);
+
+	@Test
+	@DisplayName("한 번 읽은 식당 버전은 저장소를 다시 조회하지 않고 돌려준다.")
+	void get_cached_version() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+
+		// when
+		long first = restaurantVersionCache.getVersion(restaurant.getId());
+		long second = restaurantVersionCache.getVersion(restaurant.getId());
+
+		// then
+		assertThat(first).isEqualTo(restaurant.getVersion());
+		assertThat(second).isEqualTo(first);
+		assertThat(restaurantRepository.versionQueryCount).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("버전을 비우면 다음 조회 때 저장소에서 다시 읽는다.")
+	void reload_after_evict() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		restaurantVersionCache.getVersion(restaurant.getId());
+
+		// when
+		restaurantVersionCache.evict(restaurant.getId());
+		restaurantVersionCache.getVersion(restaurant.getId());
+
+		// then
+		assertThat(restaurantRepository.versionQueryCount).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("수정 전에 읽은 옛 버전이 늦게 채워져도 수정 뒤의 새 버전을 덮지 못한다.")
+	void keep_newer_version_over_stale_load() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		long staleVersion = restaurant.getVersion();
+		restaurantVersionCache.update(restaurant.getId(), staleVersion + 1);
+		restaurantRepository.staleVersion = staleVersion;
+		clock.advance(Duration.ofSeconds(61));
+
+		// when
+		long version = restaurantVersionCache.getVersion(restaurant.getId());
+
+		// then
+		assertThat(version).isEqualTo(staleVersion + 1);
+	}
+
+	@Test
+	@DisplayName("TTL 이 지난 버전은 저장소에서 다시 읽는다.")
+	void reload_after_ttl() {
+		// given
+		Member owner = memberRepository.save(DummyGenerator.OWNER);
+		Restaurant restaurant = restaurantRepository.save(DummyGenerator.createRestaurant(owner));
+		restaurantVersionCache.getVersion(restaurant.getId());
+
+		// when
+		clock.advance(Duration.ofSeconds(61));
+		restaurantVersionCache.getVersion(restaurant.getId());
+
+		// then
+		assertThat(restaurantRepository.versionQueryCount).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("없는 식당의 버전은 조회할 수 없다.")
+	void fail_get_version_of_unknown_restaurant() {
+		// when & then
+		assertThatThrownBy(() -> restaurantVersionCache.getVersion(1L))
+			.isInstanceOf(NotFoundResourceException.class);
+	}
+
+	private static class CountingRestaurantRepository extends FakeRestaurantRepository {
+
+		private int versionQueryCount;
+		private Long staleVersion;
+
+		@Override
+		public Optional<Long> findVersionById(Long restaurantId) {
+			versionQueryCount++;
+			if (staleVersion != null) {
+				return Optional.of(staleVersion);
+			}
+			return super.findVersionById(restaurantId);
+		}
+	}
+}
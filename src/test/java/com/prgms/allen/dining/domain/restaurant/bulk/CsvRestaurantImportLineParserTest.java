@@ -0,0 +1,50 @@
+package com.prgms.allen.dining.domain.restaurant.bulk;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgms.allen.dining.domain.restaurant.dto.ClosingDayCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.MenuCreateReq;
+import com.prgms.allen.dining.domain.restaurant.dto.RestaurantImportRow;
+
+class CsvRestaurantImportLineParserTest {
+
+	private final CsvRestaurantImportLineParser parser = new CsvRestaurantImportLineParser();
+
+	@Test
+	@DisplayName("따옴표로 감싼 필드 안의 쉼표와 따옴표를 그대로 읽는다.")
+	void parse_quoted_columns() {
+		// given
+		String line = "franchise01,KOREAN,\"강남점, 본점\",20,11:00,21:00,"
+			+ "서울특별시 강남구,\"\"\"진한\"\" 국물\",0211112222,MONDAY;SUNDAY,국밥:9000:뜨끈한 국밥|수육:25000";
+
+		// when
+		RestaurantImportRow row = parser.parse(line);
+
+		// then
+		assertThat(row.ownerNickname()).isEqualTo("franchise01");
+		assertThat(row.restaurant().name()).isEqualTo("강남점, 본점");
+		assertThat(row.restaurant().description()).isEqualTo("\"진한\" 국물");
+		assertThat(row.restaurant().openTime()).isEqualTo(LocalTime.of(11, 0));
+		assertThat(row.restaurant().closingDays())
+			.containsExactly(new ClosingDayCreateReq(DayOfWeek.MONDAY), new ClosingDayCreateReq(DayOfWeek.SUNDAY));
+		assertThat(row.restaurant().menuList()).containsExactly(
+			new MenuCreateReq("국밥", BigInteger.valueOf(9000), "뜨끈한 국밥"),
+			new MenuCreateReq("수육", BigInteger.valueOf(25000), null)
+		);
+	}
+
+	@Test
+	@DisplayName("열 개수가 맞지 않는 줄은 읽을 수 없다.")
+	void fail_parse_wrong_column_count() {
+		// when & then
+		assertThatThrownBy(() -> parser.parse("franchise01,KOREAN,강남점"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
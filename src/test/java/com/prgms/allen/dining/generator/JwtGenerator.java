@@ -21,10 +21,15 @@ public class JwtGenerator {
 	}
 
 	public String getToken(Member dummyMember) {
+		return getToken(dummyMember, null);
+	}
+
+	public String getToken(Member dummyMember, Long restaurantId) {
 		return BEARER_PREFIX + DELIMITER
 			+ jwtProvider.generateToken(
 			dummyMember.getNickname(),
 			dummyMember.getId(),
+			restaurantId,
 			List.of(
 				new SimpleGrantedAuthority(dummyMember.getMemberType().getValue())
 			)
@@ -0,0 +1,222 @@
+package com.prgms.allen.dining.global.bulkhead;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadAspectTest {
+
+	private static final int BROWSING_MAX_CONCURRENT = 2;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ConnectionBulkhead bookingBulkhead =
+		new ConnectionBulkhead(BulkheadType.BOOKING, 1, 2, Duration.ofMillis(500), meterRegistry);
+	private final ConnectionBulkhead browsingBulkhead =
+		new ConnectionBulkhead(BulkheadType.BROWSING, BROWSING_MAX_CONCURRENT, 1, Duration.ofMillis(50), meterRegistry);
+	private final ConnectionBulkhead bulkBulkhead =
+		new ConnectionBulkhead(BulkheadType.BULK, 1, 1, Duration.ofMillis(50), meterRegistry);
+	private final ConnectionBulkhead defaultBulkhead =
+		new ConnectionBulkhead(BulkheadType.DEFAULT, 1, 1, Duration.ofMillis(50), meterRegistry);
+	private final CountDownLatch releaseBrowsing = new CountDownLatch(1);
+	private final ExecutorService executorService = Executors.newFixedThreadPool(BROWSING_MAX_CONCURRENT);
+	private final BulkheadProbe probe = createProbe();
+
+	@AfterEach
+	void tearDown() {
+		releaseBrowsing.countDown();
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("조회 경로가 자리를 모두 차지해도 예약 경로는 기다리지 않고 실행된다.")
+	void booking_is_isolated_from_browsing() throws Exception {
+		// given
+		CountDownLatch browsingStarted = new CountDownLatch(BROWSING_MAX_CONCURRENT);
+		for (int i = 0; i < BROWSING_MAX_CONCURRENT; i++) {
+			executorService.submit(() -> probe.browse(browsingStarted));
+		}
+		assertThat(browsingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		String booked = probe.book();
+
+		// then
+		assertThat(booked).isEqualTo("booked");
+		assertThat(browsingBulkhead.getActiveCount()).isEqualTo(BROWSING_MAX_CONCURRENT);
+		assertThat(meterRegistry.get("db.bulkhead.wait").tag("bulkhead", "booking").timer().count()).isOne();
+	}
+
+	@Test
+	@DisplayName("자리가 없으면 최대 대기 시간만큼 기다린 뒤 거절하고, 거절 수를 경로별로 센다.")
+	void reject_when_bulkhead_is_full() throws Exception {
+		// given
+		CountDownLatch browsingStarted = new CountDownLatch(BROWSING_MAX_CONCURRENT);
+		for (int i = 0; i < BROWSING_MAX_CONCURRENT; i++) {
+			executorService.submit(() -> probe.browse(browsingStarted));
+		}
+		assertThat(browsingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when & then
+		assertThatThrownBy(() -> probe.browse(new CountDownLatch(1)))
+			.isInstanceOf(BulkheadFullException.class);
+		assertThat(meterRegistry.get("db.bulkhead.rejected").tag("bulkhead", "browsing").counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("db.bulkhead.rejected").tag("bulkhead", "booking").counter().count())
+			.isZero();
+	}
+
+	@Test
+	@DisplayName("자리를 받은 호출 안에서 다시 들어오면 자리를 더 받지 않는다.")
+	void reenter_without_new_permit() {
+		// when
+		String booked = probe.bookThenBrowse();
+
+		// then
+		assertThat(booked).isEqualTo("booked");
+		assertThat(bookingBulkhead.getActiveCount()).isZero();
+		assertThat(meterRegistry.get("db.bulkhead.wait").tag("bulkhead", "browsing").timer().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("@Bulkhead 가 없는 트랜잭션 메서드도 기본 자리를 받고, 자리를 받은 호출 안에서는 더 받지 않는다.")
+	void isolate_unannotated_transactional_call() {
+		// when
+		String saved = probe.save();
+		String booked = probe.bookThenSave();
+
+		// then
+		assertThat(saved).isEqualTo("saved");
+		assertThat(booked).isEqualTo("booked");
+		assertThat(meterRegistry.get("db.bulkhead.wait").tag("bulkhead", "default").timer().count()).isOne();
+		assertThat(defaultBulkhead.getActiveCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("오래 걸리는 내보내기가 자리를 잡고 있어도 상세 조회는 기다리지 않고 실행된다.")
+	void detail_read_is_isolated_from_long_export() throws Exception {
+		// given
+		CountDownLatch exportStarted = new CountDownLatch(1);
+		executorService.submit(() -> probe.export(exportStarted));
+		assertThat(exportStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		String read = probe.readDetail();
+
+		// then
+		assertThat(read).isEqualTo("read");
+		assertThat(bulkBulkhead.getActiveCount()).isOne();
+		assertThatThrownBy(() -> probe.export(new CountDownLatch(1)))
+			.isInstanceOf(BulkheadFullException.class);
+	}
+
+	@Test
+	@DisplayName("기본 자리는 커넥션 풀에서 다른 자리들이 잡을 수 있는 커넥션을 빼고 남은 만큼 받는다.")
+	void size_default_bulkhead_from_left_connections() {
+		// when
+		ConnectionBulkhead sized = new BulkheadConfig().defaultBulkhead(
+			bookingBulkhead,
+			browsingBulkhead,
+			bulkBulkhead,
+			10,
+			50,
+			meterRegistry
+		);
+
+		// then
+		assertThat(sized.getMaxConnections()).isEqualTo(10 - 2 - BROWSING_MAX_CONCURRENT - 1);
+		assertThatThrownBy(() -> new BulkheadConfig().defaultBulkhead(
+			bookingBulkhead,
+			browsingBulkhead,
+			bulkBulkhead,
+			5,
+			50,
+			meterRegistry
+		)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("자리마다 잡을 수 있는 커넥션 수는 최대 동시 실행 수와 호출 하나가 잡는 커넥션 수의 곱이다.")
+	void max_connections_per_bulkhead() {
+		// when & then
+		assertThat(bookingBulkhead.getMaxConnections()).isEqualTo(2);
+		assertThat(browsingBulkhead.getMaxConnections()).isEqualTo(BROWSING_MAX_CONCURRENT);
+	}
+
+	private BulkheadProbe createProbe() {
+		BulkheadProbe target = new BulkheadProbe(releaseBrowsing);
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(new BulkheadAspect(List.of(bookingBulkhead, browsingBulkhead, bulkBulkhead, defaultBulkhead)));
+		target.self = proxyFactory.getProxy();
+		return target.self;
+	}
+
+	static class BulkheadProbe {
+
+		private final CountDownLatch releaseBrowsing;
+		BulkheadProbe self;
+
+		BulkheadProbe(CountDownLatch releaseBrowsing) {
+			this.releaseBrowsing = releaseBrowsing;
+		}
+
+		@Bulkhead(BulkheadType.BROWSING)
+		public String browse(CountDownLatch started) throws InterruptedException {
+			started.countDown();
+			releaseBrowsing.await(5, TimeUnit.SECONDS);
+			return "browsed";
+		}
+
+		@Bulkhead(BulkheadType.BOOKING)
+		public String book() {
+			return "booked";
+		}
+
+		@Bulkhead(BulkheadType.BROWSING)
+		public String peek() {
+			return "peeked";
+		}
+
+		@Bulkhead(BulkheadType.BOOKING)
+		public String bookThenBrowse() {
+			self.peek();
+			return "booked";
+		}
+
+		@Bulkhead(BulkheadType.BULK)
+		public String export(CountDownLatch started) throws InterruptedException {
+			started.countDown();
+			releaseBrowsing.await(5, TimeUnit.SECONDS);
+			return "exported";
+		}
+
+		@Transactional(readOnly = true)
+		public String readDetail() {
+			return "read";
+		}
+
+		@Transactional
+		public String save() {
+			return "saved";
+		}
+
+		@Bulkhead(BulkheadType.BOOKING)
+		public String bookThenSave() {
+			self.save();
+			return "booked";
+		}
+	}
+}
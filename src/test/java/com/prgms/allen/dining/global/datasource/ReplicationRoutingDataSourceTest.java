@@ -0,0 +1,136 @@
+package com.prgms.allen.dining.global.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prgms.allen.dining.domain.common.FakeClock;
+
+class ReplicationRoutingDataSourceTest {
+
+	private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+	private final FakeClock clock = new FakeClock();
+
+	private EmbeddedDatabase primaryDatabase;
+	private EmbeddedDatabase replicaDatabase;
+	private ReplicaLagMonitor replicaLagMonitor;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readOnlyTransaction;
+	private TransactionTemplate readWriteTransaction;
+
+	@BeforeEach
+	void setUp() {
+		primaryDatabase = createDatabase("primary");
+		replicaDatabase = createDatabase("replica");
+		replicaLagMonitor = new ReplicaLagMonitor(primaryDatabase, replicaDatabase, MAX_LAG, clock);
+
+		ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+			primaryDatabase,
+			replicaDatabase,
+			replicaLagMonitor
+		);
+		routingDataSource.afterPropertiesSet();
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		readWriteTransaction = new TransactionTemplate(transactionManager);
+
+		replicate(clock.millis());
+		replicaLagMonitor.beat();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReadYourWritesContext.clear();
+		primaryDatabase.shutdown();
+		replicaDatabase.shutdown();
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 복제본에서, 쓰기 트랜잭션은 원본에서 실행한다.")
+	void route_by_transaction_read_only() {
+		// when
+		String readOnlyRole = readOnlyTransaction.execute(status -> currentRole());
+		String readWriteRole = readWriteTransaction.execute(status -> currentRole());
+
+		// then
+		assertThat(readOnlyRole).isEqualTo("replica");
+		assertThat(readWriteRole).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("쓰기 직후로 표시된 요청은 읽기 전용 트랜잭션도 원본에서 읽는다.")
+	void route_to_primary_when_pinned() {
+		// given
+		ReadYourWritesContext.pinToPrimary();
+
+		// when
+		String role = readOnlyTransaction.execute(status -> currentRole());
+
+		// then
+		assertThat(role).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("복제본 지연이 허용치를 넘으면 원본에서 읽고, 따라잡으면 다시 복제본에서 읽는다.")
+	void route_to_primary_while_replica_lags() {
+		// given
+		clock.advance(MAX_LAG.plusSeconds(1));
+		replicaLagMonitor.beat();
+		String lagging = readOnlyTransaction.execute(status -> currentRole());
+
+		// when
+		replicate(clock.millis());
+		replicaLagMonitor.beat();
+		String caughtUp = readOnlyTransaction.execute(status -> currentRole());
+
+		// then
+		assertThat(lagging).isEqualTo("primary");
+		assertThat(caughtUp).isEqualTo("replica");
+	}
+
+	private String currentRole() {
+		return jdbcTemplate.queryForObject("select role from database_role", String.class);
+	}
+
+	// 두 H2 는 실제로 복제되지 않으므로, 복제본에 하트비트가 도착한 것처럼 직접 쓴다.
+	private void replicate(long beatMillis) {
+		new JdbcTemplate(replicaDatabase).update(
+			"update replication_heartbeat set beat_millis = ? where heartbeat_id = 1",
+			beatMillis
+		);
+	}
+
+	private static EmbeddedDatabase createDatabase(String role) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+			.setType(EmbeddedDatabaseType.H2)
+			.setName(role + "-" + UUID.randomUUID())
+			.build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("create table database_role (role varchar(10) not null)");
+		jdbcTemplate.update("insert into database_role (role) values (?)", role);
+		jdbcTemplate.execute("create table replication_heartbeat "
+			+ "(heartbeat_id integer not null primary key, beat_millis bigint not null)");
+		jdbcTemplate.update("insert into replication_heartbeat (heartbeat_id, beat_millis) values (1, 0)");
+		return database;
+	}
+}
@@ -0,0 +1,71 @@
+package com.prgms.allen.dining.global.jfr;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrRecordingEndpointTest {
+
+	private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint();
+
+	@AfterEach
+	void tearDown() {
+		try {
+			endpoint.stop();
+		} catch (IllegalStateException ignored) {
+		}
+	}
+
+	@Test
+	@DisplayName("녹화 중에 내려받으면 그때까지 남긴 예약 이벤트가 담긴 스냅샷을 받는다.")
+	void download_snapshot_with_reserve_event() throws IOException {
+		// given
+		endpoint.start(null, null);
+		ReserveEvent reserveEvent = new ReserveEvent(7L, LocalDateTime.of(2023, 1, 2, 18, 0), 4);
+		reserveEvent.begin();
+		reserveEvent.slotLocked(System.nanoTime());
+		reserveEvent.rejected("full");
+		reserveEvent.commit();
+
+		// when
+		Resource snapshot = endpoint.download();
+
+		// then
+		List<RecordedEvent> reserveEvents = RecordingFile.readAllEvents(snapshot.getFile().toPath())
+			.stream()
+			.filter(event -> event.getEventType().getName().equals("com.prgms.allen.dining.Reserve"))
+			.toList();
+		assertThat(reserveEvents).singleElement()
+			.satisfies(event -> {
+				assertThat(event.getLong("restaurantId")).isEqualTo(7L);
+				assertThat(event.getString("slot")).isEqualTo("2023-01-02T18:00");
+				assertThat(event.getString("capacityCheck")).isEqualTo("REJECTED");
+			});
+	}
+
+	@Test
+	@DisplayName("중지한 녹화는 다시 중지할 수 없고, 마지막 녹화 파일을 내려받을 수 있다.")
+	void stop_and_download_last_recording() throws IOException {
+		// given
+		endpoint.start("default", 60L);
+
+		// when
+		JfrRecordingRes stopped = endpoint.stop();
+
+		// then
+		assertThatThrownBy(endpoint::stop).isInstanceOf(IllegalStateException.class);
+		assertThat(stopped.state()).isEqualTo("STOPPED");
+		assertThat(stopped.maxAgeSeconds()).isEqualTo(60L);
+		assertThat(endpoint.download().contentLength()).isPositive();
+	}
+}
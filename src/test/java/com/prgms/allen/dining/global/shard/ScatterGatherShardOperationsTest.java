@@ -0,0 +1,172 @@
+package com.prgms.allen.dining.global.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class ScatterGatherShardOperationsTest {
+
+	private static final int SHARD_COUNT = 2;
+
+	private List<EmbeddedDatabase> shardDatabases;
+	private JdbcTemplate jdbcTemplate;
+	private ScatterGatherShardOperations shardOperations;
+
+	@BeforeEach
+	void setUp() {
+		shardDatabases = IntStream.range(0, SHARD_COUNT)
+			.mapToObj(ScatterGatherShardOperationsTest::createShard)
+			.toList();
+		ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDatabases);
+		routingDataSource.afterPropertiesSet();
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		shardOperations = new ScatterGatherShardOperations(
+			SHARD_COUNT,
+			new DataSourceTransactionManager(dataSource),
+			Executors.newFixedThreadPool(SHARD_COUNT)
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		shardOperations.close();
+		shardDatabases.forEach(EmbeddedDatabase::shutdown);
+	}
+
+	@Test
+	@DisplayName("모든 샤드에서 조회한 결과를 합친다.")
+	void gather_from_every_shard() {
+		// when
+		List<Long> restaurantIds = shardOperations.gather(() -> jdbcTemplate.queryForList(
+			"select restaurant_id from restaurant",
+			Long.class
+		));
+
+		// then
+		assertThat(restaurantIds).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+	}
+
+	@Test
+	@DisplayName("샤드마다 조회한 앞부분을 정렬해 합친 뒤 요청한 페이지만 잘라낸다.")
+	void gather_page_in_global_order() {
+		// when
+		List<Long> restaurantIds = shardOperations.gatherPage(
+			PageRequest.of(1, 3),
+			Comparator.naturalOrder(),
+			pageable -> jdbcTemplate.queryForList(
+				"select restaurant_id from restaurant order by restaurant_id limit ? offset ?",
+				Long.class,
+				pageable.getPageSize(),
+				pageable.getOffset()
+			)
+		);
+
+		// then
+		assertThat(restaurantIds).containsExactly(4L, 5L, 6L);
+	}
+
+	@Test
+	@DisplayName("클라이언트가 보낸 정렬은 샤드 쿼리에 넘기지 않는다.")
+	void gather_page_without_client_sort() {
+		// given
+		List<Pageable> shardPageables = new CopyOnWriteArrayList<>();
+
+		// when
+		List<Long> restaurantIds = shardOperations.gatherPage(
+			PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "restaurantId")),
+			Comparator.naturalOrder(),
+			pageable -> {
+				shardPageables.add(pageable);
+				return jdbcTemplate.queryForList(
+					"select restaurant_id from restaurant order by restaurant_id limit ?",
+					Long.class,
+					pageable.getPageSize()
+				);
+			}
+		);
+
+		// then
+		assertThat(restaurantIds).containsExactly(1L, 2L, 3L);
+		assertThat(shardPageables).hasSize(SHARD_COUNT)
+			.allSatisfy(pageable -> assertThat(pageable.getSort().isUnsorted()).isTrue());
+	}
+
+	@Test
+	@DisplayName("참조 테이블 복제는 0번 샤드를 뺀 나머지 샤드에서만 실행한다.")
+	void run_on_replica_shards() {
+		// when
+		shardOperations.runOnReplicaShards(() -> jdbcTemplate.update(
+			"insert into restaurant (restaurant_id) values (?)",
+			100L
+		));
+
+		// then
+		assertThat(shardOperations.gather(() -> jdbcTemplate.queryForList(
+			"select restaurant_id from restaurant where restaurant_id = 100",
+			Long.class
+		))).hasSize(SHARD_COUNT - 1);
+		assertThat(jdbcTemplate.queryForList(
+			"select restaurant_id from restaurant where restaurant_id = 100",
+			Long.class
+		)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("샤드 키로 정한 샤드 하나에서만 호출한 스레드로 실행한다.")
+	void run_on_shard_of_key() {
+		// given
+		Thread caller = Thread.currentThread();
+
+		// when
+		Thread executed = shardOperations.runOnShard(2L, () -> {
+			jdbcTemplate.update("insert into restaurant (restaurant_id) values (?)", 100L);
+			return Thread.currentThread();
+		});
+
+		// then
+		assertThat(executed).isSameAs(caller);
+		assertThat(new JdbcTemplate(shardDatabases.get(1)).queryForList(
+			"select restaurant_id from restaurant where restaurant_id = 100",
+			Long.class
+		)).containsExactly(100L);
+		assertThat(new JdbcTemplate(shardDatabases.get(0)).queryForList(
+			"select restaurant_id from restaurant where restaurant_id = 100",
+			Long.class
+		)).isEmpty();
+	}
+
+	// 아이디의 나머지로 샤드를 정하므로 0번 샤드에는 홀수, 1번 샤드에는 짝수 아이디만 들어간다.
+	private static EmbeddedDatabase createShard(int shard) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+			.setType(EmbeddedDatabaseType.H2)
+			.setName("shard-" + shard + "-" + UUID.randomUUID())
+			.build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("create table restaurant (restaurant_id bigint not null primary key)");
+		for (long restaurantId = shard + 1; restaurantId <= 8; restaurantId += SHARD_COUNT) {
+			jdbcTemplate.update("insert into restaurant (restaurant_id) values (?)", restaurantId);
+		}
+		return database;
+	}
+}
@@ -0,0 +1,48 @@
+package com.prgms.allen.dining.global.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+class ShardDataSourceConfigTest {
+
+	@Test
+	@DisplayName("샤드가 둘 이상인데 아이디 발급 간격을 맞출 수 없는 DB 면 시작하지 않는다.")
+	void fail_without_id_offset_support() {
+		// given
+		ShardDataSourceProperties properties = new ShardDataSourceProperties();
+		properties.setShards(IntStream.range(0, 2)
+			.mapToObj(shard -> shardProperties("jdbc:h2:mem:shard-" + shard))
+			.toList());
+
+		// when & then
+		assertThatThrownBy(() -> new ShardDataSourceConfig().shardRoutingDataSource(properties))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("샤드가 하나면 아이디 발급 간격을 맞추지 않아도 된다.")
+	void allow_single_shard_without_id_offset() {
+		// given
+		ShardDataSourceProperties properties = new ShardDataSourceProperties();
+		properties.setShards(List.of(shardProperties("jdbc:h2:mem:single-shard")));
+
+		// when
+		ShardRoutingDataSource routingDataSource = new ShardDataSourceConfig().shardRoutingDataSource(properties);
+
+		// then
+		assertThat(routingDataSource.getShardDataSources()).hasSize(1);
+		routingDataSource.close();
+	}
+
+	private static DataSourceProperties shardProperties(String url) {
+		DataSourceProperties properties = new DataSourceProperties();
+		properties.setUrl(url);
+		return properties;
+	}
+}
@@ -0,0 +1,149 @@
+package com.prgms.allen.dining.global.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class ShardRoutingAspectTest {
+
+	private static final int QUERY_MILLIS = 20;
+
+	private ShardRoutingDataSource shardRoutingDataSource;
+
+	@AfterEach
+	void tearDown() {
+		shardRoutingDataSource.close();
+	}
+
+	@Test
+	@DisplayName("식당 아이디를 샤드 수로 나눈 나머지에 해당하는 샤드에서 실행한다.")
+	void route_by_restaurant_id() {
+		// given
+		ShardProbe probe = createProbe(2);
+
+		// when
+		List<Integer> shards = LongStream.rangeClosed(1, 4)
+			.mapToObj(probe::currentShard)
+			.toList();
+
+		// then
+		assertThat(shards).containsExactly(0, 1, 0, 1);
+		assertThat(ShardContext.current()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("한 샤드에서 실행하는 중에 다른 샤드의 식당으로 넘어갈 수 없다.")
+	void fail_to_switch_shard() {
+		// given
+		ShardProbe probe = createProbe(2);
+
+		// when & then
+		assertThatThrownBy(() -> probe.currentShardThen(1L, () -> probe.currentShard(2L)))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(probe.currentShardThen(1L, () -> probe.currentShard(3L))).isZero();
+	}
+
+	@Test
+	@Tag("performance")
+	@DisplayName("샤드마다 커넥션이 하나뿐이어도 샤드를 4개로 나누면 같은 부하를 2.5배 이상 빨리 처리한다.")
+	void scale_throughput_with_shards() throws Exception {
+		// given
+		int queryCount = 80;
+		long singleShardMillis = runQueries(createProbe(1), queryCount);
+		shardRoutingDataSource.close();
+
+		// when
+		long fourShardsMillis = runQueries(createProbe(4), queryCount);
+
+		// then
+		assertThat(singleShardMillis).isGreaterThanOrEqualTo((long)queryCount * QUERY_MILLIS);
+		assertThat((double)singleShardMillis / fourShardsMillis).isGreaterThanOrEqualTo(2.5);
+	}
+
+	private long runQueries(ShardProbe probe, int queryCount) throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(16);
+		try {
+			long start = System.nanoTime();
+			List<Future<?>> futures = LongStream.rangeClosed(1, queryCount)
+				.mapToObj(restaurantId -> executorService.submit(() -> probe.query(restaurantId)))
+				.toList();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	// 샤드마다 별도의 H2 를 띄우고, 커넥션 하나짜리 풀로 한 샤드가 동시에 한 쿼리만 처리하도록 만든다.
+	private ShardProbe createProbe(int shardCount) {
+		List<HikariDataSource> shardDataSources = IntStream.range(0, shardCount)
+			.mapToObj(this::createShard)
+			.toList();
+		shardRoutingDataSource = new ShardRoutingDataSource(shardDataSources);
+		shardRoutingDataSource.afterPropertiesSet();
+
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+			new ShardProbe(new JdbcTemplate(new LazyConnectionDataSourceProxy(shardRoutingDataSource)))
+		);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(new ShardRoutingAspect(
+			new ShardResolver(shardCount),
+			List.of(new DefaultShardKeyResolver())
+		));
+		return proxyFactory.getProxy();
+	}
+
+	private HikariDataSource createShard(int shard) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl("jdbc:h2:mem:shard-" + shard + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		dataSource.setMaximumPoolSize(1);
+		dataSource.setPoolName("shard-" + shard);
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table shard_marker (shard integer not null)");
+		jdbcTemplate.update("insert into shard_marker (shard) values (?)", shard);
+		jdbcTemplate.execute("create alias sleep for 'java.lang.Thread.sleep'");
+		return dataSource;
+	}
+
+	static class ShardProbe {
+
+		private final JdbcTemplate jdbcTemplate;
+
+		ShardProbe(JdbcTemplate jdbcTemplate) {
+			this.jdbcTemplate = jdbcTemplate;
+		}
+
+		public int currentShard(@ShardKey Long restaurantId) {
+			return jdbcTemplate.queryForObject("select shard from shard_marker", Integer.class);
+		}
+
+		public int currentShardThen(@ShardKey Long restaurantId, Runnable nested) {
+			nested.run();
+			return currentShard(restaurantId);
+		}
+
+		public void query(@ShardKey Long restaurantId) {
+			jdbcTemplate.execute("call sleep(" + QUERY_MILLIS + ")");
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.prgms.allen.dining.global.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class TracingDataSourceTest {
+
+	private static final String FIND_CUSTOMER_SQL = "select name from member where member_id = ?";
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder()
+			.setType(EmbeddedDatabaseType.H2)
+			.setName("sql-trace-" + UUID.randomUUID())
+			.build();
+		JdbcTemplate setUpTemplate = new JdbcTemplate(database);
+		setUpTemplate.execute("create table member (member_id bigint not null primary key, name varchar(20))");
+		LongStream.rangeClosed(1, 10)
+			.forEach(memberId -> setUpTemplate.update(
+				"insert into member (member_id, name) values (?, ?)",
+				memberId,
+				"member" + memberId
+			));
+
+		jdbcTemplate = new JdbcTemplate(new TracingDataSource(database, Duration.ofMillis(200)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SqlTraceContext.finish();
+		database.shutdown();
+	}
+
+	@Test
+	@DisplayName("요청 안에서 실행된 문장 수를 세고, 같은 모양이 기준 이상 반복되면 N+1 의심으로 찾아낸다.")
+	void detect_repeated_statement_shapes() {
+		// given
+		SqlTraceContext.start(SqlTrace.NO_BUDGET, false);
+
+		// when
+		jdbcTemplate.queryForList("select member_id from member", Long.class)
+			.forEach(memberId -> jdbcTemplate.queryForObject(FIND_CUSTOMER_SQL, String.class, memberId));
+		jdbcTemplate.queryForObject("select name from member where member_id = 1", String.class);
+		SqlTrace trace = SqlTraceContext.finish()
+			.orElseThrow();
+
+		// then
+		assertThat(trace.getStatementCount()).isEqualTo(12);
+		assertThat(trace.findRepeatedShapes(5)).isEqualTo(Map.of(FIND_CUSTOMER_SQL, 11));
+		assertThat(SqlTraceContext.current()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("예산을 강제하면 선언한 쿼리 수를 넘는 문장에서 바로 실패한다.")
+	void fail_when_query_budget_is_exceeded() {
+		// given
+		SqlTraceContext.start(3, true);
+		LongStream.rangeClosed(1, 3)
+			.forEach(memberId -> jdbcTemplate.queryForObject(FIND_CUSTOMER_SQL, String.class, memberId));
+
+		// when & then
+		assertThatThrownBy(() -> jdbcTemplate.queryForObject(FIND_CUSTOMER_SQL, String.class, 4L))
+			.isInstanceOf(QueryBudgetExceededException.class);
+	}
+
+	@Test
+	@DisplayName("느린 문장 경고에는 바인딩 값 대신 타입만 남긴다.")
+	void log_slow_statement_without_parameter_values() {
+		// given
+		JdbcTemplate slowTemplate = new JdbcTemplate(new TracingDataSource(database, Duration.ZERO));
+		Logger logger = (Logger)LoggerFactory.getLogger(TracingDataSource.class);
+		ListAppender<ILoggingEvent> appender = new ListAppender<>();
+		appender.start();
+		logger.addAppender(appender);
+		Level level = logger.getLevel();
+		logger.setLevel(Level.WARN);
+
+		// when
+		try {
+			slowTemplate.queryForObject(FIND_CUSTOMER_SQL, String.class, 7L);
+		} finally {
+			logger.detachAppender(appender);
+			logger.setLevel(level);
+		}
+
+		// then
+		assertThat(appender.list).singleElement()
+			.extracting(ILoggingEvent::getFormattedMessage)
+			.asString()
+			.contains(FIND_CUSTOMER_SQL, "paramTypes={1=Long}")
+			.doesNotContain("=7");
+	}
+}
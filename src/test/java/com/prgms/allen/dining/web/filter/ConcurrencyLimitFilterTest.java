@@ -0,0 +1,212 @@
+package com.prgms.allen.dining.web.filter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimitFilterTest {
+
+	private static final String AVAILABLE_TIMES_PATH = "/customer/api/reservations/available-times";
+	private static final String RESERVE_PATH = "/customer/api/reservations";
+
+	private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("조회 몫의 한도가 차면 조회는 Retry-After 와 함께 503 으로 거절하고, 예약 요청은 받아들인다.")
+	void shed_reads_before_writes() throws Exception {
+		// given
+		ConcurrencyLimitFilter filter = createFilter(new AdaptiveConcurrencyLimit(
+			2, 1, 2, Duration.ofSeconds(1), 0.9
+		), 0.5);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+		executorService.submit(() -> {
+			filter.doFilter(request("GET", AVAILABLE_TIMES_PATH), new MockHttpServletResponse(), (req, res) -> {
+				started.countDown();
+				await(finish);
+			});
+			return null;
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		MockHttpServletResponse readResponse = new MockHttpServletResponse();
+		filter.doFilter(request("GET", AVAILABLE_TIMES_PATH), readResponse, (req, res) -> {
+		});
+		MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+		filter.doFilter(request("POST", RESERVE_PATH), writeResponse, (req, res) -> {
+		});
+		finish.countDown();
+
+		// then
+		assertThat(readResponse.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+		assertThat(readResponse.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(writeResponse.getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	@Test
+	@DisplayName("목표 지연을 넘기면 한도를 줄이고, 목표 안에서 한도를 채워 쓰면 다시 늘린다.")
+	void adapt_limit_to_latency() {
+		// given
+		AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(
+			20, 4, 40, Duration.ofMillis(100), 0.5
+		);
+
+		// when
+		concurrencyLimit.onSample(0, millisToNanos(150), 20);
+		int shrunk = concurrencyLimit.getLimit();
+		concurrencyLimit.onSample(millisToNanos(150), millisToNanos(200), 10);
+		int grown = concurrencyLimit.getLimit();
+		concurrencyLimit.onSample(millisToNanos(200), millisToNanos(250), 1);
+
+		// then
+		assertThat(shrunk).isEqualTo(10);
+		assertThat(grown).isEqualTo(11);
+		assertThat(concurrencyLimit.getLimit()).isEqualTo(11);
+	}
+
+	@Test
+	@DisplayName("목표 지연 안에 이어 들어온 느린 응답으로는 한도를 한 번만 줄이고, 목표 지연이 지나면 다시 줄인다.")
+	void decrease_limit_once_per_latency_window() {
+		// given
+		AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(
+			20, 4, 40, Duration.ofMillis(100), 0.5
+		);
+
+		// when
+		concurrencyLimit.onSample(0, millisToNanos(150), 20);
+		concurrencyLimit.onSample(millisToNanos(10), millisToNanos(160), 20);
+		concurrencyLimit.onSample(millisToNanos(20), millisToNanos(240), 20);
+		int shrunkOnce = concurrencyLimit.getLimit();
+		concurrencyLimit.onSample(millisToNanos(100), millisToNanos(250), 20);
+
+		// then
+		assertThat(shrunkOnce).isEqualTo(10);
+		assertThat(concurrencyLimit.getLimit()).isEqualTo(5);
+	}
+
+	@Test
+	@Tag("performance")
+	@DisplayName("처리 용량을 넘는 부하에서도 받아들인 요청의 p99 지연은 한도가 없을 때보다 절반 이하로 유지된다.")
+	void keep_tail_latency_past_saturation() throws Exception {
+		// given
+		int workers = 4;
+		long serviceMillis = 5;
+		int clients = 64;
+		int requestsPerClient = 10;
+		Semaphore backend = new Semaphore(workers, true);
+		FilterChain saturatedBackend = (req, res) -> {
+			backend.acquireUninterruptibly();
+			try {
+				Thread.sleep(serviceMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				backend.release();
+			}
+		};
+		ConcurrencyLimitFilter filter = createFilter(new AdaptiveConcurrencyLimit(
+			8, 1, 200, Duration.ofMillis(serviceMillis * 4), 0.9
+		), 0.8);
+
+		// when
+		long unlimitedP99 = runLoad(clients, requestsPerClient, saturatedBackend::doFilter);
+		long limitedP99 = runLoad(clients, requestsPerClient, (req, res) -> filter.doFilter(req, res, saturatedBackend));
+
+		// then
+		assertThat(unlimitedP99).isGreaterThan(serviceMillis * clients / workers / 2);
+		assertThat(limitedP99).isLessThanOrEqualTo(unlimitedP99 / 2);
+	}
+
+	// 각 클라이언트는 거절되면 잠시 쉬었다가, 정해진 수만큼 받아들여질 때까지 다시 보낸다.
+	private long runLoad(int clients, int requestsPerClient, Call call) throws Exception {
+		List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+		List<Future<?>> futures = new ArrayList<>();
+		for (int client = 0; client < clients; client++) {
+			futures.add(executorService.submit(() -> {
+				int admitted = 0;
+				while (admitted < requestsPerClient) {
+					MockHttpServletResponse response = new MockHttpServletResponse();
+					long startNanos = System.nanoTime();
+					call.execute(request("GET", AVAILABLE_TIMES_PATH), response);
+					if (response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+						Thread.sleep(5);
+						continue;
+					}
+					latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+					admitted++;
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+
+		List<Long> sorted = latencies.stream()
+			.sorted()
+			.toList();
+		return sorted.get((int)Math.ceil(sorted.size() * 0.99) - 1);
+	}
+
+	private static long millisToNanos(long millis) {
+		return Duration.ofMillis(millis).toNanos();
+	}
+
+	private ConcurrencyLimitFilter createFilter(AdaptiveConcurrencyLimit concurrencyLimit, double readShare) {
+		return new ConcurrencyLimitFilter(
+			concurrencyLimit,
+			readShare,
+			1,
+			new ObjectMapper(),
+			new SimpleMeterRegistry()
+		);
+	}
+
+	private static MockHttpServletRequest request(String method, String path) {
+		return new MockHttpServletRequest(method, path);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@FunctionalInterface
+	private interface Call {
+
+		void execute(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception;
+	}
+}
@@ -0,0 +1,127 @@
+package com.prgms.allen.dining.web.filter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.servlet.ServletException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgms.allen.dining.domain.common.FakeClock;
+
+class RateLimitFilterTest {
+
+	private static final String AVAILABLE_DATES_PATH = "/customer/api/reservations/available-dates";
+	private static final RateLimitBudget AVAILABLE_DATES_BUDGET = new RateLimitBudget(
+		"available-dates",
+		List.of(AVAILABLE_DATES_PATH),
+		3,
+		1
+	);
+
+	private final FakeClock clock = new FakeClock();
+	private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(4, 100, clock);
+	private final RateLimitFilter rateLimitFilter = new RateLimitFilter(
+		List.of(AVAILABLE_DATES_BUDGET),
+		rateLimiter,
+		new ObjectMapper()
+	);
+
+	@Test
+	@DisplayName("예산을 다 쓴 클라이언트는 남은 예산과 함께 429 를 받고, 다른 클라이언트는 영향을 받지 않는다.")
+	void reject_when_budget_is_exhausted() throws ServletException, IOException {
+		// given
+		for (int i = 0; i < AVAILABLE_DATES_BUDGET.capacity(); i++) {
+			assertThat(call("10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+		}
+
+		// when
+		MockHttpServletResponse rejected = call("10.0.0.1");
+		MockHttpServletResponse otherClient = call("10.0.0.2");
+
+		// then
+		assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(rejected.getHeader(RateLimitFilter.RATE_LIMIT_LIMIT_HEADER)).isEqualTo("3");
+		assertThat(rejected.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING_HEADER)).isEqualTo("0");
+		assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(otherClient.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(otherClient.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING_HEADER)).isEqualTo("2");
+	}
+
+	@Test
+	@DisplayName("시간이 지나면 초당 충전량만큼 예산이 다시 찬다.")
+	void refill_budget_over_time() throws ServletException, IOException {
+		// given
+		for (int i = 0; i < AVAILABLE_DATES_BUDGET.capacity(); i++) {
+			call("10.0.0.1");
+		}
+
+		// when
+		clock.advance(Duration.ofSeconds(1));
+		MockHttpServletResponse refilled = call("10.0.0.1");
+		MockHttpServletResponse exhausted = call("10.0.0.1");
+
+		// then
+		assertThat(refilled.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(exhausted.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	@Test
+	@DisplayName("버킷 수가 상한에 닿으면 새 키는 거절하고, 가득 찰 만큼 쓰이지 않은 버킷이 생기면 지우고 받아들인다.")
+	void bound_bucket_count() {
+		// given
+		TokenBucketRateLimiter boundedLimiter = new TokenBucketRateLimiter(1, 2, clock);
+		boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.1");
+		boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.2");
+		RateLimitResult overflow = boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.3");
+		int boundedSize = boundedLimiter.size();
+
+		// when
+		clock.advance(Duration.ofSeconds(AVAILABLE_DATES_BUDGET.capacity()));
+		RateLimitResult admitted = boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.4");
+
+		// then
+		assertThat(overflow.allowed()).isFalse();
+		assertThat(boundedSize).isEqualTo(2);
+		assertThat(admitted.allowed()).isTrue();
+		assertThat(boundedLimiter.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("버킷 수가 상한에 닿아도 예산을 다 쓴 버킷은 지우지 않아서, 새 키가 몰려도 한도가 풀리지 않는다.")
+	void keep_drained_bucket_on_overflow() {
+		// given
+		TokenBucketRateLimiter boundedLimiter = new TokenBucketRateLimiter(1, 2, clock);
+		for (int i = 0; i < AVAILABLE_DATES_BUDGET.capacity(); i++) {
+			boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.1");
+		}
+		boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.2");
+
+		// when
+		boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.3");
+		boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.4");
+		RateLimitResult drained = boundedLimiter.tryConsume(AVAILABLE_DATES_BUDGET, "ip:10.0.0.1");
+
+		// then
+		assertThat(drained.allowed()).isFalse();
+		assertThat(boundedLimiter.size()).isEqualTo(2);
+	}
+
+	private MockHttpServletResponse call(String remoteAddr) throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", AVAILABLE_DATES_PATH);
+		request.setRemoteAddr(remoteAddr);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		rateLimitFilter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
@@ -0,0 +1,105 @@
+package com.prgms.allen.dining.web.interceptor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import javax.servlet.http.Cookie;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import com.prgms.allen.dining.domain.common.FakeClock;
+import com.prgms.allen.dining.global.datasource.ReadYourWrites;
+import com.prgms.allen.dining.global.datasource.ReadYourWritesContext;
+
+class ReadYourWritesInterceptorTest {
+
+	private static final Duration WINDOW = Duration.ofSeconds(5);
+
+	private final FakeClock clock = new FakeClock();
+	private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(WINDOW, clock);
+
+	@AfterEach
+	void tearDown() {
+		ReadYourWritesContext.clear();
+	}
+
+	@Test
+	@DisplayName("쓰기 요청에는 복제 지연 허용치 뒤에 만료되는 쿠키를 내려준다.")
+	void add_cookie_on_write() throws NoSuchMethodException {
+		// given
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		interceptor.preHandle(new MockHttpServletRequest(), response, handler("write"));
+
+		// then
+		Cookie cookie = response.getCookie(ReadYourWritesInterceptor.READ_PRIMARY_UNTIL_COOKIE);
+		assertThat(cookie).isNotNull();
+		assertThat(cookie.getValue()).isEqualTo(String.valueOf(clock.millis() + WINDOW.toMillis()));
+		assertThat(cookie.getMaxAge()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("쿠키가 만료되기 전의 요청만 원본에서 읽고, 요청이 끝나면 표시를 지운다.")
+	void pin_to_primary_until_cookie_expires() throws NoSuchMethodException {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.setCookies(new Cookie(
+			ReadYourWritesInterceptor.READ_PRIMARY_UNTIL_COOKIE,
+			String.valueOf(clock.millis() + WINDOW.toMillis())
+		));
+
+		// when
+		interceptor.preHandle(request, response, handler("read"));
+		boolean pinnedBeforeExpiry = ReadYourWritesContext.isPinnedToPrimary();
+		interceptor.afterCompletion(request, response, handler("read"), null);
+		boolean pinnedAfterCompletion = ReadYourWritesContext.isPinnedToPrimary();
+
+		clock.advance(WINDOW);
+		interceptor.preHandle(request, response, handler("read"));
+		boolean pinnedAfterExpiry = ReadYourWritesContext.isPinnedToPrimary();
+
+		// then
+		assertThat(pinnedBeforeExpiry).isTrue();
+		assertThat(pinnedAfterCompletion).isFalse();
+		assertThat(pinnedAfterExpiry).isFalse();
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지금부터 복제 지연 허용치를 넘는 쿠키는 무시하고 복제본에서 읽는다.")
+	void ignore_cookie_beyond_window() throws NoSuchMethodException {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie(
+			ReadYourWritesInterceptor.READ_PRIMARY_UNTIL_COOKIE,
+			String.valueOf(clock.millis() + WINDOW.toMillis() + 1)
+		));
+
+		// when
+		interceptor.preHandle(request, new MockHttpServletResponse(), handler("read"));
+
+		// then
+		assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+	}
+
+	private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+		return new HandlerMethod(new SampleApi(), SampleApi.class.getMethod(methodName));
+	}
+
+	static class SampleApi {
+
+		@ReadYourWrites
+		public void write() {
+		}
+
+		public void read() {
+		}
+	}
+}